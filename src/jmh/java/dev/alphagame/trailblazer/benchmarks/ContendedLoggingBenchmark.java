@@ -0,0 +1,80 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.benchmarks;
+
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.LoggerConfiguration;
+import dev.alphagame.trailblazer.TBLogger;
+import dev.alphagame.trailblazer.async.AsyncLogDispatcher;
+import dev.alphagame.trailblazer.formatters.SimpleFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Several threads logging through one shared logger, synchronously and through the async dispatcher.
+ * Use {@code -t} on the JMH command line to try other thread counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContendedLoggingBenchmark {
+    @Param({ "sync", "async" })
+    public String dispatch;
+
+    private TBLogger logger;
+    private AsyncLogDispatcher dispatcher;
+
+    @Setup
+    public void setUp() {
+        SimpleFormatter formatter = new SimpleFormatter(new PrintStream(new DiscardingOutputStream(), false));
+        formatter.setGarbageFree(true);
+        dispatcher = "async".equals(dispatch) ? new AsyncLogDispatcher(AsyncLogDispatcher.DEFAULT_BUFFER_SIZE) : null;
+        logger = new TBLogger("bench.ContendedLoggingBenchmark",
+                new LoggerConfiguration(LogLevel.INFO, formatter, dispatcher));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void threads1() {
+        logger.info("Processed batch {}", 17L);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void threads2() {
+        logger.info("Processed batch {}", 17L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void threads4() {
+        logger.info("Processed batch {}", 17L);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void threads8() {
+        logger.info("Processed batch {}", 17L);
+    }
+}
@@ -0,0 +1,61 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.benchmarks;
+
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.TBLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a DEBUG statement while the logger is at INFO, for each call shape.
+ * All of these should be close to an empty method and allocate nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DisabledLevelBenchmark {
+    private final TBLogger logger = new TBLogger("bench.DisabledLevelBenchmark", LogLevel.INFO);
+    private long counter = 1_000_000;
+
+    @Benchmark
+    public void noArgs() {
+        logger.debug("Cache miss");
+    }
+
+    @Benchmark
+    public void varargs() {
+        logger.debug("Cache miss for {} in {} after {}", "key", "region", counter++, "extra");
+    }
+
+    @Benchmark
+    public void fixedArity() {
+        logger.debug("Cache miss for {} in {}", "key", "region");
+    }
+
+    @Benchmark
+    public void primitive() {
+        logger.debug("Cache size {}", counter++);
+    }
+
+    @Benchmark
+    public void supplier() {
+        logger.debug(() -> "Cache size " + counter);
+    }
+
+    @Benchmark
+    public void guarded() {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Cache size {}", counter);
+        }
+    }
+}
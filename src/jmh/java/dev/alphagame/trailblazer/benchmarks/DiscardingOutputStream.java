@@ -0,0 +1,30 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.benchmarks;
+
+import java.io.OutputStream;
+
+/**
+ * An output stream that drops what is written to it, so formatting can be measured without I/O.
+ * It keeps a byte count, so the JIT cannot treat the writes as dead code.
+ */
+final class DiscardingOutputStream extends OutputStream {
+    private long count;
+
+    @Override
+    public void write(int b) {
+        count++;
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length) {
+        count += length;
+    }
+
+    long getCount() {
+        return count;
+    }
+}
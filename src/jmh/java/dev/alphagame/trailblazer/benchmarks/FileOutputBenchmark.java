@@ -0,0 +1,75 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.benchmarks;
+
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.TBLogger;
+import dev.alphagame.trailblazer.utils.FileLoggerUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging to a file through the loggers created by {@link FileLoggerUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileOutputBenchmark {
+    @Param({ "simple", "json", "rotating", "mapped" })
+    public String kind;
+
+    private File directory;
+    private TBLogger logger;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("trailblazer-bench").toFile();
+        String path = new File(directory, "bench.log").getPath();
+        switch (kind) {
+            case "json":
+                logger = FileLoggerUtils.createJSONFileLogger("bench.FileOutputBenchmark", path, LogLevel.INFO);
+                break;
+            case "rotating":
+                logger = FileLoggerUtils.createRotatingFileLogger("bench.FileOutputBenchmark", path,
+                        LogLevel.INFO, 64L * 1024 * 1024, 2, false);
+                break;
+            case "mapped":
+                logger = FileLoggerUtils.createMappedFileLogger("bench.FileOutputBenchmark", path, LogLevel.INFO);
+                break;
+            default:
+                logger = FileLoggerUtils.createFileLogger("bench.FileOutputBenchmark", path, LogLevel.INFO);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        logger.getConfiguration().formatter.getOutputStream().close();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public void logLine() {
+        logger.info("Order {} shipped to {}", 1234567L, "warehouse-7");
+    }
+}
@@ -0,0 +1,74 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.benchmarks;
+
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.LoggerConfiguration;
+import dev.alphagame.trailblazer.TBLogger;
+import dev.alphagame.trailblazer.formatters.AbstractFormatter;
+import dev.alphagame.trailblazer.formatters.ColumnedFormatter;
+import dev.alphagame.trailblazer.formatters.JSONFormatter;
+import dev.alphagame.trailblazer.formatters.SimpleFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of formatting one enabled message with each formatter, without I/O.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FormatterBenchmark {
+    @Param({ "simple", "json", "columned" })
+    public String formatter;
+
+    @Param({ "false", "true" })
+    public boolean garbageFree;
+
+    private TBLogger logger;
+
+    @Setup
+    public void setUp() {
+        PrintStream out = new PrintStream(new DiscardingOutputStream(), false);
+        AbstractFormatter selected;
+        switch (formatter) {
+            case "json":
+                selected = new JSONFormatter(out);
+                break;
+            case "columned":
+                selected = new ColumnedFormatter(out);
+                break;
+            default:
+                selected = new SimpleFormatter(out);
+        }
+        selected.setGarbageFree(garbageFree);
+        logger = new TBLogger("bench.FormatterBenchmark", new LoggerConfiguration(LogLevel.INFO, selected));
+    }
+
+    @Benchmark
+    public void plainMessage() {
+        logger.info("Request handled");
+    }
+
+    @Benchmark
+    public void placeholderMessage() {
+        logger.info("Handled request {} for user {} in {} ms", 42, "alice", 7L);
+    }
+
+    @Benchmark
+    public void printfMessage() {
+        logger.info("Handled request %d for user %s in %d ms", 42, "alice", 7L);
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.benchmarks;
+
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.LoggerFactory;
+import dev.alphagame.trailblazer.TBLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of looking up an existing logger, as done by code that doesn't keep loggers in static fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggerFactoryBenchmark {
+    private static final String NAME = "com.example.shop.payments.CardService";
+
+    @Setup
+    public void setUp() {
+        // Enough other loggers that lookups don't hit a trivially small table
+        for (int i = 0; i < 1000; i++) {
+            LoggerFactory.getLogger("com.example.generated" + (i % 10) + ".Service" + i);
+        }
+        LoggerFactory.getLogger(NAME);
+        LoggerFactory.getLogger(NAME, LogLevel.DEBUG);
+        LoggerFactory.getLogger(LoggerFactoryBenchmark.class);
+    }
+
+    @Benchmark
+    public TBLogger byName() {
+        return LoggerFactory.getLogger(NAME);
+    }
+
+    @Benchmark
+    public TBLogger byNameAndLevel() {
+        return LoggerFactory.getLogger(NAME, LogLevel.DEBUG);
+    }
+
+    @Benchmark
+    public TBLogger byClass() {
+        return LoggerFactory.getLogger(LoggerFactoryBenchmark.class);
+    }
+}
@@ -0,0 +1,282 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer;
+
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+import java.util.Arrays;
+
+/**
+ * The typed key-value fields of a structured log event, added with {@link LogEventBuilder}.
+ * Numbers and booleans are kept in primitive arrays, so they are never boxed, and the arrays
+ * are reused from event to event.
+ */
+public final class KeyValues {
+    /**
+     * The type of a field holding a long.
+     */
+    public static final byte LONG = 1;
+
+    /**
+     * The type of a field holding a double.
+     */
+    public static final byte DOUBLE = 2;
+
+    /**
+     * The type of a field holding a boolean.
+     */
+    public static final byte BOOLEAN = 3;
+
+    /**
+     * The type of a field holding an object, rendered with {@code toString()}.
+     */
+    public static final byte OBJECT = 4;
+
+    private String[] keys = new String[8];
+    private byte[] types = new byte[8];
+    private long[] longs = new long[8];
+    private double[] doubles = new double[8];
+    private Object[] objects = new Object[8];
+    private int size;
+
+    /**
+     * Gets the number of fields.
+     *
+     * @return The size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether there are no fields.
+     *
+     * @return true if there are no fields.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the key of a field.
+     *
+     * @param index The index of the field, in the order it was added.
+     * @return The key.
+     */
+    public String getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Gets the type of a field.
+     *
+     * @param index The index of the field.
+     * @return One of {@link #LONG}, {@link #DOUBLE}, {@link #BOOLEAN} and {@link #OBJECT}.
+     */
+    public byte getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Gets the value of a {@link #LONG} field.
+     *
+     * @param index The index of the field.
+     * @return The value.
+     */
+    public long getLong(int index) {
+        return longs[index];
+    }
+
+    /**
+     * Gets the value of a {@link #DOUBLE} field.
+     *
+     * @param index The index of the field.
+     * @return The value.
+     */
+    public double getDouble(int index) {
+        return doubles[index];
+    }
+
+    /**
+     * Gets the value of a {@link #BOOLEAN} field.
+     *
+     * @param index The index of the field.
+     * @return The value.
+     */
+    public boolean getBoolean(int index) {
+        return longs[index] != 0;
+    }
+
+    /**
+     * Gets the value of an {@link #OBJECT} field.
+     *
+     * @param index The index of the field.
+     * @return The value.
+     */
+    public Object getObject(int index) {
+        return objects[index];
+    }
+
+    /**
+     * Adds a {@link #LONG} field.
+     *
+     * @param key   The key.
+     * @param value The value.
+     */
+    public void add(String key, long value) {
+        int i = next(key, LONG);
+        longs[i] = value;
+    }
+
+    /**
+     * Adds a {@link #DOUBLE} field.
+     *
+     * @param key   The key.
+     * @param value The value.
+     */
+    public void add(String key, double value) {
+        int i = next(key, DOUBLE);
+        doubles[i] = value;
+    }
+
+    /**
+     * Adds a {@link #BOOLEAN} field.
+     *
+     * @param key   The key.
+     * @param value The value.
+     */
+    public void add(String key, boolean value) {
+        int i = next(key, BOOLEAN);
+        longs[i] = value ? 1 : 0;
+    }
+
+    /**
+     * Adds an {@link #OBJECT} field.
+     *
+     * @param key   The key.
+     * @param value The value.
+     */
+    public void add(String key, Object value) {
+        int i = next(key, OBJECT);
+        objects[i] = value;
+    }
+
+    /**
+     * Replaces the fields with a copy of other fields, reusing the arrays.
+     *
+     * @param source The fields to copy.
+     */
+    public void copyFrom(KeyValues source) {
+        clear();
+        ensureCapacity(source.size);
+        System.arraycopy(source.keys, 0, keys, 0, source.size);
+        System.arraycopy(source.types, 0, types, 0, source.size);
+        System.arraycopy(source.longs, 0, longs, 0, source.size);
+        System.arraycopy(source.doubles, 0, doubles, 0, source.size);
+        System.arraycopy(source.objects, 0, objects, 0, source.size);
+        size = source.size;
+    }
+
+    /**
+     * Replaces object values other than strings with their {@code toString()}, so that
+     * changes made to the objects later do not show when the fields are formatted.
+     */
+    public void snapshotObjects() {
+        for (int i = 0; i < size; i++) {
+            if (types[i] == OBJECT && objects[i] != null && !(objects[i] instanceof String)) {
+                objects[i] = String.valueOf(objects[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes all fields and drops the references to their keys and values.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Appends the fields as {@code key=value key=value} in UTF-8.
+     *
+     * @param out The buffer to append to.
+     */
+    public void appendTo(Utf8Buffer out) {
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                out.append((byte) ' ');
+            }
+            out.append(keys[i]).append((byte) '=');
+            switch (types[i]) {
+                case LONG:
+                    out.appendDecimal(longs[i]);
+                    break;
+                case DOUBLE:
+                    out.append(Double.toString(doubles[i]));
+                    break;
+                case BOOLEAN:
+                    out.append(longs[i] != 0 ? "true" : "false");
+                    break;
+                default:
+                    out.append(String.valueOf(objects[i]));
+            }
+        }
+    }
+
+    /**
+     * Gets the value of a field as text.
+     *
+     * @param index The index of the field.
+     * @return The value as it is rendered by the text formatters.
+     */
+    public String getValueAsString(int index) {
+        switch (types[index]) {
+            case LONG:
+                return Long.toString(longs[index]);
+            case DOUBLE:
+                return Double.toString(doubles[index]);
+            case BOOLEAN:
+                return Boolean.toString(longs[index] != 0);
+            default:
+                return String.valueOf(objects[index]);
+        }
+    }
+
+    /**
+     * Formats the fields as {@code key=value key=value}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(keys[i]).append('=').append(getValueAsString(i));
+        }
+        return sb.toString();
+    }
+
+    private int next(String key, byte type) {
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        types[size] = type;
+        return size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int newLength = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, newLength);
+            types = Arrays.copyOf(types, newLength);
+            longs = Arrays.copyOf(longs, newLength);
+            doubles = Arrays.copyOf(doubles, newLength);
+            objects = Arrays.copyOf(objects, newLength);
+        }
+    }
+}
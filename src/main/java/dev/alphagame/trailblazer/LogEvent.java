@@ -0,0 +1,209 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer;
+
+import dev.alphagame.trailblazer.context.ContextMap;
+
+/**
+ * A single log event as seen by a formatter.
+ * Instances are mutable and reused, so formatters must not keep a reference
+ * to an event (or its arguments) after the formatting call returns.
+ */
+public class LogEvent {
+    private LogLevel level;
+    private String loggerName;
+    private byte[] encodedLoggerName;
+    private String message;
+    private Object[] args;
+    private long timestamp;
+    private ContextMap context = ContextMap.EMPTY;
+    private KeyValues keyValues;
+    private KeyValues ownKeyValues;
+    private Throwable thrown;
+    boolean inUse;
+
+    /**
+     * Fills this event with new values.
+     *
+     * @param level      The log level.
+     * @param loggerName The name of the logger.
+     * @param message    The log message.
+     * @param args       The arguments to format the message with, or null if the message is not a format string.
+     * @param timestamp  The time of the event in milliseconds since the epoch.
+     */
+    public void set(LogLevel level, String loggerName, String message, Object[] args, long timestamp) {
+        set(level, loggerName, null, message, args, timestamp);
+    }
+
+    /**
+     * Fills this event with new values, including the logger name already encoded as UTF-8.
+     *
+     * @param level             The log level.
+     * @param loggerName        The name of the logger.
+     * @param encodedLoggerName The logger name encoded as UTF-8, or null if not available.
+     * @param message           The log message.
+     * @param args              The arguments to format the message with, or null if the message is not a format string.
+     * @param timestamp         The time of the event in milliseconds since the epoch.
+     */
+    public void set(LogLevel level, String loggerName, byte[] encodedLoggerName, String message, Object[] args,
+            long timestamp) {
+        this.level = level;
+        this.loggerName = loggerName;
+        this.encodedLoggerName = encodedLoggerName;
+        this.message = message;
+        this.args = args;
+        this.timestamp = timestamp;
+        this.context = ContextMap.EMPTY;
+        this.keyValues = null;
+        this.thrown = null;
+    }
+
+    /**
+     * Attaches a throwable to this event, whose stack trace formatters print after the message.
+     * Call after {@link #set}, which clears it.
+     *
+     * @param thrown The throwable, or null for none.
+     */
+    public void setThrown(Throwable thrown) {
+        this.thrown = thrown;
+    }
+
+    /**
+     * Gets the throwable attached to this event.
+     *
+     * @return The throwable, or null if none was logged.
+     */
+    public Throwable getThrown() {
+        return thrown;
+    }
+
+    /**
+     * Attaches a diagnostic context to this event. Call after {@link #set}, which clears it.
+     *
+     * @param context The context of the thread that logged the event.
+     */
+    public void setContext(ContextMap context) {
+        this.context = context != null ? context : ContextMap.EMPTY;
+    }
+
+    /**
+     * Attaches key-value fields to this event without copying them, for events that are
+     * formatted before the fields change. Call after {@link #set}, which clears them.
+     *
+     * @param keyValues The fields, or null for none.
+     */
+    public void setKeyValues(KeyValues keyValues) {
+        this.keyValues = keyValues;
+    }
+
+    /**
+     * Attaches a copy of key-value fields to this event, for events that are formatted later.
+     * The copy reuses storage owned by this event.
+     *
+     * @param keyValues The fields, or null for none.
+     */
+    public void copyKeyValues(KeyValues keyValues) {
+        if (keyValues == null || keyValues.isEmpty()) {
+            this.keyValues = null;
+            return;
+        }
+        if (ownKeyValues == null) {
+            ownKeyValues = new KeyValues();
+        }
+        ownKeyValues.copyFrom(keyValues);
+        this.keyValues = ownKeyValues;
+    }
+
+    /**
+     * Drops all references held by this event so that it doesn't keep arguments alive.
+     */
+    public void clear() {
+        this.level = null;
+        this.loggerName = null;
+        this.encodedLoggerName = null;
+        this.message = null;
+        this.args = null;
+        this.context = ContextMap.EMPTY;
+        this.keyValues = null;
+        this.thrown = null;
+        if (ownKeyValues != null) {
+            ownKeyValues.clear();
+        }
+    }
+
+    /**
+     * Gets the log level of this event.
+     *
+     * @return The log level.
+     */
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the name of the logger that created this event.
+     *
+     * @return The logger name.
+     */
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    /**
+     * Gets the name of the logger encoded as UTF-8.
+     * The returned array is shared and must not be modified.
+     *
+     * @return The encoded logger name, or null if the producer didn't provide one.
+     */
+    public byte[] getEncodedLoggerName() {
+        return encodedLoggerName;
+    }
+
+    /**
+     * Gets the raw log message.
+     *
+     * @return The message, possibly a format string.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the arguments for the message.
+     *
+     * @return The arguments, or null if the message should be used as is.
+     */
+    public Object[] getArgs() {
+        return args;
+    }
+
+    /**
+     * Gets the time at which the event was logged.
+     *
+     * @return The timestamp in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the diagnostic context of the thread that logged the event.
+     *
+     * @return The context, empty if there is none.
+     */
+    public ContextMap getContext() {
+        return context;
+    }
+
+    /**
+     * Gets the key-value fields added with {@link LogEventBuilder}.
+     *
+     * @return The fields, or null if the event has none.
+     */
+    public KeyValues getKeyValues() {
+        return keyValues;
+    }
+}
@@ -0,0 +1,92 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer;
+
+import java.util.function.Supplier;
+
+/**
+ * Builds a structured log event with typed key-value fields:
+ * <pre>
+ * logger.atInfo().kv("orderId", orderId).kv("latencyMs", elapsed).log("Order placed");
+ * </pre>
+ * When the level is disabled, the builder is a shared instance that ignores everything, so
+ * the call costs a level check and nothing is boxed or allocated. Otherwise it is reused by
+ * the thread, so every chain must end with one of the {@code log} methods.
+ * <p>
+ * {@link dev.alphagame.trailblazer.formatters.JSONFormatter} writes the fields as typed JSON
+ * fields, and the text formatters append them as {@code key=value}.
+ */
+public interface LogEventBuilder {
+    /**
+     * Adds a field with an integer value.
+     *
+     * @param key   The field name.
+     * @param value The value.
+     * @return This builder.
+     */
+    LogEventBuilder kv(String key, long value);
+
+    /**
+     * Adds a field with a floating-point value.
+     *
+     * @param key   The field name.
+     * @param value The value.
+     * @return This builder.
+     */
+    LogEventBuilder kv(String key, double value);
+
+    /**
+     * Adds a field with a boolean value.
+     *
+     * @param key   The field name.
+     * @param value The value.
+     * @return This builder.
+     */
+    LogEventBuilder kv(String key, boolean value);
+
+    /**
+     * Adds a field with a string value.
+     *
+     * @param key   The field name.
+     * @param value The value.
+     * @return This builder.
+     */
+    LogEventBuilder kv(String key, String value);
+
+    /**
+     * Adds a field with any value, rendered with {@code toString()} unless it is a number or boolean.
+     *
+     * @param key   The field name.
+     * @param value The value.
+     * @return This builder.
+     */
+    LogEventBuilder kv(String key, Object value);
+
+    /**
+     * Adds a field whose value is only computed if the event is logged. If the supplier throws,
+     * the exception propagates and the event is discarded.
+     *
+     * @param key           The field name.
+     * @param valueSupplier Supplies the value.
+     * @return This builder.
+     */
+    LogEventBuilder kv(String key, Supplier<?> valueSupplier);
+
+    /**
+     * Logs the event.
+     *
+     * @param message The message.
+     */
+    void log(String message);
+
+    /**
+     * Logs the event with a message template and arguments.
+     *
+     * @param message The message template.
+     * @param args    The arguments to format the message with.
+     */
+    void log(String message, Object... args);
+}
@@ -5,6 +5,8 @@
 
 package dev.alphagame.trailblazer;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Enumeration of log levels.
  */
@@ -16,9 +18,11 @@ public enum LogLevel {
     FATAL(4);
 
     private final int level;
+    private final byte[] encodedName;
 
     LogLevel(int level) {
         this.level = level;
+        this.encodedName = name().getBytes(StandardCharsets.UTF_8);
     }
 
     /**
@@ -29,4 +33,14 @@ public enum LogLevel {
     public int getLevel() {
         return level;
     }
+
+    /**
+     * Gets the name of this log level encoded as UTF-8.
+     * The returned array is shared and must not be modified.
+     *
+     * @return The encoded name.
+     */
+    public byte[] getEncodedName() {
+        return encodedName;
+    }
 }
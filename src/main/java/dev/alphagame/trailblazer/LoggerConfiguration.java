@@ -5,12 +5,19 @@
 
 package dev.alphagame.trailblazer;
 
+import dev.alphagame.trailblazer.async.AsyncLogDispatcher;
+import dev.alphagame.trailblazer.filters.FilterChain;
 import dev.alphagame.trailblazer.formatters.AbstractFormatter;
 import dev.alphagame.trailblazer.formatters.SimpleFormatter;
+import dev.alphagame.trailblazer.limits.LogLimiter;
+import dev.alphagame.trailblazer.recorder.FlightRecorder;
 
 public class LoggerConfiguration {
     /**
-     * The log level for the logger.
+     * The log level for the logger. It is read when a logger is created with or given this
+     * configuration, so changing it afterwards does not affect existing loggers; use
+     * {@link LoggerFactory#setLevel(String, LogLevel)} or
+     * {@link LoggerFactory#applyConfiguration(dev.alphagame.trailblazer.config.ConfigurationSnapshot)} instead.
      */
     public LogLevel logLevel;
 
@@ -18,6 +25,27 @@ public class LoggerConfiguration {
      * The formatter used to format log messages.
      */
     public AbstractFormatter formatter;
+
+    /**
+     * The dispatcher that formats messages on a background thread,
+     * or null to format on the logging thread.
+     */
+    public AsyncLogDispatcher asyncDispatcher;
+
+    /**
+     * The filters asked about each message before it is formatted, or null to log every enabled message.
+     */
+    public FilterChain filters;
+
+    /**
+     * The rate limit or sampling applied before messages are formatted, or null to log every message.
+     */
+    public LogLimiter limiter;
+
+    /**
+     * The buffer keeping recent events below the log level for a later dump, or null to drop them.
+     */
+    public FlightRecorder flightRecorder;
     
     /**
      * Creates a new LoggerConfiguration with default values.
@@ -37,4 +65,17 @@ public class LoggerConfiguration {
         this.logLevel = logLevel;
         this.formatter = formatter;
     }
+
+    /**
+     * Creates a new LoggerConfiguration that formats messages on a background thread.
+     * 
+     * @param logLevel The log level for the logger.
+     * @param formatter The formatter used to format log messages.
+     * @param asyncDispatcher The dispatcher to queue messages on, or null to log synchronously.
+     */
+    public LoggerConfiguration(LogLevel logLevel, AbstractFormatter formatter, AsyncLogDispatcher asyncDispatcher) {
+        this.logLevel = logLevel;
+        this.formatter = formatter;
+        this.asyncDispatcher = asyncDispatcher;
+    }
 }
\ No newline at end of file
@@ -5,54 +5,101 @@
 
 package dev.alphagame.trailblazer;
 
+import dev.alphagame.trailblazer.config.ConfigurationSnapshot;
+import dev.alphagame.trailblazer.config.ConfigurationWatcher;
 import dev.alphagame.trailblazer.formatters.SimpleFormatter;
 import dev.alphagame.trailblazer.formatters.JSONFormatter;
 import dev.alphagame.trailblazer.formatters.ColumnedFormatter;
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+import dev.alphagame.trailblazer.metrics.MetricsSnapshot;
 
+import java.io.IOException;
 import java.io.PrintStream;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Factory for creating TBLogger instances.
  * Provides convenient methods for creating loggers with different configurations.
+ * <p>
+ * Loggers returned by the getLogger methods form a hierarchy by their dot-separated names.
+ * A level set with {@link #setLevel(String, LogLevel)} on a name such as {@code com.shop.payments}
+ * applies to every logger at or below that name, unless a deeper name has its own level.
+ * All levels set for names can be replaced at once with {@link #applyConfiguration(ConfigurationSnapshot)},
+ * or from a file with {@link #watchConfiguration(Path)}.
  */
 public class LoggerFactory {
-    private static final ConcurrentMap<String, TBLogger> loggerCache = new ConcurrentHashMap<>();
-    private static LoggerConfiguration defaultConfiguration = new LoggerConfiguration();
+    private static final LoggerTree loggerTree = new LoggerTree();
+    private static volatile LoggerConfiguration defaultConfiguration = new LoggerConfiguration();
     
     /**
      * Gets a logger with the specified name using the default configuration.
      * 
      * @param name The name of the logger.
      * @return A TBLogger instance.
+     * @throws IllegalArgumentException If the name has an empty segment, such as a leading,
+     *                                  trailing or doubled dot.
      */
     public static TBLogger getLogger(String name) {
-        return loggerCache.computeIfAbsent(name, n -> new TBLogger(n, defaultConfiguration));
+        LoggerTree.Node node = loggerTree.node(name);
+        TBLogger logger = node.defaultLogger;
+        if (logger == null) {
+            synchronized (loggerTree) {
+                logger = node.defaultLogger;
+                if (logger == null) {
+                    logger = loggerTree.register(new TBLogger(name, defaultConfiguration));
+                    node.defaultLogger = logger;
+                }
+            }
+        }
+        return logger;
     }
     
     /**
      * Gets a logger with the specified name and log level.
+     * A level set for the name or one of its packages takes precedence over this level.
      * 
      * @param name The name of the logger.
      * @param logLevel The log level.
      * @return A TBLogger instance.
+     * @throws IllegalArgumentException If the name has an empty segment, such as a leading,
+     *                                  trailing or doubled dot.
      */
     public static TBLogger getLogger(String name, LogLevel logLevel) {
-        return loggerCache.computeIfAbsent(name + "_" + logLevel.name(), 
-                n -> new TBLogger(name, logLevel));
+        LoggerTree.Node node = loggerTree.node(name);
+        TBLogger logger = node.loggersByLevel.get(logLevel);
+        if (logger == null) {
+            synchronized (loggerTree) {
+                logger = node.loggersByLevel.computeIfAbsent(logLevel,
+                        level -> loggerTree.register(new TBLogger(name, level)));
+            }
+        }
+        return logger;
     }
     
     /**
      * Gets a logger with the specified name and configuration.
+     * A level set for the name or one of its packages takes precedence over the configured level.
      * 
      * @param name The name of the logger.
      * @param configuration The logger configuration.
      * @return A TBLogger instance.
+     * @throws IllegalArgumentException If the name has an empty segment, such as a leading,
+     *                                  trailing or doubled dot.
      */
     public static TBLogger getLogger(String name, LoggerConfiguration configuration) {
-        return loggerCache.computeIfAbsent(name + "_" + configuration.hashCode(), 
-                n -> new TBLogger(name, configuration));
+        LoggerTree.Node node = loggerTree.node(name);
+        TBLogger logger = node.loggersByConfiguration.get(configuration);
+        if (logger == null) {
+            synchronized (loggerTree) {
+                logger = node.loggersByConfiguration.computeIfAbsent(configuration,
+                        config -> loggerTree.register(new TBLogger(name, config)));
+            }
+        }
+        return logger;
     }
     
     /**
@@ -159,12 +206,17 @@ public class LoggerFactory {
     }
     
     /**
-     * Sets the default configuration for new loggers created by getLogger methods.
+     * Sets the default configuration for loggers returned by {@link #getLogger(String)} and
+     * {@link #getLogger(Class)}, including those already returned.
      * 
      * @param configuration The default configuration.
      */
     public static void setDefaultConfiguration(LoggerConfiguration configuration) {
-        defaultConfiguration = configuration;
+        synchronized (loggerTree) {
+            LoggerConfiguration previous = defaultConfiguration;
+            defaultConfiguration = configuration;
+            loggerTree.replaceDefaultConfiguration(previous, configuration);
+        }
     }
     
     /**
@@ -177,9 +229,152 @@ public class LoggerFactory {
     }
     
     /**
-     * Clears the logger cache.
+     * Sets the level of every logger at or below a name, for loggers returned by the
+     * getLogger methods. Levels set directly on a logger with {@link TBLogger#setLogLevel(LogLevel)}
+     * still take precedence. Only the loggers below the name are updated.
+     * 
+     * @param name The dot-separated logger name or package, such as {@code com.shop.payments},
+     *             or "" for all loggers.
+     * @param logLevel The log level, or null to inherit the level of the parent package again.
+     * @throws IllegalArgumentException If the name has an empty segment, such as a leading,
+     *                                  trailing or doubled dot.
+     */
+    public static void setLevel(String name, LogLevel logLevel) {
+        loggerTree.setLevel(name, logLevel);
+    }
+    
+    /**
+     * Removes the level set for a name, so that its loggers inherit the level of the parent package again.
+     * 
+     * @param name The dot-separated logger name or package.
+     * @throws IllegalArgumentException If the name has an empty segment.
+     */
+    public static void clearLevel(String name) {
+        loggerTree.setLevel(name, null);
+    }
+    
+    /**
+     * Gets the level set for a name.
+     * 
+     * @param name The dot-separated logger name or package.
+     * @return The level set for exactly this name, or null if it inherits its level.
+     */
+    public static LogLevel getLevel(String name) {
+        return loggerTree.getLevel(name);
+    }
+    
+    /**
+     * Gets all levels set with {@link #setLevel(String, LogLevel)}.
+     * 
+     * @return The levels keyed by name, sorted by name.
+     */
+    public static Map<String, LogLevel> getLevels() {
+        return loggerTree.getLevels();
+    }
+    
+    /**
+     * Replaces all levels set for names with those of a snapshot. Every logger returned by the
+     * getLogger methods is switched to the new levels under one lock, and logging threads keep
+     * checking a single cached level, so a swap is safe under concurrent logging. Loggers switch one
+     * after the other, so until this method returns some may still be on the old levels.
+     * <p>
+     * Only levels are replaced; formatters, filters, limiters and the other settings of a
+     * {@link LoggerConfiguration} are not part of a snapshot. A logger given a level with
+     * {@link TBLogger#setLogLevel(LogLevel)} keeps it whatever the snapshot says, until it is
+     * cleared with {@code setLogLevel(null)}.
+     * 
+     * @param snapshot The levels to apply.
+     * @return The levels that were replaced.
+     * @throws IllegalArgumentException If a name has an empty segment, in which case no level is changed.
+     */
+    public static ConfigurationSnapshot applyConfiguration(ConfigurationSnapshot snapshot) {
+        return loggerTree.apply(snapshot);
+    }
+    
+    /**
+     * Applies a snapshot for a limited time, then restores the levels it replaced,
+     * unless other levels have been applied in the meantime.
+     * 
+     * @param snapshot The levels to apply.
+     * @param duration How long to keep the levels.
+     * @param unit The unit of the duration.
+     * @return The levels that were replaced and will be restored.
+     */
+    public static ConfigurationSnapshot applyConfiguration(ConfigurationSnapshot snapshot, long duration,
+            TimeUnit unit) {
+        ConfigurationSnapshot previous = loggerTree.apply(snapshot);
+        Reverter.executor.schedule(() -> loggerTree.apply(snapshot, previous), duration, unit);
+        return previous;
+    }
+    
+    /**
+     * Gets the levels currently set for names.
+     * 
+     * @return The snapshot of the levels.
+     */
+    public static ConfigurationSnapshot getConfigurationSnapshot() {
+        return loggerTree.getSnapshot();
+    }
+    
+    /**
+     * Applies a properties or JSON configuration file and applies it again whenever it changes.
+     * 
+     * @param file The file to watch, see {@link ConfigurationSnapshot} for its format.
+     * @return The watcher, to be closed to stop watching.
+     * @throws IOException If the file can't be read or watched.
+     * @throws IllegalArgumentException If the file is malformed.
+     */
+    public static ConfigurationWatcher watchConfiguration(Path file) throws IOException {
+        return new ConfigurationWatcher(file);
+    }
+    
+    /**
+     * Takes a snapshot of the process-wide logging metrics.
+     * Nothing is counted unless {@link LoggerMetrics#setEnabled(boolean) metrics are enabled}.
+     * 
+     * @return The snapshot.
+     */
+    public static MetricsSnapshot getMetricsSnapshot() {
+        return LoggerMetrics.global().snapshot();
+    }
+    
+    /**
+     * Takes a snapshot of the event counts of every logger at or below a name, for loggers
+     * returned by the getLogger methods. Bytes, write errors and timings are only kept
+     * process-wide, so they are the global figures.
+     * 
+     * @param name The dot-separated logger name or package, or "" for all loggers.
+     * @return The snapshot.
+     */
+    public static MetricsSnapshot getMetricsSnapshot(String name) {
+        return LoggerMetrics.snapshot(loggerTree.getMetrics(name));
+    }
+    
+    /**
+     * Registers the logging metrics MBean as {@value LoggerMetrics#OBJECT_NAME} without
+     * enabling metrics, so that they can be turned on later from a JMX console.
+     * 
+     * @return true if the MBean is registered.
+     */
+    public static boolean registerMetricsMBean() {
+        return LoggerMetrics.registerMBean();
+    }
+    
+    /**
+     * Clears the logger cache. Levels set for names are kept.
      */
     public static void clearCache() {
-        loggerCache.clear();
+        loggerTree.clearLoggers();
+    }
+    
+    /**
+     * Holds the thread restoring temporary levels, started the first time one is applied.
+     */
+    private static final class Reverter {
+        static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "trailblazer-config-revert");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 }
@@ -0,0 +1,261 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer;
+
+import dev.alphagame.trailblazer.config.ConfigurationSnapshot;
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The dot-separated hierarchy of logger names, stored as a prefix tree with one node per name
+ * segment. A node can carry a level override that applies to every logger below it, unless a
+ * deeper node overrides it again.
+ * <p>
+ * Loggers cache the level they inherit from the tree, so looking it up costs nothing when
+ * logging. Changing the level of a node only walks the subtree below it. Nodes are also
+ * indexed by full name, so finding the node of a logger is a single map lookup.
+ * <p>
+ * The overrides as a whole are kept as an immutable {@link ConfigurationSnapshot}. Replacing it
+ * updates every node and logger under the tree lock, so two concurrent changes are never
+ * interleaved and, once a change returns, every logger is on its snapshot. While it runs, though,
+ * each logger switches when its own cached level is written, so a thread logging through several
+ * loggers can briefly see some of them on the old levels and some on the new.
+ */
+final class LoggerTree {
+    private final Node root = new Node("", null);
+    private final ConcurrentMap<String, Node> nodes = new ConcurrentHashMap<>();
+    private volatile ConfigurationSnapshot snapshot = ConfigurationSnapshot.EMPTY;
+
+    LoggerTree() {
+        nodes.put("", root);
+    }
+
+    /**
+     * Gets the node for a logger name, creating it and its parents as needed.
+     *
+     * @param name The dot-separated logger name, or "" for the root.
+     * @return The node.
+     * @throws IllegalArgumentException If the name has an empty segment, that is a leading,
+     *                                  trailing or doubled dot.
+     */
+    Node node(String name) {
+        Node node = nodes.get(name);
+        if (node != null) {
+            return node;
+        }
+        if (name.startsWith(".") || name.endsWith(".") || name.contains("..")) {
+            throw new IllegalArgumentException("Logger name has an empty segment: \"" + name + "\"");
+        }
+        synchronized (this) {
+            node = root;
+            int start = 0;
+            while (start < name.length()) {
+                int end = name.indexOf('.', start);
+                if (end < 0) {
+                    end = name.length();
+                }
+                String segment = name.substring(start, end);
+                Node child = node.children.get(segment);
+                if (child == null) {
+                    child = new Node(name.substring(0, end), node);
+                    node.children.put(segment, child);
+                    nodes.put(child.path, child);
+                }
+                node = child;
+                start = end + 1;
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Adds a logger to the tree and gives it the level it inherits.
+     *
+     * @param logger The logger.
+     * @return The same logger.
+     */
+    synchronized TBLogger register(TBLogger logger) {
+        Node node = node(logger.getLoggerName());
+        node.loggers.add(logger);
+        logger.setInheritedLevel(node.inheritedLevel());
+        return logger;
+    }
+
+    /**
+     * Sets or clears the level override of a name and updates the loggers below it.
+     *
+     * @param name  The dot-separated logger name or package, or "" for the root.
+     * @param level The level, or null to inherit from the parent again.
+     * @throws IllegalArgumentException If the name has an empty segment.
+     */
+    synchronized void setLevel(String name, LogLevel level) {
+        Node node = node(name);
+        node.level = level;
+        snapshot = snapshot.withLevel(name, level);
+        propagate(node, node.inheritedLevel());
+    }
+
+    /**
+     * Replaces all level overrides with those of a snapshot and updates every logger.
+     *
+     * @param replacement The new overrides.
+     * @return The overrides that were replaced.
+     * @throws IllegalArgumentException If a name has an empty segment, in which case nothing is changed.
+     */
+    synchronized ConfigurationSnapshot apply(ConfigurationSnapshot replacement) {
+        ConfigurationSnapshot previous = snapshot;
+        for (String name : replacement.getLevels().keySet()) {
+            node(name);
+        }
+        for (Node node : nodes.values()) {
+            node.level = replacement.getLevel(node.path);
+        }
+        snapshot = replacement;
+        propagate(root, root.level);
+        return previous;
+    }
+
+    /**
+     * Replaces the level overrides only if they are still those of an expected snapshot.
+     *
+     * @param expected    The snapshot that must still be applied.
+     * @param replacement The new overrides.
+     * @return true if the overrides were replaced.
+     */
+    synchronized boolean apply(ConfigurationSnapshot expected, ConfigurationSnapshot replacement) {
+        if (snapshot != expected) {
+            return false;
+        }
+        apply(replacement);
+        return true;
+    }
+
+    /**
+     * Gets the level overrides currently applied.
+     *
+     * @return The snapshot of the overrides.
+     */
+    ConfigurationSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the level override of a name.
+     *
+     * @param name The dot-separated logger name or package.
+     * @return The override, or null if the name inherits its level.
+     */
+    LogLevel getLevel(String name) {
+        return snapshot.getLevel(name);
+    }
+
+    /**
+     * Gets all level overrides, keyed by name.
+     *
+     * @return A sorted copy of the overrides.
+     */
+    Map<String, LogLevel> getLevels() {
+        return new TreeMap<>(snapshot.getLevels());
+    }
+
+    /**
+     * Gets the metrics of every registered logger at or below a name.
+     *
+     * @param name The dot-separated logger name or package, or "" for all loggers.
+     * @return The metrics, empty if no logger is registered below the name.
+     */
+    LoggerMetrics[] getMetrics(String name) {
+        List<LoggerMetrics> metrics = new ArrayList<>();
+        Node node = nodes.get(name);
+        if (node != null) {
+            collectMetrics(node, metrics);
+        }
+        return metrics.toArray(new LoggerMetrics[0]);
+    }
+
+    /**
+     * Forgets all registered loggers, keeping the level overrides.
+     */
+    synchronized void clearLoggers() {
+        for (Node node : nodes.values()) {
+            node.loggers.clear();
+            node.defaultLogger = null;
+            node.loggersByLevel.clear();
+            node.loggersByConfiguration.clear();
+        }
+    }
+
+    /**
+     * Gives a new configuration to every logger returned for a name without a configuration of its own.
+     *
+     * @param previous      The configuration those loggers were created with.
+     * @param configuration The new configuration.
+     */
+    synchronized void replaceDefaultConfiguration(LoggerConfiguration previous, LoggerConfiguration configuration) {
+        for (Node node : nodes.values()) {
+            TBLogger logger = node.defaultLogger;
+            if (logger != null && logger.getConfiguration() == previous) {
+                logger.replaceConfiguration(configuration);
+            }
+        }
+    }
+
+    private static void collectMetrics(Node node, List<LoggerMetrics> metrics) {
+        for (TBLogger logger : node.loggers) {
+            metrics.add(logger.getMetrics());
+        }
+        for (Node child : node.children.values()) {
+            collectMetrics(child, metrics);
+        }
+    }
+
+    private static void propagate(Node node, LogLevel inherited) {
+        for (TBLogger logger : node.loggers) {
+            logger.setInheritedLevel(inherited);
+        }
+        for (Node child : node.children.values()) {
+            propagate(child, child.level != null ? child.level : inherited);
+        }
+    }
+
+    /**
+     * One segment of the hierarchy, holding the loggers created for its full name.
+     */
+    static final class Node {
+        final String path;
+        final Node parent;
+        final Map<String, Node> children = new ConcurrentHashMap<>();
+        final List<TBLogger> loggers = new CopyOnWriteArrayList<>();
+        final ConcurrentMap<LogLevel, TBLogger> loggersByLevel = new ConcurrentHashMap<>();
+        final ConcurrentMap<LoggerConfiguration, TBLogger> loggersByConfiguration = new ConcurrentHashMap<>();
+        volatile TBLogger defaultLogger;
+        volatile LogLevel level;
+
+        Node(String path, Node parent) {
+            this.path = path;
+            this.parent = parent;
+        }
+
+        /**
+         * Gets the level of the nearest node at or above this one that has an override.
+         */
+        LogLevel inheritedLevel() {
+            for (Node node = this; node != null; node = node.parent) {
+                if (node.level != null) {
+                    return node.level;
+                }
+            }
+            return null;
+        }
+    }
+}
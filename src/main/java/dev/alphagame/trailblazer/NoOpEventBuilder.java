@@ -0,0 +1,56 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer;
+
+import java.util.function.Supplier;
+
+/**
+ * The builder handed out for disabled levels, which ignores everything.
+ */
+final class NoOpEventBuilder implements LogEventBuilder {
+    static final NoOpEventBuilder INSTANCE = new NoOpEventBuilder();
+
+    private NoOpEventBuilder() {
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, long value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, double value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, boolean value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, String value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, Object value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, Supplier<?> valueSupplier) {
+        return this;
+    }
+
+    @Override
+    public void log(String message) {
+    }
+
+    @Override
+    public void log(String message, Object... args) {
+    }
+}
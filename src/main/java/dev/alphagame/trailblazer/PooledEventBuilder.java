@@ -0,0 +1,106 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer;
+
+import java.util.function.Supplier;
+
+/**
+ * The builder handed out for enabled levels, one per thread, reused from event to event.
+ */
+final class PooledEventBuilder implements LogEventBuilder {
+    private static final ThreadLocal<PooledEventBuilder> pool = ThreadLocal.withInitial(PooledEventBuilder::new);
+
+    private final KeyValues keyValues = new KeyValues();
+    private TBLogger logger;
+    private LogLevel level;
+    private boolean acquired;
+
+    /**
+     * Gets the builder of the current thread, or a new one if it is still being filled in,
+     * for example because a field value logs while it is computed.
+     */
+    static PooledEventBuilder acquire(TBLogger logger, LogLevel level) {
+        PooledEventBuilder builder = pool.get();
+        if (builder.acquired) {
+            builder = new PooledEventBuilder();
+        }
+        builder.acquired = true;
+        builder.logger = logger;
+        builder.level = level;
+        return builder;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, long value) {
+        keyValues.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, double value) {
+        keyValues.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, boolean value) {
+        keyValues.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, String value) {
+        keyValues.add(key, (Object) value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            keyValues.add(key, ((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            keyValues.add(key, ((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            keyValues.add(key, ((Boolean) value).booleanValue());
+        } else {
+            keyValues.add(key, value);
+        }
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, Supplier<?> valueSupplier) {
+        Object value;
+        try {
+            value = valueSupplier.get();
+        } catch (Throwable t) {
+            // The event is abandoned, so the builder must be free for the next one
+            release();
+            throw t;
+        }
+        return kv(key, value);
+    }
+
+    @Override
+    public void log(String message) {
+        log(message, (Object[]) null);
+    }
+
+    @Override
+    public void log(String message, Object... args) {
+        try {
+            logger.log(level, message, args, keyValues);
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        keyValues.clear();
+        logger = null;
+        acquired = false;
+    }
+}
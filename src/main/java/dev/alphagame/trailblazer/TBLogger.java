@@ -5,22 +5,46 @@
 
 package dev.alphagame.trailblazer;
 
+import dev.alphagame.trailblazer.context.MDC;
+import dev.alphagame.trailblazer.filters.FilterChain;
+import dev.alphagame.trailblazer.filters.Marker;
+import dev.alphagame.trailblazer.formatters.AbstractFormatter;
+import dev.alphagame.trailblazer.limits.LogLimiter;
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+import dev.alphagame.trailblazer.recorder.FlightRecorder;
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+import java.util.function.Supplier;
+
 public class TBLogger {
+    private static final ThreadLocal<LogEvent> reusableEvent = ThreadLocal.withInitial(LogEvent::new);
+
     private final String loggerName;
-    private volatile LogLevel logLevel;
+    private final byte[] encodedName;
     private volatile LoggerConfiguration configuration;
+    // The level comes from setLogLevel, else from the logger tree, else from the configuration.
+    // The effective level is cached as a plain int so that checking a level is a single compare.
+    // The gate level is the lower of the effective level and the level of the flight recorder.
+    private volatile LogLevel explicitLevel;
+    private volatile LogLevel inheritedLevel;
+    private volatile LogLevel logLevel;
+    private volatile int effectiveLevel;
+    private volatile int gateLevel;
+    private final LoggerMetrics metrics = LoggerMetrics.forLogger();
 
     public TBLogger(String name, LoggerConfiguration configuration) {
         this.loggerName = name;
+        this.encodedName = Utf8Buffer.encode(name);
         this.configuration = configuration;
-        this.logLevel = configuration.logLevel;
+        updateEffectiveLevel();
     }
 
     public TBLogger(String name, LogLevel logLevel) {
         this.loggerName = name;
+        this.encodedName = Utf8Buffer.encode(name);
         this.configuration = new LoggerConfiguration();
         this.configuration.logLevel = logLevel;
-        this.logLevel = logLevel;
+        updateEffectiveLevel();
     }
 
     /**
@@ -30,10 +54,8 @@ public class TBLogger {
      * @param args    The arguments to format the message with.
      */
     public void info(String message, Object... args) {
-        if (this.logLevel.getLevel() <= LogLevel.INFO.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("INFO", loggerName, message, args);
-            }
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, args);
         }
     }
 
@@ -43,10 +65,126 @@ public class TBLogger {
      * @param message The message to log.
      */
     public void info(String message) {
-        if (this.logLevel.getLevel() <= LogLevel.INFO.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("INFO", loggerName, message);
-            }
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, null);
+        }
+    }
+
+    /**
+     * Logs a message with the INFO level, building it only if the level is enabled.
+     *
+     * @param messageSupplier Supplies the message to log.
+     */
+    public void info(Supplier<String> messageSupplier) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, messageSupplier.get(), null);
+        }
+    }
+
+    /**
+     * Logs a message with one argument with the INFO level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void info(String message, Object arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with two arguments with the INFO level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg1    The first argument to format the message with.
+     * @param arg2    The second argument to format the message with.
+     */
+    public void info(String message, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, new Object[] { arg1, arg2 });
+        }
+    }
+
+    /**
+     * Logs a message with three arguments with the INFO level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg1    The first argument to format the message with.
+     * @param arg2    The second argument to format the message with.
+     * @param arg3    The third argument to format the message with.
+     */
+    public void info(String message, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, new Object[] { arg1, arg2, arg3 });
+        }
+    }
+
+    /**
+     * Logs a message with an integer argument with the INFO level.
+     * The argument is only boxed if the level is enabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void info(String message, long arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a floating-point argument with the INFO level.
+     * The argument is only boxed if the level is enabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void info(String message, double arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with an int argument with the INFO level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void info(String message, int arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a character argument with the INFO level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void info(String message, char arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a float argument with the INFO level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void info(String message, float arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, new Object[] { arg });
         }
     }
 
@@ -57,10 +195,8 @@ public class TBLogger {
      * @param args    The arguments to format the message with.
      */
     public void debug(String message, Object... args) {
-        if (this.logLevel.getLevel() <= LogLevel.DEBUG.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("DEBUG", loggerName, message, args);
-            }
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, args);
         }
     }
 
@@ -70,10 +206,126 @@ public class TBLogger {
      * @param message The message to log.
      */
     public void debug(String message) {
-        if (this.logLevel.getLevel() <= LogLevel.DEBUG.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("DEBUG", loggerName, message);
-            }
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, null);
+        }
+    }
+
+    /**
+     * Logs a message with the DEBUG level, building it only if the level is enabled.
+     *
+     * @param messageSupplier Supplies the message to log.
+     */
+    public void debug(Supplier<String> messageSupplier) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, messageSupplier.get(), null);
+        }
+    }
+
+    /**
+     * Logs a message with one argument with the DEBUG level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void debug(String message, Object arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with two arguments with the DEBUG level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg1    The first argument to format the message with.
+     * @param arg2    The second argument to format the message with.
+     */
+    public void debug(String message, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, new Object[] { arg1, arg2 });
+        }
+    }
+
+    /**
+     * Logs a message with three arguments with the DEBUG level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg1    The first argument to format the message with.
+     * @param arg2    The second argument to format the message with.
+     * @param arg3    The third argument to format the message with.
+     */
+    public void debug(String message, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, new Object[] { arg1, arg2, arg3 });
+        }
+    }
+
+    /**
+     * Logs a message with an integer argument with the DEBUG level.
+     * The argument is only boxed if the level is enabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void debug(String message, long arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a floating-point argument with the DEBUG level.
+     * The argument is only boxed if the level is enabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void debug(String message, double arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with an int argument with the DEBUG level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void debug(String message, int arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a character argument with the DEBUG level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void debug(String message, char arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a float argument with the DEBUG level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void debug(String message, float arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, new Object[] { arg });
         }
     }
 
@@ -84,10 +336,8 @@ public class TBLogger {
      * @param args    The arguments to format the message with.
      */
     public void warn(String message, Object... args) {
-        if (this.logLevel.getLevel() <= LogLevel.WARN.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("WARN", loggerName, message, args);
-            }
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, args);
         }
     }
 
@@ -97,10 +347,126 @@ public class TBLogger {
      * @param message The message to log.
      */
     public void warn(String message) {
-        if (this.logLevel.getLevel() <= LogLevel.WARN.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("WARN", loggerName, message);
-            }
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, null);
+        }
+    }
+
+    /**
+     * Logs a message with the WARN level, building it only if the level is enabled.
+     *
+     * @param messageSupplier Supplies the message to log.
+     */
+    public void warn(Supplier<String> messageSupplier) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, messageSupplier.get(), null);
+        }
+    }
+
+    /**
+     * Logs a message with one argument with the WARN level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void warn(String message, Object arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with two arguments with the WARN level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg1    The first argument to format the message with.
+     * @param arg2    The second argument to format the message with.
+     */
+    public void warn(String message, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, new Object[] { arg1, arg2 });
+        }
+    }
+
+    /**
+     * Logs a message with three arguments with the WARN level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg1    The first argument to format the message with.
+     * @param arg2    The second argument to format the message with.
+     * @param arg3    The third argument to format the message with.
+     */
+    public void warn(String message, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, new Object[] { arg1, arg2, arg3 });
+        }
+    }
+
+    /**
+     * Logs a message with an integer argument with the WARN level.
+     * The argument is only boxed if the level is enabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void warn(String message, long arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a floating-point argument with the WARN level.
+     * The argument is only boxed if the level is enabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void warn(String message, double arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with an int argument with the WARN level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void warn(String message, int arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a character argument with the WARN level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void warn(String message, char arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a float argument with the WARN level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void warn(String message, float arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, new Object[] { arg });
         }
     }
 
@@ -111,10 +477,8 @@ public class TBLogger {
      * @param args    The arguments to format the message with.
      */
     public void error(String message, Object... args) {
-        if (this.logLevel.getLevel() <= LogLevel.ERROR.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("ERROR", loggerName, message, args);
-            }
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, args);
         }
     }
 
@@ -124,10 +488,126 @@ public class TBLogger {
      * @param message The message to log.
      */
     public void error(String message) {
-        if (this.logLevel.getLevel() <= LogLevel.ERROR.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("ERROR", loggerName, message);
-            }
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, null);
+        }
+    }
+
+    /**
+     * Logs a message with the ERROR level, building it only if the level is enabled.
+     *
+     * @param messageSupplier Supplies the message to log.
+     */
+    public void error(Supplier<String> messageSupplier) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, messageSupplier.get(), null);
+        }
+    }
+
+    /**
+     * Logs a message with one argument with the ERROR level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void error(String message, Object arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with two arguments with the ERROR level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg1    The first argument to format the message with.
+     * @param arg2    The second argument to format the message with.
+     */
+    public void error(String message, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, new Object[] { arg1, arg2 });
+        }
+    }
+
+    /**
+     * Logs a message with three arguments with the ERROR level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg1    The first argument to format the message with.
+     * @param arg2    The second argument to format the message with.
+     * @param arg3    The third argument to format the message with.
+     */
+    public void error(String message, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, new Object[] { arg1, arg2, arg3 });
+        }
+    }
+
+    /**
+     * Logs a message with an integer argument with the ERROR level.
+     * The argument is only boxed if the level is enabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void error(String message, long arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a floating-point argument with the ERROR level.
+     * The argument is only boxed if the level is enabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void error(String message, double arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with an int argument with the ERROR level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void error(String message, int arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a character argument with the ERROR level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void error(String message, char arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a float argument with the ERROR level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void error(String message, float arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, new Object[] { arg });
         }
     }
 
@@ -138,10 +618,8 @@ public class TBLogger {
      * @param args    The arguments to format the message with.
      */
     public void fatal(String message, Object... args) {
-        if (this.logLevel.getLevel() <= LogLevel.FATAL.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("FATAL", loggerName, message, args);
-            }
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, args);
         }
     }
 
@@ -151,10 +629,126 @@ public class TBLogger {
      * @param message The message to log.
      */
     public void fatal(String message) {
-        if (this.logLevel.getLevel() <= LogLevel.FATAL.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("FATAL", loggerName, message);
-            }
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, null);
+        }
+    }
+
+    /**
+     * Logs a message with the FATAL level, building it only if the level is enabled.
+     *
+     * @param messageSupplier Supplies the message to log.
+     */
+    public void fatal(Supplier<String> messageSupplier) {
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, messageSupplier.get(), null);
+        }
+    }
+
+    /**
+     * Logs a message with one argument with the FATAL level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void fatal(String message, Object arg) {
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with two arguments with the FATAL level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg1    The first argument to format the message with.
+     * @param arg2    The second argument to format the message with.
+     */
+    public void fatal(String message, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, new Object[] { arg1, arg2 });
+        }
+    }
+
+    /**
+     * Logs a message with three arguments with the FATAL level.
+     * Nothing is allocated if the level is disabled.
+     *
+     * @param message The message to log.
+     * @param arg1    The first argument to format the message with.
+     * @param arg2    The second argument to format the message with.
+     * @param arg3    The third argument to format the message with.
+     */
+    public void fatal(String message, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, new Object[] { arg1, arg2, arg3 });
+        }
+    }
+
+    /**
+     * Logs a message with an integer argument with the FATAL level.
+     * The argument is only boxed if the level is enabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void fatal(String message, long arg) {
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a floating-point argument with the FATAL level.
+     * The argument is only boxed if the level is enabled.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void fatal(String message, double arg) {
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with an int argument with the FATAL level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void fatal(String message, int arg) {
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a character argument with the FATAL level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void fatal(String message, char arg) {
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, new Object[] { arg });
+        }
+    }
+
+    /**
+     * Logs a message with a float argument with the FATAL level.
+     * The argument is only boxed if the level is enabled, as its own wrapper type.
+     *
+     * @param message The message to log.
+     * @param arg     The argument to format the message with.
+     */
+    public void fatal(String message, float arg) {
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, new Object[] { arg });
         }
     }
     
@@ -165,9 +759,10 @@ public class TBLogger {
      * @param throwable The exception to log.
      */
     public void error(String message, Throwable throwable) {
-        if (this.logLevel.getLevel() <= LogLevel.ERROR.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("ERROR", loggerName, message + " - " + throwable.toString());
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, message, null, null, throwable);
+            if (isErrorEnabled()) {
+                dumpFlightRecorder();
             }
         }
     }
@@ -179,10 +774,8 @@ public class TBLogger {
      * @param throwable The exception to log.
      */
     public void warn(String message, Throwable throwable) {
-        if (this.logLevel.getLevel() <= LogLevel.WARN.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("WARN", loggerName, message + " - " + throwable.toString());
-            }
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message, null, null, throwable);
         }
     }
     
@@ -193,10 +786,8 @@ public class TBLogger {
      * @param throwable The exception to log.
      */
     public void info(String message, Throwable throwable) {
-        if (this.logLevel.getLevel() <= LogLevel.INFO.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("INFO", loggerName, message + " - " + throwable.toString());
-            }
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, null, null, throwable);
         }
     }
     
@@ -207,10 +798,8 @@ public class TBLogger {
      * @param throwable The exception to log.
      */
     public void debug(String message, Throwable throwable) {
-        if (this.logLevel.getLevel() <= LogLevel.DEBUG.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("DEBUG", loggerName, message + " - " + throwable.toString());
-            }
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, null, null, throwable);
         }
     }
     
@@ -221,20 +810,194 @@ public class TBLogger {
      * @param throwable The exception to log.
      */
     public void fatal(String message, Throwable throwable) {
-        if (this.logLevel.getLevel() <= LogLevel.FATAL.getLevel()) {
-            synchronized (configuration.formatter) {
-                configuration.formatter.formatLogMessage("FATAL", loggerName, message + " - " + throwable.toString());
+        if (isEnabled(LogLevel.FATAL)) {
+            log(LogLevel.FATAL, message, null, null, throwable);
+        }
+    }
+
+    private boolean isEnabled(LogLevel level) {
+        if (this.gateLevel <= level.getLevel()) {
+            return true;
+        }
+        if (LoggerMetrics.isEnabled()) {
+            metrics.recordFiltered(level);
+        }
+        return false;
+    }
+
+    private void log(LogLevel level, String message, Object[] args) {
+        log(level, message, args, null);
+    }
+
+    /**
+     * Logs a message that passed the level check, with optional key-value fields.
+     */
+    void log(LogLevel level, String message, Object[] args, KeyValues keyValues) {
+        log(level, message, args, keyValues, null);
+    }
+
+    private void log(LogLevel level, String message, Object[] args, KeyValues keyValues, Throwable thrown) {
+        LoggerConfiguration configuration = this.configuration;
+        FilterChain filters = configuration.filters;
+        LogLimiter limiter = configuration.limiter;
+        if (filters != null && !filters.accepts(level, loggerName, message, args)) {
+            if (LoggerMetrics.isEnabled()) {
+                metrics.recordRejected(level);
             }
+            return;
+        }
+        // Markers are only for the filters
+        args = Marker.strip(args);
+        if (level.getLevel() < effectiveLevel) {
+            // Only enabled for the flight recorder
+            FlightRecorder recorder = configuration.flightRecorder;
+            if (recorder != null) {
+                // The recorder keeps no throwables, only their first line
+                recorder.record(level, encodedName, thrown != null ? message + " - " + thrown : message, args);
+            }
+            if (LoggerMetrics.isEnabled()) {
+                metrics.recordFiltered(level);
+            }
+            return;
+        }
+        if (limiter != null && !limiter.allow(level, loggerName, message)) {
+            if (LoggerMetrics.isEnabled()) {
+                metrics.recordRateLimited(level);
+            }
+            return;
+        }
+        if (LoggerMetrics.isEnabled()) {
+            metrics.recordEvent(level);
+        }
+        if (configuration.asyncDispatcher != null) {
+            configuration.asyncDispatcher.publish(configuration.formatter, level, loggerName, encodedName, message, args,
+                    keyValues, thrown);
+        } else {
+            formatNow(configuration, level, message, args, keyValues, thrown);
+        }
+        if (level == LogLevel.FATAL && configuration.flightRecorder != null) {
+            dumpFlightRecorder();
+        }
+    }
+
+    private void formatNow(LoggerConfiguration configuration, LogLevel level, String message, Object[] args,
+            KeyValues keyValues, Throwable thrown) {
+        LogEvent event = reusableEvent.get();
+        if (event.inUse) {
+            // A formatter is logging while formatting on this thread
+            event = new LogEvent();
+        }
+        event.set(level, loggerName, encodedName, message, args, System.currentTimeMillis());
+        event.setContext(MDC.getContext());
+        event.setKeyValues(keyValues);
+        event.setThrown(thrown);
+        event.inUse = true;
+        try {
+            if (LoggerMetrics.isTimingEnabled()) {
+                formatTimed(configuration, event);
+            } else {
+                synchronized (configuration.formatter) {
+                    configuration.formatter.formatLogEvent(event);
+                }
+            }
+        } finally {
+            event.inUse = false;
+            event.clear();
+        }
+    }
+
+    private static void formatTimed(LoggerConfiguration configuration, LogEvent event) {
+        long requested = System.nanoTime();
+        synchronized (configuration.formatter) {
+            long acquired = System.nanoTime();
+            configuration.formatter.formatLogEvent(event);
+            LoggerMetrics.recordFormatNanos(System.nanoTime() - acquired);
+            LoggerMetrics.recordLockWaitNanos(acquired - requested);
         }
     }
 
+    /**
+     * Writes the events kept by the flight recorder of this logger's configuration, oldest first,
+     * to the recorder's output or else to this logger's formatter, and empties the recorder.
+     * This happens automatically after a FATAL event or an error logged with a throwable.
+     *
+     * @return The number of events written, 0 if the configuration has no flight recorder.
+     */
+    public int dumpFlightRecorder() {
+        LoggerConfiguration configuration = this.configuration;
+        FlightRecorder recorder = configuration.flightRecorder;
+        if (recorder == null) {
+            return 0;
+        }
+        if (configuration.asyncDispatcher != null) {
+            configuration.asyncDispatcher.flush();
+        }
+        AbstractFormatter output = recorder.getOutput();
+        return recorder.dumpTo(output != null ? output : configuration.formatter, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Starts a structured event with the DEBUG level.
+     *
+     * @return A builder for the event, which does nothing if DEBUG is disabled.
+     */
+    public LogEventBuilder atDebug() {
+        return atLevel(LogLevel.DEBUG);
+    }
+
+    /**
+     * Starts a structured event with the INFO level.
+     *
+     * @return A builder for the event, which does nothing if INFO is disabled.
+     */
+    public LogEventBuilder atInfo() {
+        return atLevel(LogLevel.INFO);
+    }
+
+    /**
+     * Starts a structured event with the WARN level.
+     *
+     * @return A builder for the event, which does nothing if WARN is disabled.
+     */
+    public LogEventBuilder atWarn() {
+        return atLevel(LogLevel.WARN);
+    }
+
+    /**
+     * Starts a structured event with the ERROR level.
+     *
+     * @return A builder for the event, which does nothing if ERROR is disabled.
+     */
+    public LogEventBuilder atError() {
+        return atLevel(LogLevel.ERROR);
+    }
+
+    /**
+     * Starts a structured event with the FATAL level.
+     *
+     * @return A builder for the event, which does nothing if FATAL is disabled.
+     */
+    public LogEventBuilder atFatal() {
+        return atLevel(LogLevel.FATAL);
+    }
+
+    /**
+     * Starts a structured event with a level.
+     *
+     * @param level The level of the event.
+     * @return A builder for the event, which does nothing if the level is disabled.
+     */
+    public LogEventBuilder atLevel(LogLevel level) {
+        return isEnabled(level) ? PooledEventBuilder.acquire(this, level) : NoOpEventBuilder.INSTANCE;
+    }
+
     /**
      * Checks if DEBUG level is enabled for this logger.
      *
      * @return true if DEBUG level is enabled.
      */
     public boolean isDebugEnabled() {
-        return this.logLevel.getLevel() <= LogLevel.DEBUG.getLevel();
+        return this.effectiveLevel <= LogLevel.DEBUG.getLevel();
     }
 
     /**
@@ -243,7 +1006,7 @@ public class TBLogger {
      * @return true if INFO level is enabled.
      */
     public boolean isInfoEnabled() {
-        return this.logLevel.getLevel() <= LogLevel.INFO.getLevel();
+        return this.effectiveLevel <= LogLevel.INFO.getLevel();
     }
 
     /**
@@ -252,7 +1015,7 @@ public class TBLogger {
      * @return true if WARN level is enabled.
      */
     public boolean isWarnEnabled() {
-        return this.logLevel.getLevel() <= LogLevel.WARN.getLevel();
+        return this.effectiveLevel <= LogLevel.WARN.getLevel();
     }
 
     /**
@@ -261,7 +1024,7 @@ public class TBLogger {
      * @return true if ERROR level is enabled.
      */
     public boolean isErrorEnabled() {
-        return this.logLevel.getLevel() <= LogLevel.ERROR.getLevel();
+        return this.effectiveLevel <= LogLevel.ERROR.getLevel();
     }
 
     /**
@@ -270,21 +1033,22 @@ public class TBLogger {
      * @return true if FATAL level is enabled.
      */
     public boolean isFatalEnabled() {
-        return this.logLevel.getLevel() <= LogLevel.FATAL.getLevel();
+        return this.effectiveLevel <= LogLevel.FATAL.getLevel();
     }
 
     /**
-     * Sets the log level for this logger.
+     * Sets the log level for this logger. It takes precedence over levels set for its packages,
+     * including those applied from a watched configuration file, until it is cleared with null.
      *
-     * @param logLevel The new log level.
+     * @param logLevel The new log level, or null to follow the package levels and configuration again.
      */
     public void setLogLevel(LogLevel logLevel) {
-        this.logLevel = logLevel;
-        this.configuration.logLevel = logLevel;
+        this.explicitLevel = logLevel;
+        updateEffectiveLevel();
     }
 
     /**
-     * Gets the current log level of this logger.
+     * Gets the current log level of this logger, taking levels set for its packages into account.
      *
      * @return The current log level.
      */
@@ -301,6 +1065,26 @@ public class TBLogger {
         return loggerName;
     }
 
+    /**
+     * Gets the name of this logger encoded as UTF-8.
+     * The returned array is shared and must not be modified.
+     *
+     * @return The encoded logger name.
+     */
+    public byte[] getEncodedName() {
+        return encodedName;
+    }
+
+    /**
+     * Gets the event counters of this logger. They only count while
+     * {@link LoggerMetrics#isEnabled() metrics are enabled}.
+     *
+     * @return The metrics of this logger.
+     */
+    public LoggerMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Gets the configuration of this logger.
      *
@@ -311,12 +1095,46 @@ public class TBLogger {
     }
 
     /**
-     * Sets the configuration for this logger.
+     * Sets the configuration for this logger, dropping any level set with {@link #setLogLevel(LogLevel)}.
+     *
+     * @param configuration The new configuration.
+     */
+    public synchronized void setConfiguration(LoggerConfiguration configuration) {
+        this.explicitLevel = null;
+        replaceConfiguration(configuration);
+    }
+
+    /**
+     * Sets the configuration for this logger, keeping a level set with {@link #setLogLevel(LogLevel)}.
      *
      * @param configuration The new configuration.
      */
-    public void setConfiguration(LoggerConfiguration configuration) {
+    synchronized void replaceConfiguration(LoggerConfiguration configuration) {
         this.configuration = configuration;
-        this.logLevel = configuration.logLevel;
+        updateEffectiveLevel();
+    }
+
+    /**
+     * Sets the level inherited from the logger tree.
+     *
+     * @param inheritedLevel The level, or null if no package of this logger has a level set.
+     */
+    void setInheritedLevel(LogLevel inheritedLevel) {
+        this.inheritedLevel = inheritedLevel;
+        updateEffectiveLevel();
+    }
+
+    private synchronized void updateEffectiveLevel() {
+        LogLevel level = explicitLevel;
+        if (level == null) {
+            level = inheritedLevel;
+        }
+        if (level == null) {
+            level = configuration.logLevel;
+        }
+        this.logLevel = level;
+        this.effectiveLevel = level.getLevel();
+        FlightRecorder recorder = configuration.flightRecorder;
+        this.gateLevel = recorder != null ? Math.min(effectiveLevel, recorder.getLevel().getLevel()) : effectiveLevel;
     }
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.analysis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes {@link LogStats} for a {@link dev.alphagame.trailblazer.formatters.SimpleFormatter}
+ * or {@link dev.alphagame.trailblazer.formatters.JSONFormatter} log file in parallel.
+ * <p>
+ * The file is split into chunks that are memory-mapped and parsed in place by the tasks of a
+ * {@link ForkJoinPool}, each into its own {@link LogStats}, which are merged as the tasks join.
+ * A chunk owns the lines that start inside it and reads past its end to finish the last one, so
+ * chunk boundaries need not fall on line boundaries. Nothing is decoded except the first
+ * occurrence of each logger name and message in a chunk. From the command line:
+ * <pre>
+ * java -cp trailblazer.jar dev.alphagame.trailblazer.analysis.LogAnalyzer app.log [--top 20] [--threads 64]
+ * </pre>
+ */
+public final class LogAnalyzer {
+    /**
+     * The default number of bytes parsed by one task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    private static final int MAX_CHUNK_SIZE = 1 << 30;
+    private static final int LINE_SLACK = 64 * 1024;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates an analyzer that runs on the common pool with the default chunk size.
+     */
+    public LogAnalyzer() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates an analyzer.
+     *
+     * @param pool      The pool to run the tasks on.
+     * @param chunkSize The number of bytes parsed by one task, at most 1 GB.
+     */
+    public LogAnalyzer(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 byte and 1 GB");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Analyzes a log file.
+     *
+     * @param file The file.
+     * @return The counts of its events.
+     * @throws IOException If the file cannot be read.
+     */
+    public LogStats analyze(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return new LogStats();
+            }
+            return pool.invoke(new ChunkTask(channel, size, 0, size));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Prints a report of a log file to standard output.
+     *
+     * @param args The file, optionally followed by {@code --top <count>} and {@code --threads <count>}.
+     * @throws IOException If the file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args.length % 2 == 0) {
+            usage();
+            return;
+        }
+        int top = 20;
+        int threads = Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 1; i < args.length; i += 2) {
+                switch (args[i]) {
+                    case "--top":
+                        top = Integer.parseInt(args[i + 1]);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[i + 1]);
+                        break;
+                    default:
+                        usage();
+                        return;
+                }
+            }
+        } catch (NumberFormatException e) {
+            usage();
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            LogStats stats = new LogAnalyzer(pool, DEFAULT_CHUNK_SIZE).analyze(Paths.get(args[0]));
+            stats.print(System.out, top);
+            System.out.printf("Analyzed in %.2f s with %d threads%n", (System.nanoTime() - start) / 1e9, threads);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: LogAnalyzer <file> [--top <count>] [--threads <count>]");
+        System.exit(2);
+    }
+
+    /**
+     * Analyzes the lines that start in a byte range of the file, splitting it while it is larger
+     * than a chunk.
+     */
+    private final class ChunkTask extends RecursiveTask<LogStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long fileSize;
+        private final long start;
+        private final long end;
+
+        ChunkTask(FileChannel channel, long fileSize, long start, long end) {
+            this.channel = channel;
+            this.fileSize = fileSize;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected LogStats compute() {
+            if (end - start > chunkSize) {
+                long middle = start + (end - start) / 2;
+                ChunkTask second = new ChunkTask(channel, fileSize, middle, end);
+                second.fork();
+                LogStats stats = new ChunkTask(channel, fileSize, start, middle).compute();
+                stats.merge(second.join());
+                return stats;
+            }
+            try {
+                return analyzeChunk();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private LogStats analyzeChunk() throws IOException {
+            LogStats stats = new LogStats();
+            LogLineParser parser = new LogLineParser();
+            // Map from the byte before the chunk to see whether its first line starts inside it
+            long mapStart = start == 0 ? 0 : start - 1;
+            int limit = (int) (end - mapStart);
+            MappedByteBuffer data = map(mapStart, Math.min(fileSize, end + LINE_SLACK));
+            int position = 0;
+            if (start > 0) {
+                position = indexOfNewline(data, 0, limit);
+                if (position < 0) {
+                    // No line starts in this chunk
+                    return stats;
+                }
+                position++;
+            }
+            while (position < limit) {
+                int lineEnd = indexOfNewline(data, position, data.limit());
+                while (lineEnd < 0 && mapStart + data.limit() < fileSize) {
+                    // The line runs past the mapped slack
+                    int searched = data.limit();
+                    data = map(mapStart, Math.min(fileSize, mapStart + (long) data.limit() * 2));
+                    lineEnd = indexOfNewline(data, searched, data.limit());
+                }
+                if (lineEnd < 0) {
+                    lineEnd = data.limit();
+                }
+                if (parser.parse(data, position, lineEnd)) {
+                    stats.addEvent(parser, data);
+                } else if (lineEnd > position) {
+                    stats.addOtherLine();
+                }
+                position = lineEnd + 1;
+            }
+            return stats;
+        }
+
+        private MappedByteBuffer map(long from, long to) throws IOException {
+            if (to - from > Integer.MAX_VALUE) {
+                throw new IOException("Line at " + from + " is longer than 2 GB");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        }
+    }
+
+    private static int indexOfNewline(MappedByteBuffer data, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
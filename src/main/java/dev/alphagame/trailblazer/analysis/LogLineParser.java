@@ -0,0 +1,403 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.analysis;
+
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.formatters.JsonWriter;
+import dev.alphagame.trailblazer.formatters.SimpleFormatter;
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+
+/**
+ * Parses the first line of events written by {@link SimpleFormatter} and
+ * {@link dev.alphagame.trailblazer.formatters.JSONFormatter} in place, without decoding it.
+ * <p>
+ * After {@link #parse(ByteBuffer, int, int)} accepts a line, the level is known and the logger
+ * name and message are available as byte ranges of the buffer. For JSON lines these ranges are
+ * the string contents as written, with their escapes. The timestamp is only parsed when asked
+ * for: Simple timestamps with the date pattern of the parser in the default time zone, caching
+ * the last one since neighbouring lines often share it. Lines that are not the start of an
+ * event, such as the stack trace lines following a Simple event, are rejected.
+ * <p>
+ * Parsers are not thread-safe; use one per thread.
+ */
+public final class LogLineParser {
+    /**
+     * Returned by {@link #getTimestamp()} when the line has no timestamp that can be parsed.
+     */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private static final byte[] JSON_START = ascii("{\"level\":\"");
+    private static final byte[] JSON_LOGGER = ascii(",\"logger\":\"");
+    private static final byte[] JSON_MESSAGE = ascii(",\"message\":\"");
+    private static final byte[] JSON_TIMESTAMP = ascii(",\"timestamp\":");
+    private static final byte[] FIELD_SEPARATOR = ascii("] [");
+    private static final byte[] MESSAGE_SEPARATOR = ascii("] ");
+    private static final byte[] TRACE_REFERENCE = ascii(" [trace ");
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private final SimpleDateFormat dateFormat;
+    private ByteBuffer data;
+    private int lineEnd;
+    private boolean json;
+    private LogLevel level;
+    private int dateStart;
+    private int dateEnd;
+    private int loggerStart;
+    private int loggerEnd;
+    private int messageStart;
+    private int messageEnd;
+    private byte[] lastDate = new byte[0];
+    private long lastDateMillis = NO_TIMESTAMP;
+
+    /**
+     * Creates a parser for Simple lines with {@link SimpleFormatter#DEFAULT_DATE_FORMAT}.
+     */
+    public LogLineParser() {
+        this(SimpleFormatter.DEFAULT_DATE_FORMAT);
+    }
+
+    /**
+     * Creates a parser.
+     *
+     * @param datePattern The {@link SimpleDateFormat} pattern of Simple lines.
+     */
+    public LogLineParser(String datePattern) {
+        this.dateFormat = new SimpleDateFormat(datePattern);
+    }
+
+    /**
+     * Parses a line.
+     *
+     * @param data  The buffer holding the line. Only absolute reads are made.
+     * @param start The position of the first byte of the line.
+     * @param end   The position just after the last byte, excluding the line feed.
+     * @return true if the line starts an event.
+     */
+    public boolean parse(ByteBuffer data, int start, int end) {
+        this.data = data;
+        this.lineEnd = end > start && data.get(end - 1) == '\r' ? end - 1 : end;
+        messageStart = -1;
+        if (startsWith(start, JSON_START)) {
+            json = true;
+            return parseJson(start + JSON_START.length);
+        }
+        if (end > start && data.get(start) == '[') {
+            json = false;
+            return parseSimple(start);
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the last line parsed was a JSON line.
+     *
+     * @return true for JSON, false for Simple.
+     */
+    public boolean isJson() {
+        return json;
+    }
+
+    /**
+     * Gets the level of the last line parsed.
+     *
+     * @return The level.
+     */
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the position of the logger name of the last line parsed.
+     *
+     * @return The position of its first byte.
+     */
+    public int getLoggerStart() {
+        return loggerStart;
+    }
+
+    /**
+     * Gets the end of the logger name of the last line parsed.
+     *
+     * @return The position just after its last byte.
+     */
+    public int getLoggerEnd() {
+        return loggerEnd;
+    }
+
+    /**
+     * Checks whether the logger name of the last line parsed is exactly the given bytes.
+     *
+     * @param name The UTF-8 name, JSON-escaped when the line is JSON.
+     * @return true if the names are equal.
+     */
+    public boolean loggerEquals(byte[] name) {
+        return loggerEnd - loggerStart == name.length && startsWith(loggerStart, name);
+    }
+
+    /**
+     * Gets the position of the message of the last line parsed. For Simple lines the diagnostic
+     * context is skipped, and the message ends before the key-value fields and the stack trace
+     * reference that may follow it, as in the message of the JSON line of the same event. Trailing
+     * {@code key=value} words that are part of the message itself are skipped too.
+     *
+     * @return The position of its first byte.
+     */
+    public int getMessageStart() {
+        findMessage();
+        return messageStart;
+    }
+
+    /**
+     * Gets the end of the message of the last line parsed.
+     *
+     * @return The position just after its last byte.
+     */
+    public int getMessageEnd() {
+        findMessage();
+        return messageEnd;
+    }
+
+    /**
+     * Gets the timestamp of the last line parsed.
+     *
+     * @return The time in epoch milliseconds, or {@link #NO_TIMESTAMP} if it can't be parsed.
+     */
+    public long getTimestamp() {
+        if (json) {
+            findMessage();
+            int position = startsWith(messageEnd + 1, JSON_TIMESTAMP)
+                    ? messageEnd + 1
+                    : indexOf(loggerEnd, JSON_TIMESTAMP);
+            return position < 0 ? NO_TIMESTAMP : parseDecimal(position + JSON_TIMESTAMP.length);
+        }
+        int length = dateEnd - dateStart;
+        if (length != lastDate.length || !startsWith(dateStart, lastDate)) {
+            lastDate = new byte[length];
+            for (int i = 0; i < length; i++) {
+                lastDate[i] = data.get(dateStart + i);
+            }
+            try {
+                lastDateMillis = dateFormat.parse(new String(lastDate, StandardCharsets.UTF_8)).getTime();
+            } catch (ParseException e) {
+                lastDateMillis = NO_TIMESTAMP;
+            }
+        }
+        return lastDateMillis;
+    }
+
+    /**
+     * Gets the JSON-escaped form of a string, as it appears between the quotes of a JSON line.
+     *
+     * @param value The string.
+     * @return The escaped UTF-8 bytes.
+     */
+    public static byte[] escapeJson(String value) {
+        Utf8Buffer out = new Utf8Buffer();
+        JsonWriter.writeString(out, value);
+        return Arrays.copyOfRange(out.array(), 1, out.length() - 1);
+    }
+
+    private boolean parseJson(int levelStart) {
+        if (!matchLevel(levelStart, (byte) '"')) {
+            return false;
+        }
+        int position = levelStart + level.getEncodedName().length + 1;
+        if (!startsWith(position, JSON_LOGGER)) {
+            return false;
+        }
+        loggerStart = position + JSON_LOGGER.length;
+        loggerEnd = stringEnd(loggerStart);
+        return loggerEnd >= 0;
+    }
+
+    private boolean parseSimple(int start) {
+        dateStart = start + 1;
+        dateEnd = indexOf(dateStart, FIELD_SEPARATOR);
+        if (dateEnd < 0) {
+            return false;
+        }
+        int levelStart = dateEnd + FIELD_SEPARATOR.length;
+        if (!matchLevel(levelStart, (byte) ']')) {
+            return false;
+        }
+        int position = levelStart + level.getEncodedName().length;
+        if (!startsWith(position, FIELD_SEPARATOR)) {
+            return false;
+        }
+        loggerStart = position + FIELD_SEPARATOR.length;
+        loggerEnd = indexOf(loggerStart, MESSAGE_SEPARATOR);
+        if (loggerEnd < 0) {
+            // A line ending right after the logger name has an empty message
+            if (lineEnd > loggerStart && data.get(lineEnd - 1) == ']') {
+                loggerEnd = lineEnd - 1;
+                return true;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private void findMessage() {
+        if (messageStart >= 0) {
+            return;
+        }
+        if (json) {
+            int position = loggerEnd + 1;
+            int end = startsWith(position, JSON_MESSAGE) ? stringEnd(position + JSON_MESSAGE.length) : -1;
+            messageStart = end >= 0 ? position + JSON_MESSAGE.length : position;
+            messageEnd = end >= 0 ? end : position;
+            return;
+        }
+        messageStart = Math.min(loggerEnd + MESSAGE_SEPARATOR.length, lineEnd);
+        messageEnd = lineEnd;
+        if (messageStart < lineEnd && data.get(messageStart) == '[') {
+            // Skip a diagnostic context such as [requestId=r-42, tenant=acme]
+            int contextEnd = indexOf(messageStart, MESSAGE_SEPARATOR);
+            if (contextEnd > 0 && indexOf(messageStart, contextEnd, (byte) '=') > 0) {
+                messageStart = contextEnd + MESSAGE_SEPARATOR.length;
+            }
+        }
+        if (messageEnd > messageStart && data.get(messageEnd - 1) == ']') {
+            // Drop a stack trace reference such as [trace 1a2b3c4d, seen 2 times]
+            int reference = lastIndexOf(messageStart, messageEnd, TRACE_REFERENCE);
+            if (reference >= 0) {
+                messageEnd = reference;
+            }
+        }
+        // Drop key-value fields such as orderId=7 cached=true, keeping the first word
+        int space = lastIndexOf(messageStart, messageEnd, (byte) ' ');
+        while (space > messageStart && isField(space + 1, messageEnd)) {
+            messageEnd = space;
+            space = lastIndexOf(messageStart, messageEnd, (byte) ' ');
+        }
+    }
+
+    /**
+     * Checks whether a word is a {@code key=value} field with a non-empty key made of letters,
+     * digits, {@code _}, {@code .} and {@code -}.
+     */
+    private boolean isField(int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = data.get(i);
+            if (b == '=') {
+                return i > start;
+            }
+            if (!(b >= 'a' && b <= 'z' || b >= 'A' && b <= 'Z' || b >= '0' && b <= '9'
+                    || b == '_' || b == '.' || b == '-')) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchLevel(int start, byte terminator) {
+        for (LogLevel candidate : LEVELS) {
+            byte[] name = candidate.getEncodedName();
+            if (start + name.length < lineEnd && data.get(start + name.length) == terminator
+                    && startsWith(start, name)) {
+                level = candidate;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the closing quote of a JSON string whose contents start at a position.
+     */
+    private int stringEnd(int start) {
+        for (int i = start; i < lineEnd; i++) {
+            byte b = data.get(i);
+            if (b == '"') {
+                return i;
+            }
+            if (b == '\\') {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private long parseDecimal(int position) {
+        boolean negative = position < lineEnd && data.get(position) == '-';
+        if (negative) {
+            position++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (position < lineEnd) {
+            byte b = data.get(position++);
+            if (b < '0' || b > '9') {
+                break;
+            }
+            value = value * 10 + (b - '0');
+            digits++;
+        }
+        if (digits == 0) {
+            return NO_TIMESTAMP;
+        }
+        return negative ? -value : value;
+    }
+
+    private boolean startsWith(int position, byte[] prefix) {
+        if (position < 0 || lineEnd - position < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data.get(position + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(int from, byte[] pattern) {
+        int last = lineEnd - pattern.length;
+        for (int i = from; i <= last; i++) {
+            if (data.get(i) == pattern[0] && startsWith(i, pattern)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lastIndexOf(int from, int to, byte[] pattern) {
+        for (int i = to - pattern.length; i >= from; i--) {
+            if (data.get(i) == pattern[0] && startsWith(i, pattern)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lastIndexOf(int from, int to, byte value) {
+        for (int i = to - 1; i >= from; i--) {
+            if (data.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOf(int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (data.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,467 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.analysis;
+
+import dev.alphagame.trailblazer.LogLevel;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts of the events in a log: per level, per logger with their errors, and per message.
+ * <p>
+ * Messages are grouped with every run of digits replaced by {@code #}, so
+ * {@code Order 17 placed} and {@code Order 42 placed} count as {@code Order # placed}; only the
+ * first {@value #MESSAGE_PREFIX} bytes of a message are compared. Loggers and messages are told
+ * apart by a 64-bit hash of their bytes.
+ * <p>
+ * At most {@value #MAX_MESSAGES} distinct messages are tracked. Message counts are exact as long
+ * as the log has no more than that; past it, the least frequent half of the messages is dropped
+ * whenever the table fills up, and merged tables are added up before being cut back to the limit.
+ * The top messages are then approximate: each count may be low by up to
+ * {@link #getMessageCountError()}, while any message more frequent than that is still listed.
+ * Events whose message is not tracked still count everywhere else, and in
+ * {@link #getUntrackedMessages()}.
+ * <p>
+ * Instances are filled by one thread and combined with {@link #merge(LogStats)}.
+ */
+public final class LogStats {
+    /**
+     * The number of leading message bytes used to group messages.
+     */
+    public static final int MESSAGE_PREFIX = 256;
+
+    /**
+     * The maximum number of distinct messages tracked.
+     */
+    public static final int MAX_MESSAGES = 1 << 16;
+
+    private static final LogLevel[] LEVELS = LogLevel.values();
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] levelCounts = new long[LEVELS.length];
+    private final CountTable loggers = new CountTable(Integer.MAX_VALUE);
+    private final CountTable messages = new CountTable(MAX_MESSAGES);
+    private long otherLines;
+    private long untrackedMessages;
+    private byte[] scratch = new byte[MESSAGE_PREFIX];
+
+    /**
+     * Gets the number of events.
+     *
+     * @return The event count.
+     */
+    public long getEventCount() {
+        long events = 0;
+        for (long count : levelCounts) {
+            events += count;
+        }
+        return events;
+    }
+
+    /**
+     * Gets the number of events of a level.
+     *
+     * @param level The level.
+     * @return The event count.
+     */
+    public long getLevelCount(LogLevel level) {
+        return levelCounts[level.ordinal()];
+    }
+
+    /**
+     * Gets the number of ERROR and FATAL events.
+     *
+     * @return The error count.
+     */
+    public long getErrorCount() {
+        return levelCounts[LogLevel.ERROR.ordinal()] + levelCounts[LogLevel.FATAL.ordinal()];
+    }
+
+    /**
+     * Gets the share of events that are ERROR or FATAL.
+     *
+     * @return The error rate between 0 and 1, or 0 when there are no events.
+     */
+    public double getErrorRate() {
+        long events = getEventCount();
+        return events == 0 ? 0 : (double) getErrorCount() / events;
+    }
+
+    /**
+     * Gets the number of lines that don't start an event, such as stack trace lines.
+     *
+     * @return The line count.
+     */
+    public long getOtherLines() {
+        return otherLines;
+    }
+
+    /**
+     * Gets the number of events whose message is not counted under a tracked message because
+     * the limit was reached.
+     *
+     * @return The event count.
+     */
+    public long getUntrackedMessages() {
+        return untrackedMessages;
+    }
+
+    /**
+     * Gets the most by which the count of a message may be low, after messages were dropped to
+     * stay within {@value #MAX_MESSAGES}.
+     *
+     * @return The bound, 0 when the message counts are exact.
+     */
+    public long getMessageCountError() {
+        return messages.error;
+    }
+
+    /**
+     * Gets the number of events per logger.
+     *
+     * @return The counts by logger name, most frequent first.
+     */
+    public Map<String, Long> getLoggerCounts() {
+        return toMap(loggers.sorted(Integer.MAX_VALUE), false);
+    }
+
+    /**
+     * Gets the number of ERROR and FATAL events per logger.
+     *
+     * @return The error counts by logger name, in the order of {@link #getLoggerCounts()}.
+     */
+    public Map<String, Long> getLoggerErrorCounts() {
+        return toMap(loggers.sorted(Integer.MAX_VALUE), true);
+    }
+
+    /**
+     * Gets the most frequent messages.
+     *
+     * @param limit The maximum number of messages.
+     * @return The grouped messages and their counts, most frequent first. The counts are exact
+     *         unless {@link #getMessageCountError()} is positive.
+     */
+    public List<Map.Entry<String, Long>> getTopMessages(int limit) {
+        List<Map.Entry<String, Long>> top = new ArrayList<>();
+        for (int slot : messages.sorted(limit)) {
+            top.add(new AbstractMap.SimpleImmutableEntry<>(messages.names[slot], messages.counts[slot]));
+        }
+        return top;
+    }
+
+    /**
+     * Adds the counts of another instance to this one.
+     *
+     * @param other The counts to add.
+     */
+    public void merge(LogStats other) {
+        for (int i = 0; i < levelCounts.length; i++) {
+            levelCounts[i] += other.levelCounts[i];
+        }
+        otherLines += other.otherLines;
+        untrackedMessages += other.untrackedMessages + messages.merge(other.messages);
+        loggers.merge(other.loggers);
+    }
+
+    /**
+     * Prints a report of the counts.
+     *
+     * @param out         The stream to print to.
+     * @param topMessages The number of messages to list.
+     */
+    public void print(PrintStream out, int topMessages) {
+        long events = getEventCount();
+        out.printf("Events: %,d (%,d other lines)%n", events, otherLines);
+        out.println("Levels:");
+        for (LogLevel level : LEVELS) {
+            out.printf("  %-5s %,14d  %6.2f%%%n", level, levelCounts[level.ordinal()],
+                    percent(levelCounts[level.ordinal()], events));
+        }
+        out.printf("Error rate: %.3f%%%n", getErrorRate() * 100);
+        out.println("Loggers:");
+        for (int slot : loggers.sorted(Integer.MAX_VALUE)) {
+            out.printf("  %,14d  errors %,d (%.3f%%)  %s%n", loggers.counts[slot], loggers.errors[slot],
+                    percent(loggers.errors[slot], loggers.counts[slot]), loggers.names[slot]);
+        }
+        out.println("Top messages:");
+        for (int slot : messages.sorted(topMessages)) {
+            out.printf("  %,14d  %s%n", messages.counts[slot], messages.names[slot]);
+        }
+        if (untrackedMessages > 0) {
+            out.printf("  %,14d  (other messages, not tracked)%n", untrackedMessages);
+        }
+        if (messages.error > 0) {
+            out.printf("  Message counts may be low by up to %,d%n", messages.error);
+        }
+    }
+
+    /**
+     * Counts the event whose first line was just parsed.
+     */
+    void addEvent(LogLineParser parser, ByteBuffer data) {
+        LogLevel level = parser.getLevel();
+        levelCounts[level.ordinal()]++;
+        boolean error = level == LogLevel.ERROR || level == LogLevel.FATAL;
+
+        int loggerStart = parser.getLoggerStart();
+        int loggerEnd = parser.getLoggerEnd();
+        long hash = FNV_OFFSET;
+        for (int i = loggerStart; i < loggerEnd; i++) {
+            hash = (hash ^ (data.get(i) & 0xFF)) * FNV_PRIME;
+        }
+        int slot = loggers.slot(hash);
+        if (loggers.names[slot] == null) {
+            loggers.names[slot] = decode(data, loggerStart, loggerEnd, false);
+        }
+        loggers.counts[slot]++;
+        if (error) {
+            loggers.errors[slot]++;
+        }
+
+        int messageStart = parser.getMessageStart();
+        int messageEnd = Math.min(parser.getMessageEnd(), messageStart + MESSAGE_PREFIX);
+        hash = FNV_OFFSET;
+        boolean digits = false;
+        for (int i = messageStart; i < messageEnd; i++) {
+            byte b = data.get(i);
+            if (b >= '0' && b <= '9') {
+                if (digits) {
+                    continue;
+                }
+                digits = true;
+                b = '#';
+            } else {
+                digits = false;
+            }
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        slot = messages.slot(hash);
+        if (slot < 0) {
+            // Make room by dropping the less frequent half
+            untrackedMessages += messages.evict(MAX_MESSAGES / 2);
+            slot = messages.slot(hash);
+        }
+        if (messages.names[slot] == null) {
+            messages.names[slot] = decode(data, messageStart, messageEnd, true);
+        }
+        messages.counts[slot]++;
+    }
+
+    /**
+     * Counts a line that doesn't start an event.
+     */
+    void addOtherLine() {
+        otherLines++;
+    }
+
+    private String decode(ByteBuffer data, int start, int end, boolean maskDigits) {
+        int length = 0;
+        boolean digits = false;
+        for (int i = start; i < end; i++) {
+            byte b = data.get(i);
+            if (maskDigits && b >= '0' && b <= '9') {
+                if (digits) {
+                    continue;
+                }
+                digits = true;
+                b = '#';
+            } else {
+                digits = false;
+            }
+            if (length == scratch.length) {
+                scratch = Arrays.copyOf(scratch, length * 2);
+            }
+            scratch[length++] = b;
+        }
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private Map<String, Long> toMap(int[] slots, boolean errors) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (int slot : slots) {
+            map.put(loggers.names[slot], errors ? loggers.errors[slot] : loggers.counts[slot]);
+        }
+        return map;
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : part * 100.0 / total;
+    }
+
+    /**
+     * An open-addressing table of counts keyed by 64-bit hashes.
+     */
+    private static final class CountTable {
+        private final int maxSize;
+        private long[] hashes = new long[64];
+        private long[] counts = new long[64];
+        private long[] errors = new long[64];
+        private String[] names = new String[64];
+        private int size;
+        private long error;
+
+        CountTable(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Finds the slot of a hash, adding it if there is room.
+         *
+         * @return The slot, or -1 if the hash is new and the table is full.
+         */
+        int slot(long hash) {
+            return slot(hash, maxSize);
+        }
+
+        private int slot(long hash, int maxSize) {
+            if (hash == 0) {
+                // 0 marks an empty slot
+                hash = 1;
+            }
+            int mask = hashes.length - 1;
+            int slot = (int) (hash ^ (hash >>> 32)) & mask;
+            while (hashes[slot] != 0) {
+                if (hashes[slot] == hash) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (size >= maxSize) {
+                return -1;
+            }
+            if ((size + 1) * 2 > hashes.length) {
+                grow();
+                return slot(hash, maxSize);
+            }
+            size++;
+            hashes[slot] = hash;
+            return slot;
+        }
+
+        /**
+         * Adds the counts of another table, then drops the least frequent hashes past the
+         * maximum size and returns their count.
+         */
+        long merge(CountTable other) {
+            for (int i = 0; i < other.hashes.length; i++) {
+                if (other.hashes[i] == 0) {
+                    continue;
+                }
+                int slot = slot(other.hashes[i], Integer.MAX_VALUE);
+                if (names[slot] == null) {
+                    names[slot] = other.names[i];
+                }
+                counts[slot] += other.counts[i];
+                errors[slot] += other.errors[i];
+            }
+            error += other.error;
+            return evict(maxSize);
+        }
+
+        /**
+         * Drops every hash counted no more often than the most frequent one past {@code keep},
+         * so that at most {@code keep} remain, and returns their count. A dropped hash that comes
+         * back starts over, so its count may end up low by the count it was dropped at, which is
+         * added to the error.
+         */
+        long evict(int keep) {
+            if (size <= keep) {
+                return 0;
+            }
+            long[] sorted = new long[size];
+            int used = 0;
+            for (int i = 0; i < hashes.length; i++) {
+                if (hashes[i] != 0) {
+                    sorted[used++] = counts[i];
+                }
+            }
+            Arrays.sort(sorted);
+            long threshold = sorted[size - keep - 1];
+            long[] oldHashes = hashes;
+            long[] oldCounts = counts;
+            long[] oldErrors = errors;
+            String[] oldNames = names;
+            hashes = new long[oldHashes.length];
+            counts = new long[oldHashes.length];
+            errors = new long[oldHashes.length];
+            names = new String[oldHashes.length];
+            size = 0;
+            long dropped = 0;
+            for (int i = 0; i < oldHashes.length; i++) {
+                if (oldHashes[i] == 0) {
+                    continue;
+                }
+                if (oldCounts[i] <= threshold) {
+                    dropped += oldCounts[i];
+                    continue;
+                }
+                int slot = slot(oldHashes[i], Integer.MAX_VALUE);
+                counts[slot] = oldCounts[i];
+                errors[slot] = oldErrors[i];
+                names[slot] = oldNames[i];
+            }
+            error += threshold;
+            return dropped;
+        }
+
+        /**
+         * Gets the used slots, highest count first.
+         */
+        int[] sorted(int limit) {
+            List<Integer> slots = new ArrayList<>(size);
+            for (int i = 0; i < hashes.length; i++) {
+                if (hashes[i] != 0) {
+                    slots.add(i);
+                }
+            }
+            slots.sort(Comparator.comparingLong((Integer slot) -> counts[slot]).reversed()
+                    .thenComparing(slot -> names[slot], Comparator.nullsLast(Comparator.naturalOrder())));
+            int count = Math.min(limit, slots.size());
+            int[] result = new int[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = slots.get(i);
+            }
+            return result;
+        }
+
+        private void grow() {
+            long[] oldHashes = hashes;
+            long[] oldCounts = counts;
+            long[] oldErrors = errors;
+            String[] oldNames = names;
+            int capacity = oldHashes.length * 2;
+            hashes = new long[capacity];
+            counts = new long[capacity];
+            errors = new long[capacity];
+            names = new String[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldHashes.length; i++) {
+                long hash = oldHashes[i];
+                if (hash == 0) {
+                    continue;
+                }
+                int slot = (int) (hash ^ (hash >>> 32)) & mask;
+                while (hashes[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = hash;
+                counts[slot] = oldCounts[i];
+                errors[slot] = oldErrors[i];
+                names[slot] = oldNames[i];
+            }
+        }
+    }
+}
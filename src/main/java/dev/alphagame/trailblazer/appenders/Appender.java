@@ -0,0 +1,29 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import dev.alphagame.trailblazer.LogEvent;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * A destination for log events that have already been rendered by a layout.
+ * Appenders must be safe to call from several threads at once.
+ */
+public interface Appender extends Closeable, Flushable {
+    /**
+     * Writes one rendered event.
+     *
+     * @param event  The event that was rendered. It is reused after this call returns.
+     * @param data   The rendered bytes. The array is reused after this call returns.
+     * @param offset The offset of the first byte.
+     * @param length The number of bytes.
+     * @throws IOException If the bytes cannot be written.
+     */
+    void append(LogEvent event, byte[] data, int offset, int length) throws IOException;
+}
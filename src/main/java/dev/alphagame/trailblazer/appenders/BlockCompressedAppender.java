@@ -0,0 +1,512 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+import dev.alphagame.trailblazer.utils.ShutdownHooks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * An appender that writes rendered events to a file as independently deflate-compressed blocks,
+ * so that a time range can be read back with {@link BlockCompressedReader} by decompressing only
+ * the blocks that overlap it.
+ * <p>
+ * Events are copied into an uncompressed block on the logging thread. Once the block holds the
+ * block size, has been open longer than the seal interval, or is flushed, it is handed to a
+ * background thread that compresses it and writes it with a single system call. Blocks are
+ * compressed at the fastest deflate level, which shrinks log text nearly as well as the default
+ * level at a fraction of the cost. When that thread falls behind and all blocks are waiting,
+ * logging threads wait for a block rather than dropping events.
+ * <p>
+ * The file starts with the magic bytes {@code TBLZ} and a version. Each block is a
+ * {@value #BLOCK_HEADER_SIZE}-byte header followed by the compressed payload:
+ * <pre>
+ * int  magic                 'TBZB'
+ * long firstTimestamp        earliest event timestamp in the block, in epoch milliseconds
+ * long lastTimestamp         latest event timestamp in the block
+ * long uncompressedOffset    offset of the block's first event in the uncompressed log
+ * int  uncompressedLength    bytes of event text in the block
+ * int  indexLength           bytes of the event index that precedes the text
+ * int  compressedLength      bytes of compressed payload after this header
+ * int  eventCount            number of events in the block
+ * int  crc                   CRC-32 of the compressed payload
+ * </pre>
+ * The payload inflates to an index of variable-length (timestamp - firstTimestamp, length) pairs,
+ * one per event, followed by the event text. A block cut short by a crash is ignored by the
+ * reader and removed when the file is opened for appending again. A block that fails to write
+ * is cut off right away and its events are lost, so the blocks written after it stay readable.
+ */
+public class BlockCompressedAppender implements Appender {
+    /**
+     * The default number of uncompressed bytes per block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    /**
+     * The default maximum time a block stays open before it is compressed, in milliseconds.
+     */
+    public static final long DEFAULT_SEAL_INTERVAL_MILLIS = 5000;
+
+    /**
+     * The default number of blocks that can be filling or waiting for compression.
+     */
+    public static final int DEFAULT_BLOCK_COUNT = 4;
+
+    static final byte[] MAGIC = { 'T', 'B', 'L', 'Z' };
+    static final int VERSION = 1;
+    static final int FILE_HEADER_SIZE = 8;
+    static final int BLOCK_MAGIC = 0x54425A42;
+    static final int BLOCK_HEADER_SIZE = 48;
+
+    private static final Block STOP = new Block(0);
+    private static final ScheduledExecutorService sealer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "trailblazer-block-sealer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Set<BlockCompressedAppender> openAppenders = ConcurrentHashMap.newKeySet();
+
+    static {
+        ShutdownHooks.addOutput(() -> {
+            for (BlockCompressedAppender appender : openAppenders) {
+                try {
+                    appender.flush();
+                } catch (IOException ignored) {
+                    // Nothing left to report to at this point
+                }
+            }
+        });
+    }
+
+    private final File file;
+    private final int blockSize;
+    private final long sealIntervalNanos;
+    private final FileChannel channel;
+    private final BlockingQueue<Block> freeBlocks;
+    private final BlockingQueue<Block> sealedBlocks = new LinkedBlockingQueue<>();
+    private final Thread compressor;
+    private final ScheduledFuture<?> sealTask;
+    private final Object progressLock = new Object();
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+    private byte[] index = new byte[1024];
+    private byte[] compressed = new byte[16 * 1024];
+    private Block current;
+    private long uncompressedOffset;
+    private long sealedCount;
+    private long writtenCount;
+    private long blocksWritten;
+    private long bytesWritten;
+    private boolean closed;
+
+    /**
+     * Opens a file for appending with the default block size, seal interval and block count.
+     *
+     * @param file The file to append to. Missing parent directories are created.
+     * @throws IOException If the file cannot be opened or is not a block-compressed log.
+     */
+    public BlockCompressedAppender(File file) throws IOException {
+        this(file, DEFAULT_BLOCK_SIZE, DEFAULT_SEAL_INTERVAL_MILLIS, DEFAULT_BLOCK_COUNT);
+    }
+
+    /**
+     * Opens a file for appending.
+     *
+     * @param file               The file to append to. Missing parent directories are created.
+     * @param blockSize          The number of uncompressed bytes collected per block.
+     * @param sealIntervalMillis The maximum time a block stays open, or 0 to only seal full blocks.
+     * @param blockCount         The number of blocks that can be filling or waiting for compression.
+     * @throws IOException If the file cannot be opened or is not a block-compressed log.
+     */
+    public BlockCompressedAppender(File file, int blockSize, long sealIntervalMillis, int blockCount)
+            throws IOException {
+        if (blockSize <= 0 || blockCount < 2) {
+            throw new IllegalArgumentException("Block size must be positive and block count at least 2");
+        }
+        this.file = file;
+        this.blockSize = blockSize;
+        this.sealIntervalNanos = TimeUnit.MILLISECONDS.toNanos(sealIntervalMillis);
+        this.channel = openChannel(file);
+        try {
+            this.uncompressedOffset = prepareFile();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.freeBlocks = new ArrayBlockingQueue<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            freeBlocks.add(new Block(blockSize));
+        }
+        this.deflater = new Deflater(Deflater.BEST_SPEED);
+        this.compressor = new Thread(this::compressBlocks, "trailblazer-block-compressor");
+        this.compressor.setDaemon(true);
+        this.compressor.start();
+        this.sealTask = sealIntervalMillis > 0
+                ? sealer.scheduleWithFixedDelay(this::sealIfDue, sealIntervalMillis, sealIntervalMillis,
+                        TimeUnit.MILLISECONDS)
+                : null;
+        openAppenders.add(this);
+    }
+
+    /**
+     * Gets the file this appender writes to.
+     *
+     * @return The file.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the number of blocks written since the appender was opened.
+     *
+     * @return The block count.
+     */
+    public long getBlocksWritten() {
+        synchronized (progressLock) {
+            return blocksWritten;
+        }
+    }
+
+    /**
+     * Gets the number of compressed bytes written since the appender was opened, including headers.
+     *
+     * @return The byte count.
+     */
+    public long getBytesWritten() {
+        synchronized (progressLock) {
+            return bytesWritten;
+        }
+    }
+
+    @Override
+    public synchronized void append(LogEvent event, byte[] data, int offset, int length) throws IOException {
+        if (closed) {
+            throw new IOException("Appender for " + file + " is closed");
+        }
+        if (current != null && current.length > 0 && current.length + length > blockSize) {
+            seal();
+        }
+        if (current == null) {
+            current = takeFreeBlock();
+        }
+        current.add(event.getTimestamp(), data, offset, length);
+        if (current.length >= blockSize) {
+            seal();
+        }
+    }
+
+    /**
+     * Compresses the open block and waits until every block handed to the background thread
+     * has been written to the file.
+     *
+     * @throws IOException If the thread was interrupted while waiting.
+     */
+    @Override
+    public void flush() throws IOException {
+        long target;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (current != null && current.count > 0) {
+                seal();
+            }
+            synchronized (progressLock) {
+                target = sealedCount;
+            }
+        }
+        awaitWritten(target);
+    }
+
+    /**
+     * Compresses and writes the open block, stops the background thread and closes the file.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        openAppenders.remove(this);
+        if (sealTask != null) {
+            sealTask.cancel(false);
+        }
+        try {
+            flush();
+            sealedBlocks.add(STOP);
+            compressor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing " + file, e);
+        } finally {
+            closed = true;
+            deflater.end();
+            channel.close();
+        }
+    }
+
+    private void seal() {
+        Block block = current;
+        current = null;
+        block.uncompressedOffset = uncompressedOffset;
+        uncompressedOffset += block.length;
+        synchronized (progressLock) {
+            sealedCount++;
+        }
+        sealedBlocks.add(block);
+    }
+
+    private Block takeFreeBlock() throws IOException {
+        try {
+            return freeBlocks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a free block", e);
+        }
+    }
+
+    private void awaitWritten(long target) throws IOException {
+        synchronized (progressLock) {
+            while (writtenCount < target) {
+                try {
+                    progressLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while flushing " + file, e);
+                }
+            }
+        }
+    }
+
+    private void sealIfDue() {
+        synchronized (this) {
+            if (closed || current == null || current.count == 0
+                    || System.nanoTime() - current.openedNanos < sealIntervalNanos) {
+                return;
+            }
+            seal();
+        }
+    }
+
+    private void compressBlocks() {
+        try {
+            for (;;) {
+                Block block = sealedBlocks.take();
+                if (block == STOP) {
+                    return;
+                }
+                long written = 0;
+                try {
+                    written = writeBlock(block);
+                } catch (IOException e) {
+                    LoggerMetrics.recordWriteError();
+                    System.err.println("Trailblazer: failed to write block to " + file + ": " + e);
+                } finally {
+                    block.reset();
+                    freeBlocks.add(block);
+                    synchronized (progressLock) {
+                        writtenCount++;
+                        if (written > 0) {
+                            blocksWritten++;
+                            bytesWritten += written;
+                        }
+                        progressLock.notifyAll();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // Stopped
+        }
+    }
+
+    private long writeBlock(Block block) throws IOException {
+        int indexLength = 0;
+        long first = block.firstTimestamp;
+        for (int i = 0; i < block.count; i++) {
+            if (index.length - indexLength < 15) {
+                index = Arrays.copyOf(index, index.length * 2);
+            }
+            indexLength = putVarLong(index, indexLength, block.timestamps[i] - first);
+            indexLength = putVarLong(index, indexLength, block.lengths[i]);
+        }
+
+        deflater.reset();
+        int compressedLength = deflate(index, indexLength, 0);
+        compressedLength = deflate(block.data, block.length, compressedLength);
+        deflater.finish();
+        while (!deflater.finished()) {
+            compressedLength = deflateInto(compressedLength);
+        }
+        crc.reset();
+        crc.update(compressed, 0, compressedLength);
+
+        header.clear();
+        header.putInt(BLOCK_MAGIC)
+                .putLong(first)
+                .putLong(block.lastTimestamp)
+                .putLong(block.uncompressedOffset)
+                .putInt(block.length)
+                .putInt(indexLength)
+                .putInt(compressedLength)
+                .putInt(block.count)
+                .putInt((int) crc.getValue());
+        header.flip();
+        ByteBuffer[] buffers = { header, ByteBuffer.wrap(compressed, 0, compressedLength) };
+        long total = BLOCK_HEADER_SIZE + compressedLength;
+        long start = channel.position();
+        long written = 0;
+        try {
+            while (written < total) {
+                written += channel.write(buffers);
+            }
+        } catch (IOException e) {
+            // Cut off the partial block, so that the next one starts where this one should have
+            try {
+                channel.truncate(start);
+                channel.position(start);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+            }
+            throw e;
+        }
+        return total;
+    }
+
+    private int deflate(byte[] input, int length, int position) {
+        deflater.setInput(input, 0, length);
+        while (!deflater.needsInput()) {
+            position = deflateInto(position);
+        }
+        return position;
+    }
+
+    private int deflateInto(int position) {
+        if (position == compressed.length) {
+            compressed = Arrays.copyOf(compressed, compressed.length * 2);
+        }
+        return position + deflater.deflate(compressed, position, compressed.length - position);
+    }
+
+    /**
+     * Writes the file header to a new file, or drops a block cut short at the end of an
+     * existing one, and returns the uncompressed offset the next block starts at.
+     */
+    private long prepareFile() throws IOException {
+        if (channel.size() == 0) {
+            ByteBuffer fileHeader = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            fileHeader.put(MAGIC).put((byte) VERSION).rewind();
+            while (fileHeader.hasRemaining()) {
+                channel.write(fileHeader);
+            }
+            return 0;
+        }
+        BlockCompressedReader.checkFileHeader(channel);
+        List<BlockCompressedReader.BlockInfo> blocks = BlockCompressedReader.scan(channel, FILE_HEADER_SIZE);
+        long end = FILE_HEADER_SIZE;
+        long offset = 0;
+        if (!blocks.isEmpty()) {
+            BlockCompressedReader.BlockInfo last = blocks.get(blocks.size() - 1);
+            end = last.getFileOffset() + BLOCK_HEADER_SIZE + last.getCompressedLength();
+            offset = last.getUncompressedOffset() + last.getUncompressedLength();
+        }
+        if (end < channel.size()) {
+            channel.truncate(end);
+        }
+        channel.position(end);
+        return offset;
+    }
+
+    static int putVarLong(byte[] out, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[position++] = (byte) value;
+        return position;
+    }
+
+    private static FileChannel openChannel(File file) throws IOException {
+        File parentDir = file.getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+        return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    private static final class Block {
+        final int size;
+        byte[] data;
+        long[] timestamps = new long[64];
+        int[] lengths = new int[64];
+        int length;
+        int count;
+        long firstTimestamp;
+        long lastTimestamp;
+        long openedNanos;
+        long uncompressedOffset;
+
+        Block(int size) {
+            this.size = size;
+            this.data = new byte[size];
+        }
+
+        void add(long timestamp, byte[] source, int offset, int eventLength) {
+            if (count == 0) {
+                openedNanos = System.nanoTime();
+                firstTimestamp = timestamp;
+                lastTimestamp = timestamp;
+            } else {
+                // Events from different threads may arrive slightly out of order
+                firstTimestamp = Math.min(firstTimestamp, timestamp);
+                lastTimestamp = Math.max(lastTimestamp, timestamp);
+            }
+            if (count == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, count * 2);
+                lengths = Arrays.copyOf(lengths, count * 2);
+            }
+            if (data.length - length < eventLength) {
+                // An event larger than a block gets a block of its own
+                data = Arrays.copyOf(data, length + eventLength);
+            }
+            System.arraycopy(source, offset, data, length, eventLength);
+            timestamps[count] = timestamp;
+            lengths[count] = eventLength;
+            count++;
+            length += eventLength;
+        }
+
+        void reset() {
+            if (data.length > size) {
+                data = new byte[size];
+            }
+            length = 0;
+            count = 0;
+        }
+    }
+}
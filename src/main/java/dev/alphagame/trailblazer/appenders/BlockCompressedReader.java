@@ -0,0 +1,378 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads files written by {@link BlockCompressedAppender}, decompressing only the blocks whose
+ * time range overlaps the requested one.
+ * <p>
+ * Block headers are found by seeking from one header to the next without reading the payloads.
+ * The file may still be written to; each read picks up the blocks added since the last one, and
+ * a block that is only partly written is left for a later read. From the command line:
+ * <pre>
+ * java -cp trailblazer.jar dev.alphagame.trailblazer.appenders.BlockCompressedReader app.tblz [from to]
+ * </pre>
+ * prints the events of the file, or of the range between two epoch millisecond or ISO-8601 times.
+ */
+public class BlockCompressedReader implements Closeable {
+    private final FileChannel channel;
+    private final List<BlockInfo> blocks = new ArrayList<>();
+    private final Inflater inflater = new Inflater();
+    private final CRC32 crc = new CRC32();
+    private long scannedTo = BlockCompressedAppender.FILE_HEADER_SIZE;
+    private byte[] compressed = new byte[16 * 1024];
+    private byte[] payload = new byte[64 * 1024];
+
+    /**
+     * Receives the events read from a file.
+     */
+    @FunctionalInterface
+    public interface EventConsumer {
+        /**
+         * Accepts one event.
+         *
+         * @param timestamp The event timestamp, in epoch milliseconds.
+         * @param data      The rendered event. The array is reused after this call returns.
+         * @param offset    The offset of the first byte.
+         * @param length    The number of bytes.
+         * @throws IOException If the event cannot be processed.
+         */
+        void accept(long timestamp, byte[] data, int offset, int length) throws IOException;
+    }
+
+    /**
+     * Opens a file for reading.
+     *
+     * @param file The file.
+     * @throws IOException If the file cannot be opened or is not a block-compressed log.
+     */
+    public BlockCompressedReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            checkFileHeader(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the complete blocks of the file, in file order.
+     *
+     * @return The block headers.
+     * @throws IOException If the file cannot be read.
+     */
+    public List<BlockInfo> getBlocks() throws IOException {
+        refresh();
+        return Collections.unmodifiableList(blocks);
+    }
+
+    /**
+     * Reads the events logged within a time range.
+     *
+     * @param fromMillis The earliest timestamp to include, in epoch milliseconds.
+     * @param toMillis   The latest timestamp to include, in epoch milliseconds.
+     * @param consumer   The consumer to pass the events to, in file order.
+     * @return The number of events read.
+     * @throws IOException If the file cannot be read or a block is corrupt.
+     */
+    public long read(long fromMillis, long toMillis, EventConsumer consumer) throws IOException {
+        refresh();
+        long events = 0;
+        for (BlockInfo block : blocks) {
+            if (block.lastTimestamp < fromMillis || block.firstTimestamp > toMillis) {
+                continue;
+            }
+            inflate(block);
+            int position = 0;
+            int text = block.indexLength;
+            for (int i = 0; i < block.eventCount; i++) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = payload[position++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                int length = 0;
+                shift = 0;
+                do {
+                    b = payload[position++];
+                    length |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                long timestamp = block.firstTimestamp + delta;
+                if (timestamp >= fromMillis && timestamp <= toMillis) {
+                    consumer.accept(timestamp, payload, text, length);
+                    events++;
+                }
+                text += length;
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Copies the events logged within a time range to a stream.
+     *
+     * @param fromMillis The earliest timestamp to include, in epoch milliseconds.
+     * @param toMillis   The latest timestamp to include, in epoch milliseconds.
+     * @param out        The stream to write the rendered events to.
+     * @return The number of events copied.
+     * @throws IOException If the file cannot be read or the stream fails.
+     */
+    public long copyTo(long fromMillis, long toMillis, OutputStream out) throws IOException {
+        return read(fromMillis, toMillis, (timestamp, data, offset, length) -> out.write(data, offset, length));
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        channel.close();
+    }
+
+    /**
+     * Prints the events of a file, or of a time range of it, to standard output.
+     *
+     * @param args The file, optionally followed by the start and end of the range.
+     * @throws IOException If the file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1 && args.length != 3) {
+            System.err.println("Usage: BlockCompressedReader <file> [<from> <to>]");
+            System.exit(2);
+            return;
+        }
+        long from = args.length == 3 ? parseTime(args[1]) : Long.MIN_VALUE;
+        long to = args.length == 3 ? parseTime(args[2]) : Long.MAX_VALUE;
+        OutputStream out = new FileOutputStream(FileDescriptor.out);
+        try (BlockCompressedReader reader = new BlockCompressedReader(Paths.get(args[0]))) {
+            reader.copyTo(from, to, out);
+        }
+        out.flush();
+    }
+
+    private static long parseTime(String time) {
+        try {
+            return Long.parseLong(time);
+        } catch (NumberFormatException e) {
+            return Instant.parse(time).toEpochMilli();
+        }
+    }
+
+    private void refresh() throws IOException {
+        List<BlockInfo> added = scan(channel, scannedTo);
+        if (!added.isEmpty()) {
+            BlockInfo last = added.get(added.size() - 1);
+            scannedTo = last.fileOffset + BlockCompressedAppender.BLOCK_HEADER_SIZE + last.compressedLength;
+            blocks.addAll(added);
+        }
+    }
+
+    private void inflate(BlockInfo block) throws IOException {
+        if (compressed.length < block.compressedLength) {
+            compressed = new byte[block.compressedLength];
+        }
+        int size = block.indexLength + block.uncompressedLength;
+        if (payload.length < size) {
+            payload = new byte[size];
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(compressed, 0, block.compressedLength);
+        long position = block.fileOffset + BlockCompressedAppender.BLOCK_HEADER_SIZE;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Block at " + block.fileOffset + " is truncated");
+            }
+        }
+        crc.reset();
+        crc.update(compressed, 0, block.compressedLength);
+        if ((int) crc.getValue() != block.crc) {
+            throw new IOException("Block at " + block.fileOffset + " is corrupt");
+        }
+        inflater.reset();
+        inflater.setInput(compressed, 0, block.compressedLength);
+        try {
+            int inflated = 0;
+            while (inflated < size && !inflater.finished()) {
+                int n = inflater.inflate(payload, inflated, size - inflated);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += n;
+            }
+            if (inflated != size) {
+                throw new IOException("Block at " + block.fileOffset + " is corrupt");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Block at " + block.fileOffset + " is corrupt", e);
+        }
+    }
+
+    /**
+     * Checks that a channel holds a block-compressed log.
+     */
+    static void checkFileHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BlockCompressedAppender.FILE_HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // Keep reading
+        }
+        byte[] magic = BlockCompressedAppender.MAGIC;
+        if (header.position() < BlockCompressedAppender.FILE_HEADER_SIZE || header.get(0) != magic[0]
+                || header.get(1) != magic[1] || header.get(2) != magic[2] || header.get(3) != magic[3]) {
+            throw new IOException("Not a Trailblazer block-compressed log");
+        }
+        if (header.get(4) != BlockCompressedAppender.VERSION) {
+            throw new IOException("Unsupported block-compressed log version " + header.get(4));
+        }
+    }
+
+    /**
+     * Reads the headers of the complete blocks from an offset to the end of a channel.
+     */
+    static List<BlockInfo> scan(FileChannel channel, long offset) throws IOException {
+        List<BlockInfo> found = new ArrayList<>();
+        ByteBuffer header = ByteBuffer.allocate(BlockCompressedAppender.BLOCK_HEADER_SIZE);
+        long size = channel.size();
+        while (size - offset >= BlockCompressedAppender.BLOCK_HEADER_SIZE) {
+            header.clear();
+            while (header.hasRemaining() && channel.read(header, offset + header.position()) >= 0) {
+                // Keep reading
+            }
+            header.flip();
+            if (header.remaining() < BlockCompressedAppender.BLOCK_HEADER_SIZE
+                    || header.getInt() != BlockCompressedAppender.BLOCK_MAGIC) {
+                break;
+            }
+            BlockInfo block = new BlockInfo(offset, header.getLong(), header.getLong(), header.getLong(),
+                    header.getInt(), header.getInt(), header.getInt(), header.getInt(), header.getInt());
+            long end = offset + BlockCompressedAppender.BLOCK_HEADER_SIZE + block.compressedLength;
+            if (block.compressedLength < 0 || end > size) {
+                // Cut short by a crash, or still being written
+                break;
+            }
+            found.add(block);
+            offset = end;
+        }
+        return found;
+    }
+
+    /**
+     * The header of one compressed block.
+     */
+    public static final class BlockInfo {
+        private final long fileOffset;
+        private final long firstTimestamp;
+        private final long lastTimestamp;
+        private final long uncompressedOffset;
+        private final int uncompressedLength;
+        private final int indexLength;
+        private final int compressedLength;
+        private final int eventCount;
+        private final int crc;
+
+        BlockInfo(long fileOffset, long firstTimestamp, long lastTimestamp, long uncompressedOffset,
+                int uncompressedLength, int indexLength, int compressedLength, int eventCount, int crc) {
+            this.fileOffset = fileOffset;
+            this.firstTimestamp = firstTimestamp;
+            this.lastTimestamp = lastTimestamp;
+            this.uncompressedOffset = uncompressedOffset;
+            this.uncompressedLength = uncompressedLength;
+            this.indexLength = indexLength;
+            this.compressedLength = compressedLength;
+            this.eventCount = eventCount;
+            this.crc = crc;
+        }
+
+        /**
+         * Gets the position of the block header in the file.
+         *
+         * @return The file offset in bytes.
+         */
+        public long getFileOffset() {
+            return fileOffset;
+        }
+
+        /**
+         * Gets the earliest event timestamp in the block.
+         *
+         * @return The timestamp in epoch milliseconds.
+         */
+        public long getFirstTimestamp() {
+            return firstTimestamp;
+        }
+
+        /**
+         * Gets the latest event timestamp in the block.
+         *
+         * @return The timestamp in epoch milliseconds.
+         */
+        public long getLastTimestamp() {
+            return lastTimestamp;
+        }
+
+        /**
+         * Gets the position of the block's first event in the uncompressed log.
+         *
+         * @return The uncompressed offset in bytes.
+         */
+        public long getUncompressedOffset() {
+            return uncompressedOffset;
+        }
+
+        /**
+         * Gets the number of bytes of event text in the block.
+         *
+         * @return The uncompressed length.
+         */
+        public int getUncompressedLength() {
+            return uncompressedLength;
+        }
+
+        /**
+         * Gets the number of compressed bytes that follow the header.
+         *
+         * @return The compressed length.
+         */
+        public int getCompressedLength() {
+            return compressedLength;
+        }
+
+        /**
+         * Gets the number of events in the block.
+         *
+         * @return The event count.
+         */
+        public int getEventCount() {
+            return eventCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Block[offset=" + fileOffset + ", time=" + firstTimestamp + ".." + lastTimestamp
+                    + ", events=" + eventCount + ", " + uncompressedLength + " -> " + compressedLength + " bytes]";
+        }
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import java.io.PrintStream;
+
+/**
+ * An appender that writes to the console. It shares the lock of {@link System#out} or
+ * {@link System#err} with everything else printing there.
+ */
+public class ConsoleAppender extends StreamAppender {
+    private final PrintStream console;
+
+    /**
+     * Creates an appender that writes to {@link System#out}.
+     */
+    public ConsoleAppender() {
+        this(System.out);
+    }
+
+    /**
+     * Creates an appender that writes to a console stream.
+     *
+     * @param console The stream to write to, such as {@link System#err}.
+     */
+    public ConsoleAppender(PrintStream console) {
+        super(console);
+        this.console = console;
+    }
+
+    /**
+     * Creates an appender that writes to {@link System#err}.
+     *
+     * @return The appender.
+     */
+    public static ConsoleAppender stderr() {
+        return new ConsoleAppender(System.err);
+    }
+
+    /**
+     * Flushes the console but never closes it.
+     */
+    @Override
+    public void close() {
+        console.flush();
+    }
+
+    @Override
+    public void flush() {
+        console.flush();
+    }
+}
@@ -0,0 +1,319 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+import dev.alphagame.trailblazer.utils.ShutdownHooks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An output stream that appends to a file through a {@link FileChannel}, collecting many
+ * small writes in a direct buffer and writing them out with a single system call.
+ * <p>
+ * The buffer is written to the file when it is full, when the oldest buffered byte is older
+ * than the flush interval (checked on every write and by a background thread), when
+ * {@link #flush()} is called, and when the JVM shuts down, after any asynchronous dispatcher
+ * has drained its queue.
+ * Wrap it in a {@link java.io.PrintStream} without auto-flush to use it with the formatters.
+ */
+public class FileChannelAppender extends OutputStream {
+    /**
+     * The default buffer size in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The default maximum time data stays in the buffer, in milliseconds.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+
+    private static final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "trailblazer-file-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Set<FileChannelAppender> openAppenders = ConcurrentHashMap.newKeySet();
+    private static final ConcurrentMap<String, FileChannelAppender> sharedAppenders = new ConcurrentHashMap<>();
+
+    static {
+        ShutdownHooks.addOutput(() -> {
+            for (FileChannelAppender appender : openAppenders) {
+                try {
+                    appender.flush();
+                } catch (IOException ignored) {
+                    // Nothing left to report to at this point
+                }
+            }
+        });
+    }
+
+    private final File file;
+    private final ByteBuffer buffer;
+    private final long flushIntervalNanos;
+    private final ScheduledFuture<?> flushTask;
+    private FileChannel channel;
+    private PrintStream printStream;
+    private long oldestBufferedNanos;
+    private boolean closed;
+
+    /**
+     * Opens a file for appending with the default buffer size and flush interval.
+     *
+     * @param file The file to append to. Missing parent directories are created.
+     * @throws IOException If the file cannot be opened.
+     */
+    public FileChannelAppender(File file) throws IOException {
+        this(file, DEFAULT_BUFFER_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Opens a file for appending.
+     *
+     * @param file                The file to append to. Missing parent directories are created.
+     * @param bufferSize          The number of bytes collected before they are written.
+     * @param flushIntervalMillis The maximum time data stays in the buffer, or 0 to only flush when full.
+     * @throws IOException If the file cannot be opened.
+     */
+    public FileChannelAppender(File file, int bufferSize, long flushIntervalMillis) throws IOException {
+        this.file = file;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.channel = openChannel(file);
+        this.flushTask = flushIntervalMillis > 0
+                ? flusher.scheduleWithFixedDelay(this::flushIfDue, flushIntervalMillis, flushIntervalMillis,
+                        TimeUnit.MILLISECONDS)
+                : null;
+        openAppenders.add(this);
+    }
+
+    /**
+     * Gets the appender for a file that is shared by everyone asking for the same file,
+     * so that they all write through one buffer under one lock. The appender is opened
+     * with the default settings the first time and forgotten once it is closed.
+     *
+     * @param file The file to append to.
+     * @return The shared appender.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static FileChannelAppender shared(File file) throws IOException {
+        String key = file.getCanonicalPath();
+        FileChannelAppender appender = sharedAppenders.get(key);
+        if (appender == null) {
+            synchronized (sharedAppenders) {
+                appender = sharedAppenders.get(key);
+                if (appender == null) {
+                    appender = new FileChannelAppender(file);
+                    sharedAppenders.put(key, appender);
+                }
+            }
+        }
+        return appender;
+    }
+
+    /**
+     * Gets a print stream over the {@link #shared(File) shared} appender of a file, which is
+     * shared the same way. A print stream can write a line in several calls, so loggers that
+     * print to the same file must also share the stream for their lines not to interleave.
+     *
+     * @param file The file to append to.
+     * @return The shared print stream, without auto-flush.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static PrintStream sharedPrintStream(File file) throws IOException {
+        FileChannelAppender appender = shared(file);
+        synchronized (appender) {
+            if (appender.printStream == null) {
+                appender.printStream = new PrintStream(appender, false);
+            }
+            return appender.printStream;
+        }
+    }
+
+    /**
+     * Gets the file this appender writes to.
+     *
+     * @return The file.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] data, int offset, int length) throws IOException {
+        ensureOpen();
+        if (length > buffer.remaining()) {
+            flushBuffer();
+            if (length > buffer.capacity()) {
+                writeFully(ByteBuffer.wrap(data, offset, length));
+                return;
+            }
+        }
+        if (buffer.position() == 0) {
+            oldestBufferedNanos = System.nanoTime();
+        }
+        buffer.put(data, offset, length);
+        if (flushIntervalNanos > 0 && System.nanoTime() - oldestBufferedNanos >= flushIntervalNanos) {
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Writes all buffered data to the file.
+     *
+     * @throws IOException If the write fails.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (!closed) {
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Flushes the buffer and closes the file.
+     *
+     * @throws IOException If the final write or the close fails.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        openAppenders.remove(this);
+        sharedAppenders.values().remove(this);
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        try {
+            flushBuffer();
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel and empties the buffer.
+     *
+     * @throws IOException If the write fails.
+     */
+    protected void flushBuffer() throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        try {
+            writeFully(buffer);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Writes out the buffer, moves the current file to another name and continues in a new,
+     * empty file. The caller must hold the lock on this appender.
+     *
+     * @param target The new name of the current file.
+     * @throws IOException If the file cannot be moved or reopened.
+     */
+    protected void moveFileTo(File target) throws IOException {
+        flushBuffer();
+        channel.close();
+        try {
+            Files.move(file.toPath(), target.toPath());
+        } finally {
+            // Keep logging to the old file if the move failed
+            channel = openChannel(file);
+        }
+    }
+
+    /**
+     * Gets the current size of the file, not counting buffered data.
+     *
+     * @return The file size in bytes.
+     * @throws IOException If the size cannot be read.
+     */
+    protected long fileSize() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Checks whether this appender has been closed.
+     *
+     * @return true once {@link #close()} has been called.
+     */
+    protected synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Gets the number of bytes waiting in the buffer.
+     *
+     * @return The buffered byte count.
+     */
+    protected int buffered() {
+        return buffer.position();
+    }
+
+    private void writeFully(ByteBuffer data) throws IOException {
+        try {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        } catch (IOException e) {
+            LoggerMetrics.recordWriteError();
+            throw e;
+        }
+    }
+
+    private void flushIfDue() {
+        synchronized (this) {
+            if (closed || buffer.position() == 0 || System.nanoTime() - oldestBufferedNanos < flushIntervalNanos) {
+                return;
+            }
+            try {
+                flushBuffer();
+            } catch (IOException e) {
+                System.err.println("Trailblazer: failed to write to " + file + ": " + e);
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Appender for " + file + " is closed");
+        }
+    }
+
+    private static FileChannel openChannel(File file) throws IOException {
+        File parentDir = file.getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+        return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+}
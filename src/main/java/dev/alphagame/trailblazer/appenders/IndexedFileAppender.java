@@ -0,0 +1,151 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.index.LogIndex;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An appender that writes rendered events to a file through its own {@link FileChannelAppender}
+ * and keeps a sparse {@link LogIndex} of the file in {@code <file>.idx}, for fast time range
+ * queries with {@link dev.alphagame.trailblazer.index.LogQuery}.
+ * <p>
+ * An index entry is written every {@code eventsPerEntry} events or {@code bytesPerEntry} bytes,
+ * whichever comes first, and on {@link #flush()} and {@link #close()}. Updating the index costs
+ * a few field updates per event and one small write per entry. The file must not be written to
+ * by anything else, since the index records byte offsets into it: loggers writing to the same
+ * file share one appender through {@link #shared(File)}, and a second appender for a file whose
+ * index is already being written fails to open.
+ */
+public class IndexedFileAppender implements Appender {
+    /**
+     * The default maximum number of events per index entry.
+     */
+    public static final int DEFAULT_EVENTS_PER_ENTRY = 1024;
+
+    /**
+     * The default maximum number of log bytes per index entry.
+     */
+    public static final int DEFAULT_BYTES_PER_ENTRY = 64 * 1024;
+
+    private static final ConcurrentMap<String, IndexedFileAppender> sharedAppenders = new ConcurrentHashMap<>();
+
+    private final FileChannelAppender output;
+    private final LogIndex.Writer index;
+
+    /**
+     * Opens a file and its index for appending with the default entry limits.
+     *
+     * @param file The file to append to. Missing parent directories are created.
+     * @throws IOException If the file or its index cannot be opened.
+     */
+    public IndexedFileAppender(File file) throws IOException {
+        this(file, DEFAULT_EVENTS_PER_ENTRY, DEFAULT_BYTES_PER_ENTRY);
+    }
+
+    /**
+     * Opens a file and its index for appending.
+     *
+     * @param file           The file to append to. Missing parent directories are created.
+     * @param eventsPerEntry The maximum number of events per index entry.
+     * @param bytesPerEntry  The maximum number of log bytes per index entry.
+     * @throws IOException If the file or its index cannot be opened.
+     */
+    public IndexedFileAppender(File file, int eventsPerEntry, int bytesPerEntry) throws IOException {
+        this.output = new FileChannelAppender(file);
+        try {
+            this.index = new LogIndex.Writer(file, output.fileSize(), eventsPerEntry, bytesPerEntry);
+        } catch (IOException | RuntimeException e) {
+            output.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the appender for a file that is shared by everyone asking for the same file, so that
+     * the index describes the events of all of them. The appender is opened with the default
+     * entry limits the first time and forgotten once it is closed.
+     *
+     * @param file The file to append to.
+     * @return The shared appender.
+     * @throws IOException If the file or its index cannot be opened.
+     */
+    public static IndexedFileAppender shared(File file) throws IOException {
+        String key = file.getCanonicalPath();
+        IndexedFileAppender appender = sharedAppenders.get(key);
+        if (appender == null) {
+            synchronized (sharedAppenders) {
+                appender = sharedAppenders.get(key);
+                if (appender == null) {
+                    appender = new IndexedFileAppender(file);
+                    sharedAppenders.put(key, appender);
+                }
+            }
+        }
+        return appender;
+    }
+
+    /**
+     * Gets the file this appender writes to.
+     *
+     * @return The log file.
+     */
+    public File getFile() {
+        return output.getFile();
+    }
+
+    /**
+     * Gets the index file this appender maintains.
+     *
+     * @return The sidecar index file.
+     */
+    public File getIndexFile() {
+        return index.getIndexFile();
+    }
+
+    @Override
+    public void append(LogEvent event, byte[] data, int offset, int length) throws IOException {
+        synchronized (output) {
+            output.write(data, offset, length);
+            index.add(event.getTimestamp(), event.getLevel(), event.getLoggerName(), length);
+        }
+    }
+
+    /**
+     * Writes the buffered events to the file and the entry of the current block to the index.
+     *
+     * @throws IOException If a write fails.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (output) {
+            output.flush();
+            index.finishBlock();
+        }
+    }
+
+    /**
+     * Flushes and closes the file and its index.
+     *
+     * @throws IOException If a final write or a close fails.
+     */
+    @Override
+    public void close() throws IOException {
+        sharedAppenders.values().remove(this);
+        synchronized (output) {
+            try {
+                output.close();
+            } finally {
+                index.close();
+            }
+        }
+    }
+}
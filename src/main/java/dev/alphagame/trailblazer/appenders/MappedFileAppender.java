@@ -0,0 +1,315 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+import dev.alphagame.trailblazer.utils.ShutdownHooks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An output stream that copies data straight into memory-mapped log segments.
+ * <p>
+ * Each segment is a file of a fixed size that is mapped when it is created. A write claims
+ * its range of the mapping with a single atomic add and copies its bytes into it, so
+ * concurrent writers never take a lock and never enter the kernel. When a segment is full,
+ * the writer whose claim crossed its end maps the next segment, and the full segment is
+ * handed to a background thread that waits for the remaining copies, forces it to disk and
+ * trims the unused tail.
+ * <p>
+ * Segments are named {@code <file>.<index>}, continuing after the highest existing index.
+ * Writing the pages to disk is left to the operating system unless a force interval is set;
+ * data is visible to readers of the file as soon as {@link #write(byte[], int, int)} returns.
+ * The last segment keeps its zero-filled tail until {@link #close()} is called, which also
+ * happens when the JVM exits normally.
+ */
+public class MappedFileAppender extends OutputStream {
+    /**
+     * The default segment size in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private static final ScheduledExecutorService syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "trailblazer-mapped-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Set<MappedFileAppender> openAppenders = ConcurrentHashMap.newKeySet();
+    // A mapping cannot be written at an absolute offset in bulk before Java 13, so each
+    // thread keeps its own view of the segment it last wrote to
+    private static final ThreadLocal<View> views = ThreadLocal.withInitial(View::new);
+
+    static {
+        ShutdownHooks.addOutput(() -> {
+            for (MappedFileAppender appender : openAppenders) {
+                try {
+                    appender.close();
+                } catch (IOException e) {
+                    System.err.println("Trailblazer: failed to finish log segment " + appender.getCurrentFile()
+                            + ": " + e);
+                }
+            }
+        });
+    }
+
+    private final File file;
+    private final int segmentSize;
+    private final ScheduledFuture<?> forceTask;
+    private volatile Segment current;
+    private volatile boolean closed;
+    private volatile boolean broken;
+
+    /**
+     * Creates an appender with the default segment size that leaves syncing to the operating system.
+     *
+     * @param file The base name of the segment files. Missing parent directories are created.
+     * @throws IOException If the first segment cannot be mapped.
+     */
+    public MappedFileAppender(File file) throws IOException {
+        this(file, DEFAULT_SEGMENT_SIZE, 0);
+    }
+
+    /**
+     * Creates an appender.
+     *
+     * @param file               The base name of the segment files. Missing parent directories are created.
+     * @param segmentSize        The size of each segment in bytes. No single write may be larger.
+     * @param forceIntervalMillis How often the current segment is forced to disk, or 0 to leave it to the OS.
+     * @throws IOException If the first segment cannot be mapped.
+     */
+    public MappedFileAppender(File file, int segmentSize, long forceIntervalMillis) throws IOException {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        this.file = file;
+        this.segmentSize = segmentSize;
+        File parentDir = file.getAbsoluteFile().getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+        int index = firstFreeIndex(file);
+        this.current = new Segment(nextSegmentFile(file, index), index, segmentSize);
+        this.forceTask = forceIntervalMillis > 0
+                ? syncer.scheduleWithFixedDelay(this::force, forceIntervalMillis, forceIntervalMillis,
+                        TimeUnit.MILLISECONDS)
+                : null;
+        openAppenders.add(this);
+    }
+
+    /**
+     * Gets the file of the segment currently being written.
+     *
+     * @return The segment file.
+     */
+    public File getCurrentFile() {
+        return current.file;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length) throws IOException {
+        if (length > segmentSize) {
+            throw new IOException("Write of " + length + " bytes exceeds the segment size of " + segmentSize);
+        }
+        while (true) {
+            if (closed) {
+                throw new IOException("Appender for " + file + " is closed");
+            }
+            Segment segment = current;
+            long position = segment.claimed.getAndAdd(length);
+            if (position + length <= segmentSize) {
+                segment.copy((int) position, data, offset, length);
+                return;
+            }
+            if (position <= segmentSize) {
+                // This claim crossed the end, so this writer seals the segment and maps the next one
+                roll(segment, (int) position);
+            } else {
+                while (current == segment && !broken && !closed) {
+                    Thread.yield();
+                }
+            }
+        }
+    }
+
+    /**
+     * Does nothing; written data is already in the page cache. Use {@link #force()} to sync it to disk.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Forces the current segment to disk.
+     */
+    public void force() {
+        Segment segment = current;
+        if (!closed) {
+            segment.mapping.force();
+        }
+    }
+
+    /**
+     * Seals the current segment, forces it to disk and trims its unused tail.
+     *
+     * @throws IOException If the segment cannot be trimmed or closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        openAppenders.remove(this);
+        if (forceTask != null) {
+            forceTask.cancel(false);
+        }
+        while (true) {
+            Segment segment = current;
+            // Pushes the claim past the end so that no further write lands in this segment
+            long end = segment.claimed.getAndAdd(segmentSize + 1L);
+            if (end <= segmentSize) {
+                segment.seal((int) end);
+                return;
+            }
+            // A writer is rolling over to the next segment; close that one instead
+            while (current == segment) {
+                if (broken) {
+                    return;
+                }
+                Thread.yield();
+            }
+        }
+    }
+
+    private void roll(Segment full, int end) throws IOException {
+        Segment next;
+        try {
+            next = new Segment(nextSegmentFile(file, full.index + 1), full.index + 1, segmentSize);
+        } catch (IOException e) {
+            // Let the waiting writers fail instead of spinning forever
+            closed = true;
+            broken = true;
+            openAppenders.remove(this);
+            sealLater(full, end);
+            throw e;
+        }
+        current = next;
+        sealLater(full, end);
+    }
+
+    private static void sealLater(Segment full, int end) {
+        syncer.execute(() -> {
+            try {
+                full.seal(end);
+            } catch (IOException e) {
+                LoggerMetrics.recordWriteError();
+                System.err.println("Trailblazer: failed to finish log segment " + full.file + ": " + e);
+            }
+        });
+    }
+
+    private static File nextSegmentFile(File file, int index) {
+        return new File(file.getPath() + "." + index);
+    }
+
+    private static int firstFreeIndex(File file) {
+        File dir = file.getAbsoluteFile().getParentFile();
+        String prefix = file.getName() + ".";
+        int next = 0;
+        String[] names = dir != null ? dir.list() : null;
+        if (names != null) {
+            for (String name : names) {
+                if (name.startsWith(prefix)) {
+                    try {
+                        next = Math.max(next, Integer.parseInt(name.substring(prefix.length())) + 1);
+                    } catch (NumberFormatException ignored) {
+                        // Not one of our segments
+                    }
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * One mapped segment file.
+     */
+    private static final class Segment {
+        final File file;
+        final int index;
+        final FileChannel channel;
+        final MappedByteBuffer mapping;
+        final AtomicLong claimed = new AtomicLong();
+        final AtomicInteger committed = new AtomicInteger();
+
+        Segment(File file, int index, int size) throws IOException {
+            this.file = file;
+            this.index = index;
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                this.mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        void copy(int position, byte[] data, int offset, int length) {
+            View cached = views.get();
+            if (cached.segment != this) {
+                cached.segment = this;
+                cached.buffer = mapping.duplicate();
+            }
+            ByteBuffer view = cached.buffer;
+            view.position(position);
+            view.put(data, offset, length);
+            committed.addAndGet(length);
+        }
+
+        /**
+         * Waits for the copies into {@code [0, end)} to finish, then syncs and trims the file.
+         */
+        void seal(int end) throws IOException {
+            while (committed.get() < end) {
+                Thread.yield();
+            }
+            try {
+                mapping.force();
+                channel.truncate(end);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * A thread's view of the segment it last wrote to.
+     */
+    private static final class View {
+        Segment segment;
+        ByteBuffer buffer;
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import dev.alphagame.trailblazer.LogEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An appender that keeps the most recent rendered lines in memory,
+ * for tests and for showing recent log output in an application.
+ */
+public class MemoryAppender implements Appender {
+    /**
+     * The default number of lines kept.
+     */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final int capacity;
+    private final ArrayDeque<byte[]> lines;
+
+    /**
+     * Creates an appender that keeps the last {@value #DEFAULT_CAPACITY} lines.
+     */
+    public MemoryAppender() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an appender that keeps a number of recent lines.
+     *
+     * @param capacity The number of lines kept.
+     */
+    public MemoryAppender(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.lines = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    @Override
+    public synchronized void append(LogEvent event, byte[] data, int offset, int length) {
+        if (lines.size() == capacity) {
+            lines.removeFirst();
+        }
+        lines.addLast(Arrays.copyOfRange(data, offset, offset + length));
+    }
+
+    /**
+     * Gets the kept lines, oldest first, including their line separators.
+     *
+     * @return A copy of the kept lines.
+     */
+    public synchronized List<String> getLines() {
+        List<String> result = new ArrayList<>(lines.size());
+        for (byte[] line : lines) {
+            result.add(new String(line, StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of lines kept right now.
+     *
+     * @return The line count.
+     */
+    public synchronized int size() {
+        return lines.size();
+    }
+
+    /**
+     * Discards all kept lines.
+     */
+    public synchronized void clear() {
+        lines.clear();
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+}
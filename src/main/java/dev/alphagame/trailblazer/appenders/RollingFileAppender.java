@@ -0,0 +1,347 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+import dev.alphagame.trailblazer.utils.CachedDateFormat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link FileChannelAppender} that rolls the file over when it grows past a size limit
+ * or when a time interval ends.
+ * <p>
+ * Both triggers are checked on every write against a byte counter and the current time, so
+ * the check makes no system call. Rolling over only renames the current file to
+ * {@code <file>.<yyyyMMdd-HHmmss>} and opens a new one. Compressing the rolled file and
+ * deleting old files to stay within the retention limits happen on a background thread.
+ * Retention only counts files named like that, with an optional {@code -<sequence>} and
+ * {@code .gz}, and deletes them in the order of the time in their name. With
+ * {@link Builder#withSingleBackup()} the file is instead renamed to {@code <file>.old},
+ * replacing the previous one.
+ * <p>
+ * If the file cannot be renamed, writing continues in the current file and the next attempt
+ * is made once it has grown by another size limit, or at the end of the next interval,
+ * rather than on every write.
+ */
+public class RollingFileAppender extends FileChannelAppender {
+    private static final String COMPRESSED_SUFFIX = ".gz";
+    private static final String BACKUP_SUFFIX = ".old";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final CachedDateFormat rolledNameFormat = CachedDateFormat.forPattern("yyyyMMdd-HHmmss");
+
+    private static final ExecutorService roller = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "trailblazer-log-roller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long maxFileSize;
+    private final long rollIntervalMillis;
+    private final int maxFiles;
+    private final long maxTotalSize;
+    private final boolean compress;
+    private final boolean singleBackup;
+    private long size;
+    // The size that triggers the next roll-over, pushed back after a failed one
+    private long rollSize;
+    private long nextRollMillis;
+    private String lastRolledBase;
+    private int sequence;
+
+    private RollingFileAppender(Builder builder) throws IOException {
+        super(builder.file, builder.bufferSize, builder.flushIntervalMillis);
+        this.maxFileSize = builder.maxFileSize;
+        this.rollIntervalMillis = builder.rollIntervalMillis;
+        this.maxFiles = builder.maxFiles;
+        this.maxTotalSize = builder.maxTotalSize;
+        this.compress = builder.compress;
+        this.singleBackup = builder.singleBackup;
+        this.rollSize = maxFileSize;
+        this.size = fileSize();
+        this.nextRollMillis = nextBoundary(System.currentTimeMillis());
+    }
+
+    /**
+     * Starts building a rolling appender for a file.
+     *
+     * @param file The file to append to. Rolled files are created next to it.
+     * @return A new builder.
+     */
+    public static Builder builder(File file) {
+        return new Builder(file);
+    }
+
+    @Override
+    public synchronized void write(byte[] data, int offset, int length) throws IOException {
+        if ((size > 0 && size + length > rollSize) || System.currentTimeMillis() >= nextRollMillis) {
+            if (!isClosed()) {
+                try {
+                    rollOver();
+                    rollSize = maxFileSize;
+                } catch (IOException e) {
+                    LoggerMetrics.recordWriteError();
+                    System.err.println("Trailblazer: failed to roll over " + getFile() + ": " + e);
+                    rollSize = size > Long.MAX_VALUE - maxFileSize ? Long.MAX_VALUE : size + maxFileSize;
+                }
+            }
+        }
+        super.write(data, offset, length);
+        size += length;
+    }
+
+    /**
+     * Rolls the current file over right away.
+     *
+     * @throws IOException If the file cannot be renamed.
+     */
+    public synchronized void rollOver() throws IOException {
+        long now = System.currentTimeMillis();
+        nextRollMillis = nextBoundary(now);
+        if (size == 0) {
+            return;
+        }
+        if (singleBackup) {
+            File backup = new File(getFile().getPath() + BACKUP_SUFFIX);
+            Files.deleteIfExists(backup.toPath());
+            moveFileTo(backup);
+            size = 0;
+            return;
+        }
+        File rolled = rolledFile(now);
+        moveFileTo(rolled);
+        size = 0;
+        roller.execute(() -> finishRollOver(rolled));
+    }
+
+    private long nextBoundary(long now) {
+        if (rollIntervalMillis <= 0) {
+            return Long.MAX_VALUE;
+        }
+        // Align intervals to local time, so that daily files start at midnight
+        long offset = TimeZone.getDefault().getOffset(now);
+        return ((now + offset) / rollIntervalMillis + 1) * rollIntervalMillis - offset;
+    }
+
+    private File rolledFile(long now) {
+        File file = getFile();
+        String base = file.getPath() + "." + rolledNameFormat.format(now);
+        // Several roll-overs within one second get a sequence number
+        sequence = base.equals(lastRolledBase) ? sequence + 1 : 0;
+        lastRolledBase = base;
+        while (true) {
+            String name = sequence == 0 ? base : base + "-" + sequence;
+            File rolled = new File(name);
+            if (!rolled.exists() && !new File(name + COMPRESSED_SUFFIX).exists()) {
+                return rolled;
+            }
+            sequence++;
+        }
+    }
+
+    private void finishRollOver(File rolled) {
+        try {
+            if (compress) {
+                compress(rolled);
+            }
+            enforceRetention();
+        } catch (IOException e) {
+            LoggerMetrics.recordWriteError();
+            System.err.println("Trailblazer: failed to finish rolling over " + rolled + ": " + e);
+        }
+    }
+
+    private static void compress(File rolled) throws IOException {
+        File temp = new File(rolled.getPath() + COMPRESSED_SUFFIX + TEMP_SUFFIX);
+        try (InputStream in = Files.newInputStream(rolled.toPath());
+                OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp.toPath()), 64 * 1024)) {
+            byte[] chunk = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                out.write(chunk, 0, read);
+            }
+        }
+        // Only replace the plain file once the compressed one is complete
+        Files.move(temp.toPath(), new File(rolled.getPath() + COMPRESSED_SUFFIX).toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+        Files.delete(rolled.toPath());
+    }
+
+    private void enforceRetention() throws IOException {
+        if (maxFiles <= 0 && maxTotalSize <= 0) {
+            return;
+        }
+        File file = getFile().getAbsoluteFile();
+        // Only the names rolledFile() generates, not other files sharing the prefix such as an index
+        Pattern rolledName = Pattern.compile(Pattern.quote(file.getName())
+                + "\\.(\\d{8}-\\d{6})(?:-(\\d+))?(?:" + Pattern.quote(COMPRESSED_SUFFIX) + ")?");
+        File[] candidates = file.getParentFile().listFiles((dir, name) -> rolledName.matcher(name).matches());
+        if (candidates == null) {
+            return;
+        }
+        List<File> rolled = new ArrayList<>();
+        long total = 0;
+        for (File candidate : candidates) {
+            rolled.add(candidate);
+            total += candidate.length();
+        }
+        // Oldest first, by the time and sequence number in the name
+        rolled.sort(Comparator.comparing((File rolledFile) -> rolledTime(rolledName, rolledFile))
+                .thenComparingInt(rolledFile -> rolledSequence(rolledName, rolledFile)));
+        int count = rolled.size();
+        for (File oldest : rolled) {
+            boolean tooMany = maxFiles > 0 && count > maxFiles;
+            boolean tooLarge = maxTotalSize > 0 && total > maxTotalSize;
+            if (!tooMany && !tooLarge) {
+                break;
+            }
+            long length = oldest.length();
+            Files.deleteIfExists(oldest.toPath());
+            count--;
+            total -= length;
+        }
+    }
+
+    private static String rolledTime(Pattern rolledName, File rolled) {
+        Matcher matcher = rolledName.matcher(rolled.getName());
+        return matcher.matches() ? matcher.group(1) : "";
+    }
+
+    private static int rolledSequence(Pattern rolledName, File rolled) {
+        Matcher matcher = rolledName.matcher(rolled.getName());
+        if (!matcher.matches() || matcher.group(2) == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(matcher.group(2));
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Builder for {@link RollingFileAppender}.
+     */
+    public static final class Builder {
+        private final File file;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+        private long flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+        private long maxFileSize = Long.MAX_VALUE;
+        private long rollIntervalMillis;
+        private int maxFiles;
+        private long maxTotalSize;
+        private boolean compress;
+        private boolean singleBackup;
+
+        private Builder(File file) {
+            this.file = file;
+        }
+
+        /**
+         * Rolls the file over before it would grow past a size.
+         *
+         * @param maxFileSize The maximum file size in bytes.
+         * @return This builder instance.
+         */
+        public Builder withMaxFileSize(long maxFileSize) {
+            this.maxFileSize = maxFileSize;
+            return this;
+        }
+
+        /**
+         * Rolls the file over at the end of every interval, aligned to local time.
+         *
+         * @param interval The interval length, for example 1 with {@link TimeUnit#DAYS}.
+         * @param unit     The unit of the interval.
+         * @return This builder instance.
+         */
+        public Builder withRollInterval(long interval, TimeUnit unit) {
+            this.rollIntervalMillis = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * Keeps at most this many rolled files, deleting the oldest ones.
+         *
+         * @param maxFiles The number of rolled files to keep, or 0 for no limit.
+         * @return This builder instance.
+         */
+        public Builder withMaxFiles(int maxFiles) {
+            this.maxFiles = maxFiles;
+            return this;
+        }
+
+        /**
+         * Keeps the rolled files below a total size, deleting the oldest ones.
+         *
+         * @param maxTotalSize The total size of rolled files in bytes, or 0 for no limit.
+         * @return This builder instance.
+         */
+        public Builder withMaxTotalSize(long maxTotalSize) {
+            this.maxTotalSize = maxTotalSize;
+            return this;
+        }
+
+        /**
+         * Compresses rolled files with gzip in the background.
+         *
+         * @return This builder instance.
+         */
+        public Builder withCompression() {
+            this.compress = true;
+            return this;
+        }
+
+        /**
+         * Rolls over to a single {@code <file>.old}, replacing the previous one, instead of
+         * timestamped files. Compression and the retention limits do not apply.
+         *
+         * @return This builder instance.
+         */
+        public Builder withSingleBackup() {
+            this.singleBackup = true;
+            return this;
+        }
+
+        /**
+         * Sets how writes are batched, see {@link FileChannelAppender}.
+         *
+         * @param bufferSize          The number of bytes collected before they are written.
+         * @param flushIntervalMillis The maximum time data stays in the buffer, or 0 to only flush when full.
+         * @return This builder instance.
+         */
+        public Builder withBuffering(int bufferSize, long flushIntervalMillis) {
+            this.bufferSize = bufferSize;
+            this.flushIntervalMillis = flushIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Opens the file and creates the appender.
+         *
+         * @return The appender.
+         * @throws IOException If the file cannot be opened.
+         */
+        public RollingFileAppender build() throws IOException {
+            return new RollingFileAppender(this);
+        }
+    }
+}
@@ -0,0 +1,469 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An appender that ships rendered events over TCP to a log collector, such as a node-local agent.
+ * <p>
+ * Events are copied into batches of direct buffers taken from a fixed pool, which bounds the
+ * memory used while the collector is slow or away. An event never spans two batches; one larger
+ * than a batch is copied and sent as a batch of its own, taking the place of one pooled buffer
+ * until it has been sent. A batch is handed to a background thread
+ * when it is full or when its oldest event has waited for the linger time, and the thread
+ * writes it with a single write on a non-blocking {@link SocketChannel}, so a busy logger costs
+ * one system call per batch rather than one per line.
+ * <p>
+ * When the connection fails the batch being sent is sent again in full on the next connection,
+ * so the collector may see some lines twice but never a line cut in half. A batch that was
+ * written just before the collector dropped the connection can still be lost, as TCP does not
+ * confirm that the peer read it. Reconnects wait with
+ * exponential backoff. When every buffer is waiting to be sent, new events are dropped and
+ * counted rather than blocking the logging thread.
+ */
+public class SocketAppender implements Appender {
+    /**
+     * The default batch size in bytes.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
+    /**
+     * The default time an event may wait for its batch to fill, in milliseconds.
+     */
+    public static final long DEFAULT_LINGER_MILLIS = 50;
+
+    /**
+     * The default number of bytes that can wait to be sent.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 4 * 1024 * 1024;
+
+    private static final long CONNECT_TIMEOUT_MILLIS = 5000;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final InetSocketAddress address;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long minBackoffMillis;
+    private final long maxBackoffMillis;
+    private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+    private final ArrayDeque<ByteBuffer> ready = new ArrayDeque<>();
+    // Pooled buffers set aside while an oversized event queued in their place waits to be sent
+    private final ArrayDeque<ByteBuffer> reserved = new ArrayDeque<>();
+    private final Thread sender;
+    private ByteBuffer current;
+    private long currentStartNanos;
+    private boolean sending;
+    private boolean closed;
+    private volatile boolean connected;
+    // Set after a failed connection or write, until a connection succeeds again
+    private volatile boolean failing;
+    private long droppedEvents;
+    private long batchesSent;
+    private long bytesSent;
+    private SocketChannel channel;
+    private Selector selector;
+
+    private SocketAppender(Builder builder) {
+        this.address = builder.address;
+        this.batchSize = builder.batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(builder.lingerMillis);
+        this.minBackoffMillis = builder.minBackoffMillis;
+        this.maxBackoffMillis = builder.maxBackoffMillis;
+        int buffers = Math.max(2, builder.queueCapacity / batchSize);
+        for (int i = 0; i < buffers; i++) {
+            free.add(ByteBuffer.allocateDirect(batchSize));
+        }
+        this.sender = new Thread(this::send, "trailblazer-socket-" + address.getHostString() + ":" + address.getPort());
+        this.sender.setDaemon(true);
+        this.sender.start();
+    }
+
+    /**
+     * Creates a builder for an appender sending to a collector.
+     *
+     * @param host The host name or address of the collector.
+     * @param port The TCP port of the collector.
+     * @return A new builder.
+     */
+    public static Builder builder(String host, int port) {
+        return new Builder(new InetSocketAddress(host, port));
+    }
+
+    /**
+     * Queues one rendered event. The event is dropped if there is no room left in the queue.
+     * An event larger than a batch is sent on its own.
+     *
+     * @throws IOException If the appender is closed.
+     */
+    @Override
+    public synchronized void append(LogEvent event, byte[] data, int offset, int length) throws IOException {
+        if (closed) {
+            throw new IOException("Appender for " + address + " is closed");
+        }
+        if (length > batchSize) {
+            appendOversized(data, offset, length);
+            return;
+        }
+        boolean fits = current != null && current.remaining() >= length;
+        if (!fits && free.isEmpty()) {
+            droppedEvents++;
+            return;
+        }
+        if (!fits) {
+            // Batches end on event boundaries, so that a batch resent on a new connection starts with a whole line
+            if (current != null) {
+                seal();
+            }
+            current = free.poll();
+            currentStartNanos = System.nanoTime();
+        }
+        current.put(data, offset, length);
+        if (!current.hasRemaining()) {
+            seal();
+        }
+        if (current != null && System.nanoTime() - currentStartNanos >= lingerNanos) {
+            seal();
+        }
+    }
+
+    /**
+     * Sends everything queued so far, waiting up to five seconds. Returns early if the
+     * collector can't be reached, leaving the data queued.
+     */
+    @Override
+    public synchronized void flush() {
+        if (current != null) {
+            seal();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MILLIS);
+        try {
+            while ((!ready.isEmpty() || sending) && !failing && !closed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends what is queued if the collector can be reached, then closes the connection.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notifyAll();
+        }
+        sender.interrupt();
+        try {
+            sender.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        disconnect();
+    }
+
+    /**
+     * Gets the address of the collector.
+     *
+     * @return The address.
+     */
+    public InetSocketAddress getAddress() {
+        return address;
+    }
+
+    /**
+     * Checks whether the appender is connected to the collector.
+     *
+     * @return true if connected.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Gets the number of events dropped because the queue was full.
+     *
+     * @return The dropped event count.
+     */
+    public synchronized long getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    /**
+     * Gets the number of batches written to the collector.
+     *
+     * @return The batch count.
+     */
+    public synchronized long getBatchesSent() {
+        return batchesSent;
+    }
+
+    /**
+     * Gets the number of bytes written to the collector.
+     *
+     * @return The byte count.
+     */
+    public synchronized long getBytesSent() {
+        return bytesSent;
+    }
+
+    private void appendOversized(byte[] data, int offset, int length) {
+        ByteBuffer slot = free.poll();
+        if (slot == null) {
+            droppedEvents++;
+            return;
+        }
+        // Keep the order of events: whatever is already batched goes first
+        if (current != null) {
+            seal();
+        }
+        reserved.add(slot);
+        ready.add(ByteBuffer.wrap(Arrays.copyOfRange(data, offset, offset + length)));
+        notifyAll();
+    }
+
+    private void seal() {
+        current.flip();
+        ready.add(current);
+        current = null;
+        notifyAll();
+    }
+
+    private void send() {
+        long backoffMillis = minBackoffMillis;
+        ByteBuffer batch = null;
+        try {
+            for (;;) {
+                if (batch == null) {
+                    batch = nextBatch();
+                    if (batch == null) {
+                        return;
+                    }
+                }
+                try {
+                    if (channel == null) {
+                        connect();
+                        backoffMillis = minBackoffMillis;
+                    }
+                    writeFully(batch);
+                    synchronized (this) {
+                        batchesSent++;
+                        bytesSent += batch.limit();
+                        if (batch.isDirect()) {
+                            batch.clear();
+                            free.add(batch);
+                        } else {
+                            // An oversized event; give back the buffer it stood in for
+                            free.add(reserved.poll());
+                        }
+                        sending = false;
+                        notifyAll();
+                    }
+                    batch = null;
+                } catch (IOException e) {
+                    LoggerMetrics.recordWriteError();
+                    failing = true;
+                    if (connected) {
+                        System.err.println("Trailblazer: lost connection to " + address + ": " + e);
+                    }
+                    disconnect();
+                    // Resend the whole batch so that no line arrives cut in half
+                    batch.position(0);
+                    synchronized (this) {
+                        notifyAll();
+                        if (closed) {
+                            return;
+                        }
+                        wait(backoffMillis);
+                        if (closed) {
+                            return;
+                        }
+                    }
+                    backoffMillis = Math.min(maxBackoffMillis, backoffMillis * 2);
+                }
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Waits for a full batch, or for the current batch to reach the linger time.
+     *
+     * @return The batch, or null once the appender is closed.
+     */
+    private synchronized ByteBuffer nextBatch() throws InterruptedException {
+        for (;;) {
+            ByteBuffer batch = ready.poll();
+            if (batch != null) {
+                sending = true;
+                return batch;
+            }
+            if (closed) {
+                return null;
+            }
+            if (current != null) {
+                long wait = lingerNanos - (System.nanoTime() - currentStartNanos);
+                if (wait <= 0) {
+                    seal();
+                    continue;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, wait);
+            } else {
+                wait();
+            }
+        }
+    }
+
+    private void connect() throws IOException {
+        SocketChannel socket = SocketChannel.open();
+        Selector socketSelector = null;
+        try {
+            socket.configureBlocking(false);
+            socket.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            socketSelector = Selector.open();
+            if (!socket.connect(address)) {
+                socket.register(socketSelector, SelectionKey.OP_CONNECT);
+                if (socketSelector.select(CONNECT_TIMEOUT_MILLIS) == 0 || !socket.finishConnect()) {
+                    throw new IOException("Timed out connecting to " + address);
+                }
+            }
+            socket.register(socketSelector, SelectionKey.OP_WRITE);
+        } catch (IOException e) {
+            socket.close();
+            if (socketSelector != null) {
+                socketSelector.close();
+            }
+            throw e;
+        }
+        channel = socket;
+        selector = socketSelector;
+        connected = true;
+        failing = false;
+    }
+
+    private void writeFully(ByteBuffer batch) throws IOException {
+        while (batch.hasRemaining()) {
+            if (channel.write(batch) == 0) {
+                // The socket buffer is full; wait until the collector reads
+                selector.select(CONNECT_TIMEOUT_MILLIS);
+                selector.selectedKeys().clear();
+            }
+        }
+    }
+
+    private synchronized void disconnect() {
+        connected = false;
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+            if (selector != null) {
+                selector.close();
+            }
+        } catch (IOException ignored) {
+            // Already broken
+        }
+        channel = null;
+        selector = null;
+    }
+
+    /**
+     * Collects the settings of a {@link SocketAppender}.
+     */
+    public static final class Builder {
+        private final InetSocketAddress address;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private long lingerMillis = DEFAULT_LINGER_MILLIS;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private long minBackoffMillis = 100;
+        private long maxBackoffMillis = TimeUnit.SECONDS.toMillis(30);
+
+        private Builder(InetSocketAddress address) {
+            this.address = address;
+        }
+
+        /**
+         * Sets the size of a batch, the most that is written at once. Larger events are sent on their own.
+         *
+         * @param bytes The batch size in bytes; {@value SocketAppender#DEFAULT_BATCH_SIZE} by default.
+         * @return This builder instance.
+         */
+        public Builder withBatchSize(int bytes) {
+            this.batchSize = Math.max(256, bytes);
+            return this;
+        }
+
+        /**
+         * Sets how long an event may wait for its batch to fill before the batch is sent anyway.
+         *
+         * @param linger The time.
+         * @param unit   The unit of the time.
+         * @return This builder instance.
+         */
+        public Builder withLinger(long linger, TimeUnit unit) {
+            this.lingerMillis = Math.max(0, unit.toMillis(linger));
+            return this;
+        }
+
+        /**
+         * Sets how many bytes can wait to be sent before new events are dropped.
+         * At least two batches are always kept.
+         *
+         * @param bytes The queue capacity in bytes; {@value SocketAppender#DEFAULT_QUEUE_CAPACITY} by default.
+         * @return This builder instance.
+         */
+        public Builder withQueueCapacity(int bytes) {
+            this.queueCapacity = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the wait before reconnecting, which doubles after every failed attempt.
+         *
+         * @param min  The first wait, 100 milliseconds by default.
+         * @param max  The longest wait, 30 seconds by default.
+         * @param unit The unit of both times.
+         * @return This builder instance.
+         */
+        public Builder withReconnectBackoff(long min, long max, TimeUnit unit) {
+            this.minBackoffMillis = Math.max(1, unit.toMillis(min));
+            this.maxBackoffMillis = Math.max(minBackoffMillis, unit.toMillis(max));
+            return this;
+        }
+
+        /**
+         * Creates the appender and starts its background thread. It connects when the first batch is ready.
+         *
+         * @return The appender.
+         */
+        public SocketAppender build() {
+            return new SocketAppender(this);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.appenders;
+
+import dev.alphagame.trailblazer.LogEvent;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An appender that writes rendered events to an output stream.
+ * <p>
+ * Writes are made while holding the lock of the stream itself, the same lock a
+ * {@link java.io.PrintStream} takes, so every appender and formatter writing to one
+ * stream shares a single lock and whole lines never interleave.
+ */
+public class StreamAppender implements Appender {
+    private final OutputStream outputStream;
+
+    /**
+     * Creates an appender for a stream.
+     *
+     * @param outputStream The stream to write to.
+     */
+    public StreamAppender(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * Creates an appender for a file, sharing one buffered {@link FileChannelAppender}
+     * with every other appender for the same file.
+     *
+     * @param path The path to the log file.
+     * @return The appender.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static StreamAppender forFile(String path) throws IOException {
+        return new StreamAppender(FileChannelAppender.shared(new File(path)));
+    }
+
+    /**
+     * Gets the stream this appender writes to.
+     *
+     * @return The output stream.
+     */
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    @Override
+    public void append(LogEvent event, byte[] data, int offset, int length) throws IOException {
+        synchronized (outputStream) {
+            outputStream.write(data, offset, length);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (outputStream) {
+            outputStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.close();
+    }
+}
@@ -0,0 +1,368 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.async;
+
+import dev.alphagame.trailblazer.KeyValues;
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.context.ContextMap;
+import dev.alphagame.trailblazer.context.MDC;
+import dev.alphagame.trailblazer.formatters.AbstractFormatter;
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+import dev.alphagame.trailblazer.utils.ShutdownHooks;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands log events to a single background thread that drives the formatters.
+ * <p>
+ * Logging threads only claim a slot in a preallocated ring, copy the event into it and
+ * publish it, so the call site never formats or writes. When the ring is full, producers
+ * wait for the consumer to free a slot rather than dropping events.
+ * <p>
+ * Arguments are snapshotted on the logging thread: {@code null}, strings, boxed primitives,
+ * enums, classes, {@link UUID}, {@link BigInteger}, {@link BigDecimal} and throwables are
+ * kept by reference. Dates, calendars, arrays, maps and collections are copied, and atomic
+ * integers and longs are replaced by their current value, so that format conversions such as
+ * {@code %tY} or {@code %d} and the typed JSON arguments work as they do without the
+ * dispatcher. Any other argument is replaced by its {@code String.valueOf} rendering so that
+ * later changes to a mutable object cannot alter what gets logged.
+ * The argument array itself is kept as is when no argument had to be rendered, so
+ * callers passing an explicit array must not modify it after the call.
+ * <p>
+ * Pending events are drained when the JVM exits, before the file appenders write out their
+ * buffers (see {@link ShutdownHooks}).
+ */
+public class AsyncLogDispatcher {
+    /**
+     * The default number of slots in the ring.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final int CONSUMER_SPINS = 100;
+    private static final long CONSUMER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private static volatile AsyncLogDispatcher defaultDispatcher;
+
+    private final LogEventRingBuffer ring;
+    private final Thread consumer;
+    private final Runnable shutdownTask = this::shutdown;
+    private volatile boolean running = true;
+    private volatile boolean consumerParked;
+
+    /**
+     * Creates a dispatcher with the default buffer size.
+     */
+    public AsyncLogDispatcher() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a dispatcher and starts its background thread.
+     *
+     * @param bufferSize The number of events that can be queued, rounded up to a power of two.
+     */
+    public AsyncLogDispatcher(int bufferSize) {
+        this.ring = new LogEventRingBuffer(bufferSize);
+        this.consumer = new Thread(this::consume, "trailblazer-async");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+        ShutdownHooks.addProducer(shutdownTask);
+    }
+
+    /**
+     * Gets the dispatcher shared by all asynchronous configurations that don't bring their own.
+     *
+     * @return The shared dispatcher.
+     */
+    public static AsyncLogDispatcher getDefault() {
+        AsyncLogDispatcher dispatcher = defaultDispatcher;
+        if (dispatcher == null) {
+            synchronized (AsyncLogDispatcher.class) {
+                dispatcher = defaultDispatcher;
+                if (dispatcher == null) {
+                    dispatcher = new AsyncLogDispatcher();
+                    defaultDispatcher = dispatcher;
+                }
+            }
+        }
+        return dispatcher;
+    }
+
+    /**
+     * Queues a log event for the background thread, together with the diagnostic context of
+     * the calling thread. Falls back to formatting on the calling thread once the dispatcher has been shut down,
+     * or when called from the background thread itself.
+     *
+     * @param formatter         The formatter that should render the event.
+     * @param level             The log level.
+     * @param loggerName        The name of the logger.
+     * @param encodedLoggerName The logger name encoded as UTF-8, or null.
+     * @param message           The log message.
+     * @param args              The arguments to format the message with, or null.
+     */
+    public void publish(AbstractFormatter formatter, LogLevel level, String loggerName, byte[] encodedLoggerName,
+            String message, Object[] args) {
+        publish(formatter, level, loggerName, encodedLoggerName, message, args, null);
+    }
+
+    /**
+     * Queues a log event with key-value fields for the background thread. The fields are
+     * copied into the queued event, so the caller can reuse them once this returns.
+     *
+     * @param formatter         The formatter that should render the event.
+     * @param level             The log level.
+     * @param loggerName        The name of the logger.
+     * @param encodedLoggerName The logger name encoded as UTF-8, or null.
+     * @param message           The log message.
+     * @param args              The arguments to format the message with, or null.
+     * @param keyValues         The key-value fields, or null.
+     */
+    public void publish(AbstractFormatter formatter, LogLevel level, String loggerName, byte[] encodedLoggerName,
+            String message, Object[] args, KeyValues keyValues) {
+        publish(formatter, level, loggerName, encodedLoggerName, message, args, keyValues, null);
+    }
+
+    /**
+     * Queues a log event with key-value fields and a throwable for the background thread.
+     * The throwable is kept by reference, so its stack trace is rendered on the background thread.
+     *
+     * @param formatter         The formatter that should render the event.
+     * @param level             The log level.
+     * @param loggerName        The name of the logger.
+     * @param encodedLoggerName The logger name encoded as UTF-8, or null.
+     * @param message           The log message.
+     * @param args              The arguments to format the message with, or null.
+     * @param keyValues         The key-value fields, or null.
+     * @param thrown            The throwable, or null.
+     */
+    public void publish(AbstractFormatter formatter, LogLevel level, String loggerName, byte[] encodedLoggerName,
+            String message, Object[] args, KeyValues keyValues, Throwable thrown) {
+        long timestamp = System.currentTimeMillis();
+        Object[] snapshot = snapshot(args);
+        ContextMap context = MDC.getContext();
+        long position = claim();
+        if (position < 0) {
+            LogEvent event = new LogEvent();
+            event.set(level, loggerName, encodedLoggerName, message, snapshot, timestamp);
+            event.setContext(context);
+            event.setKeyValues(keyValues);
+            event.setThrown(thrown);
+            formatDirectly(formatter, event);
+            return;
+        }
+        LogEvent event = ring.eventAt(position);
+        event.set(level, loggerName, encodedLoggerName, message, snapshot, timestamp);
+        event.setContext(context);
+        event.copyKeyValues(keyValues);
+        if (event.getKeyValues() != null) {
+            event.getKeyValues().snapshotObjects();
+        }
+        event.setThrown(thrown);
+        ring.publish(position, formatter);
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Blocks until every event queued before this call has been formatted.
+     */
+    public void flush() {
+        long target = ring.claimed();
+        while (ring.consumed() < target && consumer.isAlive()) {
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Drains all queued events and stops the background thread.
+     * Events logged afterwards are formatted on the calling thread.
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!consumer.isAlive()) {
+            drainRemaining();
+        }
+        ShutdownHooks.remove(shutdownTask);
+    }
+
+    /**
+     * Checks whether the background thread is still accepting events.
+     *
+     * @return true if the dispatcher has not been shut down.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the number of events that can be queued.
+     *
+     * @return The ring capacity.
+     */
+    public int getBufferSize() {
+        return ring.capacity();
+    }
+
+    private long claim() {
+        if (Thread.currentThread() == consumer) {
+            // Logging from inside a formatter; waiting for space here would deadlock
+            return -1;
+        }
+        int attempts = 0;
+        while (running) {
+            long position = ring.tryClaim();
+            if (position >= 0) {
+                return position;
+            }
+            if (consumerParked) {
+                LockSupport.unpark(consumer);
+            }
+            if (++attempts < CONSUMER_SPINS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+            }
+        }
+        return -1;
+    }
+
+    private void consume() {
+        int idle = 0;
+        for (;;) {
+            if (ring.hasNext()) {
+                idle = 0;
+                AbstractFormatter formatter = ring.peekFormatter();
+                try {
+                    formatDirectly(formatter, ring.peekEvent());
+                } finally {
+                    ring.release();
+                }
+            } else if (!running) {
+                return;
+            } else if (++idle < CONSUMER_SPINS) {
+                Thread.yield();
+            } else {
+                consumerParked = true;
+                if (!ring.hasNext() && running) {
+                    LockSupport.parkNanos(this, CONSUMER_PARK_NANOS);
+                }
+                consumerParked = false;
+            }
+        }
+    }
+
+    private void drainRemaining() {
+        // Producers that claimed a slot just before shutdown may still be publishing
+        long deadline = System.nanoTime() + CONSUMER_PARK_NANOS;
+        while (ring.consumed() < ring.claimed() && System.nanoTime() < deadline) {
+            if (ring.hasNext()) {
+                try {
+                    formatDirectly(ring.peekFormatter(), ring.peekEvent());
+                } finally {
+                    ring.release();
+                }
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    private static void formatDirectly(AbstractFormatter formatter, LogEvent event) {
+        try {
+            synchronized (formatter) {
+                if (LoggerMetrics.isTimingEnabled()) {
+                    long start = System.nanoTime();
+                    formatter.formatLogEvent(event);
+                    LoggerMetrics.recordFormatNanos(System.nanoTime() - start);
+                } else {
+                    formatter.formatLogEvent(event);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Trailblazer: failed to format log event from " + event.getLoggerName() + ": " + e);
+        }
+    }
+
+    private static Object[] snapshot(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] snapshot = args;
+        for (int i = 0; i < args.length; i++) {
+            if (!isImmutable(args[i])) {
+                if (snapshot == args) {
+                    snapshot = args.clone();
+                }
+                snapshot[i] = copy(args[i]);
+            }
+        }
+        return snapshot;
+    }
+
+    private static Object copy(Object arg) {
+        if (arg instanceof Date) {
+            return ((Date) arg).clone();
+        } else if (arg instanceof Calendar) {
+            return ((Calendar) arg).clone();
+        } else if (arg instanceof AtomicInteger) {
+            return ((AtomicInteger) arg).get();
+        } else if (arg instanceof AtomicLong) {
+            return ((AtomicLong) arg).get();
+        } else if (arg instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) arg);
+        } else if (arg instanceof Collection) {
+            return new ArrayList<>((Collection<?>) arg);
+        } else if (arg.getClass().isArray()) {
+            int length = Array.getLength(arg);
+            Object array = Array.newInstance(arg.getClass().getComponentType(), length);
+            System.arraycopy(arg, 0, array, 0, length);
+            return array;
+        }
+        return String.valueOf(arg);
+    }
+
+    private static boolean isImmutable(Object arg) {
+        return arg == null
+                || arg instanceof String
+                || arg instanceof Integer
+                || arg instanceof Long
+                || arg instanceof Double
+                || arg instanceof Float
+                || arg instanceof Boolean
+                || arg instanceof Character
+                || arg instanceof Short
+                || arg instanceof Byte
+                || arg instanceof Enum
+                || arg instanceof Class
+                || arg instanceof UUID
+                || arg instanceof BigInteger
+                || arg instanceof BigDecimal
+                || arg instanceof Throwable;
+    }
+}
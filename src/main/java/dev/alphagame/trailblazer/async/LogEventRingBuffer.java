@@ -0,0 +1,162 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.async;
+
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.formatters.AbstractFormatter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer ring of preallocated log events.
+ * <p>
+ * Every slot has a sequence number. A slot with sequence {@code n} is free for the producer
+ * that claims position {@code n}; once filled it is published with sequence {@code n + 1},
+ * and after the consumer is done with it the slot is handed back with {@code n + capacity}.
+ * Producers only contend on a single compare-and-set of the claim cursor.
+ */
+class LogEventRingBuffer {
+    private final LogEvent[] events;
+    private final AbstractFormatter[] formatters;
+    private final AtomicLongArray sequences;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong claimCursor = new AtomicLong();
+    private volatile long consumeCursor;
+
+    /**
+     * Creates a ring buffer. The capacity is rounded up to the next power of two.
+     *
+     * @param requestedCapacity The minimum number of slots.
+     */
+    LogEventRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 2");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.events = new LogEvent[capacity];
+        this.formatters = new AbstractFormatter[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            events[i] = new LogEvent();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Claims the next free slot.
+     *
+     * @return The claimed position, or -1 if the ring is full.
+     */
+    long tryClaim() {
+        for (;;) {
+            long position = claimCursor.get();
+            long difference = sequences.get(index(position)) - position;
+            if (difference == 0) {
+                if (claimCursor.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (difference < 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Gets the event stored at a claimed position so the producer can fill it.
+     *
+     * @param position A position returned by {@link #tryClaim()}.
+     * @return The reusable event for that position.
+     */
+    LogEvent eventAt(long position) {
+        return events[index(position)];
+    }
+
+    /**
+     * Makes a filled slot visible to the consumer.
+     *
+     * @param position  A position returned by {@link #tryClaim()}.
+     * @param formatter The formatter that should render the event.
+     */
+    void publish(long position, AbstractFormatter formatter) {
+        int index = index(position);
+        formatters[index] = formatter;
+        sequences.set(index, position + 1);
+    }
+
+    /**
+     * Checks whether the next event is ready for the consumer.
+     *
+     * @return true if {@link #peekEvent()} will return a published event.
+     */
+    boolean hasNext() {
+        long position = consumeCursor;
+        return sequences.get(index(position)) == position + 1;
+    }
+
+    /**
+     * Gets the next published event. Must only be called after {@link #hasNext()} returned true.
+     *
+     * @return The next event.
+     */
+    LogEvent peekEvent() {
+        return events[index(consumeCursor)];
+    }
+
+    /**
+     * Gets the formatter of the next published event.
+     *
+     * @return The formatter to use for {@link #peekEvent()}.
+     */
+    AbstractFormatter peekFormatter() {
+        return formatters[index(consumeCursor)];
+    }
+
+    /**
+     * Hands the current slot back to the producers and moves on to the next one.
+     */
+    void release() {
+        long position = consumeCursor;
+        int index = index(position);
+        events[index].clear();
+        formatters[index] = null;
+        sequences.lazySet(index, position + capacity);
+        consumeCursor = position + 1;
+    }
+
+    /**
+     * Gets the position that the next claim will receive.
+     *
+     * @return The claim cursor.
+     */
+    long claimed() {
+        return claimCursor.get();
+    }
+
+    /**
+     * Gets the position of the next event the consumer will process.
+     *
+     * @return The consume cursor.
+     */
+    long consumed() {
+        return consumeCursor;
+    }
+
+    /**
+     * Gets the number of slots in this ring.
+     *
+     * @return The capacity.
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    private int index(long position) {
+        return (int) position & mask;
+    }
+}
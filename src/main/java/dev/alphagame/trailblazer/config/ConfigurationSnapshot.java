@@ -0,0 +1,366 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.config;
+
+import dev.alphagame.trailblazer.LogLevel;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable set of logger levels keyed by dot-separated name, with "" standing for all loggers.
+ * A snapshot holds levels only; the other settings of a logger's configuration are not reloaded.
+ * <p>
+ * Snapshots are applied with {@link dev.alphagame.trailblazer.LoggerFactory#applyConfiguration(ConfigurationSnapshot)},
+ * which replaces every level set for a name in one step. They can be loaded from a properties file:
+ * <pre>
+ * level=INFO
+ * level.com.shop.payments=DEBUG
+ * revertAfter=5m
+ * </pre>
+ * or from a JSON file with the same content:
+ * <pre>
+ * {"level": "INFO", "levels": {"com.shop.payments": "DEBUG"}, "revertAfter": "5m"}
+ * </pre>
+ * {@code revertAfter} accepts a number of milliseconds or a number followed by {@code ms}, {@code s},
+ * {@code m} or {@code h}, and makes a watched file restore the previous levels after that time.
+ */
+public final class ConfigurationSnapshot {
+    /**
+     * The snapshot without any level set.
+     */
+    public static final ConfigurationSnapshot EMPTY = new ConfigurationSnapshot(new TreeMap<>(), 0);
+
+    private static final String LEVEL_KEY = "level";
+    private static final String LEVEL_PREFIX = "level.";
+    private static final String LEVELS_KEY = "levels";
+    private static final String REVERT_KEY = "revertAfter";
+
+    private final Map<String, LogLevel> levels;
+    private final long revertAfterMillis;
+
+    private ConfigurationSnapshot(TreeMap<String, LogLevel> levels, long revertAfterMillis) {
+        this.levels = Collections.unmodifiableMap(levels);
+        this.revertAfterMillis = revertAfterMillis;
+    }
+
+    /**
+     * Creates a snapshot from a map of levels.
+     *
+     * @param levels The levels keyed by dot-separated name, with "" for all loggers.
+     * @return The snapshot.
+     */
+    public static ConfigurationSnapshot of(Map<String, LogLevel> levels) {
+        TreeMap<String, LogLevel> copy = new TreeMap<>();
+        for (Map.Entry<String, LogLevel> entry : levels.entrySet()) {
+            if (entry.getValue() != null) {
+                copy.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new ConfigurationSnapshot(copy, 0);
+    }
+
+    /**
+     * Loads a snapshot from a file, read as JSON if it starts with an opening brace and as properties otherwise.
+     *
+     * @param file The file to read.
+     * @return The snapshot.
+     * @throws IOException If the file can't be read.
+     * @throws IllegalArgumentException If the file contains an unknown level or malformed JSON.
+     */
+    public static ConfigurationSnapshot load(Path file) throws IOException {
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        return content.trim().startsWith("{") ? parseJson(content) : parseProperties(new StringReader(content));
+    }
+
+    /**
+     * Reads a snapshot from properties, where {@code level} sets the level of all loggers and
+     * {@code level.<name>} the level of a name.
+     *
+     * @param reader The properties to read.
+     * @return The snapshot.
+     * @throws IOException If the properties can't be read.
+     * @throws IllegalArgumentException If a level is unknown.
+     */
+    public static ConfigurationSnapshot parseProperties(Reader reader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        TreeMap<String, LogLevel> levels = new TreeMap<>();
+        long revertAfterMillis = 0;
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key).trim();
+            if (key.equals(LEVEL_KEY)) {
+                levels.put("", parseLevel(value));
+            } else if (key.startsWith(LEVEL_PREFIX)) {
+                levels.put(key.substring(LEVEL_PREFIX.length()), parseLevel(value));
+            } else if (key.equals(REVERT_KEY)) {
+                revertAfterMillis = parseDuration(value);
+            }
+        }
+        return new ConfigurationSnapshot(levels, revertAfterMillis);
+    }
+
+    /**
+     * Reads a snapshot from a JSON object with an optional {@code "level"} for all loggers,
+     * a {@code "levels"} object keyed by name and an optional {@code "revertAfter"}.
+     *
+     * @param json The JSON text.
+     * @return The snapshot.
+     * @throws IllegalArgumentException If the JSON is malformed or a level is unknown.
+     */
+    public static ConfigurationSnapshot parseJson(String json) {
+        JsonReader reader = new JsonReader(json);
+        TreeMap<String, LogLevel> levels = new TreeMap<>();
+        long revertAfterMillis = 0;
+        reader.expect('{');
+        if (!reader.consume('}')) {
+            do {
+                String key = reader.readString();
+                reader.expect(':');
+                if (key.equals(LEVELS_KEY)) {
+                    reader.expect('{');
+                    if (!reader.consume('}')) {
+                        do {
+                            String name = reader.readString();
+                            reader.expect(':');
+                            levels.put(name, parseLevel(reader.readString()));
+                        } while (reader.consume(','));
+                        reader.expect('}');
+                    }
+                } else if (key.equals(LEVEL_KEY)) {
+                    levels.put("", parseLevel(reader.readString()));
+                } else if (key.equals(REVERT_KEY)) {
+                    revertAfterMillis = parseDuration(reader.readScalar());
+                } else {
+                    reader.readScalar();
+                }
+            } while (reader.consume(','));
+            reader.expect('}');
+        }
+        reader.expectEnd();
+        return new ConfigurationSnapshot(levels, revertAfterMillis);
+    }
+
+    /**
+     * Gets the levels of this snapshot.
+     *
+     * @return The levels keyed by name and sorted by name, with "" for all loggers.
+     */
+    public Map<String, LogLevel> getLevels() {
+        return levels;
+    }
+
+    /**
+     * Gets the level set for exactly a name.
+     *
+     * @param name The dot-separated logger name or package, or "" for all loggers.
+     * @return The level, or null if the name inherits its level.
+     */
+    public LogLevel getLevel(String name) {
+        return levels.get(name);
+    }
+
+    /**
+     * Gets how long a watched file keeps this snapshot before the previous levels are restored.
+     *
+     * @return The time in milliseconds, or 0 to keep it until the file changes again.
+     */
+    public long getRevertAfterMillis() {
+        return revertAfterMillis;
+    }
+
+    /**
+     * Creates a copy of this snapshot with the level of a name set or removed.
+     *
+     * @param name  The dot-separated logger name or package, or "" for all loggers.
+     * @param level The level, or null to remove the level of the name.
+     * @return The new snapshot.
+     */
+    public ConfigurationSnapshot withLevel(String name, LogLevel level) {
+        TreeMap<String, LogLevel> copy = new TreeMap<>(levels);
+        if (level != null) {
+            copy.put(name, level);
+        } else {
+            copy.remove(name);
+        }
+        return new ConfigurationSnapshot(copy, revertAfterMillis);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ConfigurationSnapshot)) {
+            return false;
+        }
+        ConfigurationSnapshot other = (ConfigurationSnapshot) o;
+        return revertAfterMillis == other.revertAfterMillis && levels.equals(other.levels);
+    }
+
+    @Override
+    public int hashCode() {
+        return levels.hashCode() * 31 + Long.hashCode(revertAfterMillis);
+    }
+
+    @Override
+    public String toString() {
+        return revertAfterMillis > 0 ? levels + " for " + revertAfterMillis + "ms" : levels.toString();
+    }
+
+    private static LogLevel parseLevel(String value) {
+        try {
+            return LogLevel.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown log level: " + value);
+        }
+    }
+
+    private static long parseDuration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        TimeUnit unit = TimeUnit.MILLISECONDS;
+        int end = text.length();
+        if (text.endsWith("ms")) {
+            end -= 2;
+        } else if (text.endsWith("s")) {
+            unit = TimeUnit.SECONDS;
+            end--;
+        } else if (text.endsWith("m")) {
+            unit = TimeUnit.MINUTES;
+            end--;
+        } else if (text.endsWith("h")) {
+            unit = TimeUnit.HOURS;
+            end--;
+        }
+        try {
+            long amount = Long.parseLong(text.substring(0, end).trim());
+            if (amount < 0) {
+                throw new IllegalArgumentException("Negative revertAfter: " + value);
+            }
+            return unit.toMillis(amount);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid revertAfter: " + value);
+        }
+    }
+
+    /**
+     * Reads the flat JSON objects of a configuration file: strings, numbers and nested objects of strings.
+     */
+    private static final class JsonReader {
+        private final String json;
+        private int position;
+
+        JsonReader(String json) {
+            this.json = json;
+        }
+
+        void expect(char c) {
+            if (!consume(c)) {
+                throw error("Expected '" + c + "'");
+            }
+        }
+
+        boolean consume(char c) {
+            skipWhitespace();
+            if (position < json.length() && json.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        void expectEnd() {
+            skipWhitespace();
+            if (position < json.length()) {
+                throw error("Unexpected content");
+            }
+        }
+
+        String readString() {
+            expect('"');
+            StringBuilder sb = new StringBuilder();
+            while (position < json.length()) {
+                char c = json.charAt(position++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c == '\\') {
+                    if (position >= json.length()) {
+                        break;
+                    }
+                    char escaped = json.charAt(position++);
+                    switch (escaped) {
+                        case 'n':
+                            sb.append('\n');
+                            break;
+                        case 't':
+                            sb.append('\t');
+                            break;
+                        case 'r':
+                            sb.append('\r');
+                            break;
+                        case 'b':
+                            sb.append('\b');
+                            break;
+                        case 'f':
+                            sb.append('\f');
+                            break;
+                        case 'u':
+                            if (position + 4 > json.length()) {
+                                throw error("Truncated escape");
+                            }
+                            sb.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                            position += 4;
+                            break;
+                        default:
+                            sb.append(escaped);
+                    }
+                } else {
+                    sb.append(c);
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        /**
+         * Reads a string, number, boolean or null and returns its text.
+         */
+        String readScalar() {
+            skipWhitespace();
+            if (position < json.length() && json.charAt(position) == '"') {
+                return readString();
+            }
+            int start = position;
+            while (position < json.length() && ",}] \t\r\n".indexOf(json.charAt(position)) < 0) {
+                position++;
+            }
+            if (start == position) {
+                throw error("Expected a value");
+            }
+            return json.substring(start, position);
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at offset " + position + " of configuration JSON");
+        }
+    }
+}
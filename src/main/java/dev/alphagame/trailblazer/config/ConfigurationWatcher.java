@@ -0,0 +1,147 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.config;
+
+import dev.alphagame.trailblazer.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a {@link ConfigurationSnapshot} file to all loggers whenever the file changes.
+ * <p>
+ * The directory of the file is watched by a daemon thread. A change is applied once the file has
+ * been quiet for {@value #SETTLE_MILLIS} milliseconds, so an editor saving in several writes
+ * causes a single reload. A file that can't be parsed is reported on {@code System.err} and the
+ * levels in effect are kept. Deleting the file keeps the levels of its last version.
+ * <p>
+ * Only levels are reloaded, and a logger whose level was set with
+ * {@link dev.alphagame.trailblazer.TBLogger#setLogLevel(dev.alphagame.trailblazer.LogLevel)}
+ * ignores the file until that level is cleared again with {@code setLogLevel(null)}.
+ * <p>
+ * A file with {@code revertAfter} restores the levels that were in effect before it once that
+ * time has passed, unless the file changed again in the meantime.
+ */
+public class ConfigurationWatcher implements Closeable {
+    private static final long SETTLE_MILLIS = 100;
+
+    private final Path file;
+    private final WatchService watchService;
+    private final Thread thread;
+    private ConfigurationSnapshot loaded;
+
+    /**
+     * Loads a configuration file, applies it and starts watching it.
+     *
+     * @param file The properties or JSON file to watch.
+     * @throws IOException If the file can't be read or its directory can't be watched.
+     * @throws IllegalArgumentException If the file is malformed.
+     */
+    public ConfigurationWatcher(Path file) throws IOException {
+        this.file = file.toAbsolutePath();
+        Path directory = this.file.getParent();
+        this.watchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            reload();
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+        this.thread = new Thread(this::watch, "trailblazer-config-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Reads the file again and applies it if it changed since it was last applied.
+     *
+     * @return true if new levels were applied.
+     * @throws IOException If the file can't be read.
+     * @throws IllegalArgumentException If the file is malformed.
+     */
+    public synchronized boolean reload() throws IOException {
+        ConfigurationSnapshot snapshot = ConfigurationSnapshot.load(file);
+        if (snapshot.equals(loaded)) {
+            return false;
+        }
+        loaded = snapshot;
+        if (snapshot.getRevertAfterMillis() > 0) {
+            LoggerFactory.applyConfiguration(snapshot, snapshot.getRevertAfterMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            LoggerFactory.applyConfiguration(snapshot);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the watched file.
+     *
+     * @return The absolute path of the file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Stops watching the file. The levels in effect are kept.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+
+    private void watch() {
+        try {
+            for (;;) {
+                WatchKey key = watchService.take();
+                boolean changed = pollEvents(key);
+                // Wait for the writes of a save to settle before reading the file
+                while (changed && (key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    pollEvents(key);
+                }
+                if (changed) {
+                    reloadQuietly();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Closed
+        }
+    }
+
+    private boolean pollEvents(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (context instanceof Path && file.getFileName().equals(context))) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (NoSuchFileException e) {
+            // Deleted or being replaced; keep the levels in effect
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Trailblazer: failed to reload configuration from " + file + ": " + e.getMessage());
+        }
+    }
+}
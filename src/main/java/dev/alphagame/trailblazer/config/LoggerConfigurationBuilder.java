@@ -7,12 +7,29 @@ package dev.alphagame.trailblazer.config;
 
 import dev.alphagame.trailblazer.LogLevel;
 import dev.alphagame.trailblazer.LoggerConfiguration;
+import dev.alphagame.trailblazer.appenders.Appender;
+import dev.alphagame.trailblazer.appenders.FileChannelAppender;
+import dev.alphagame.trailblazer.async.AsyncLogDispatcher;
+import dev.alphagame.trailblazer.filters.Filter;
+import dev.alphagame.trailblazer.filters.FilterChain;
 import dev.alphagame.trailblazer.formatters.AbstractFormatter;
+import dev.alphagame.trailblazer.formatters.AppendingFormatter;
+import dev.alphagame.trailblazer.formatters.BinaryFormatter;
+import dev.alphagame.trailblazer.formatters.BinaryLogDecoder;
 import dev.alphagame.trailblazer.formatters.SimpleFormatter;
 import dev.alphagame.trailblazer.formatters.JSONFormatter;
 import dev.alphagame.trailblazer.formatters.ColumnedFormatter;
+import dev.alphagame.trailblazer.formatters.Layout;
+import dev.alphagame.trailblazer.formatters.MessageStyle;
+import dev.alphagame.trailblazer.limits.LogLimiter;
+import dev.alphagame.trailblazer.recorder.FlightRecorder;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Builder pattern for creating logger configurations.
@@ -20,6 +37,10 @@ import java.io.PrintStream;
 public class LoggerConfigurationBuilder {
     private LogLevel logLevel = LogLevel.INFO;
     private AbstractFormatter formatter = new SimpleFormatter();
+    private AsyncLogDispatcher asyncDispatcher;
+    private LogLimiter limiter;
+    private FlightRecorder flightRecorder;
+    private final List<Filter> filters = new ArrayList<>();
     
     /**
      * Creates a new builder instance.
@@ -117,6 +138,17 @@ public class LoggerConfigurationBuilder {
         return this;
     }
     
+    /**
+     * Uses the BinaryFormatter, which writes compact binary records for {@link BinaryLogDecoder}.
+     * 
+     * @param outputStream The output stream to write to, usually a file.
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withBinaryFormatter(PrintStream outputStream) {
+        this.formatter = new BinaryFormatter(outputStream);
+        return this;
+    }
+    
     /**
      * Uses the ColumnedFormatter.
      * 
@@ -163,12 +195,184 @@ public class LoggerConfigurationBuilder {
         return this;
     }
     
+    /**
+     * Makes the current formatter append to a file through a buffered {@link FileChannelAppender}
+     * with the default settings, shared with every other logger writing to the same file.
+     * 
+     * @param filePath The path to the log file.
+     * @return This builder instance.
+     * @throws UncheckedIOException If the file cannot be opened.
+     */
+    public LoggerConfigurationBuilder withFileOutput(String filePath) {
+        try {
+            this.formatter.setOutputStream(FileChannelAppender.sharedPrintStream(new File(filePath)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open log file " + filePath, e);
+        }
+        return this;
+    }
+    
+    /**
+     * Makes the current formatter append to a file through a buffered {@link FileChannelAppender}.
+     * 
+     * @param filePath The path to the log file.
+     * @param bufferSize The number of bytes collected before they are written.
+     * @param flushIntervalMillis The maximum time data stays in the buffer, or 0 to only flush when full.
+     * @return This builder instance.
+     * @throws UncheckedIOException If the file cannot be opened.
+     */
+    public LoggerConfigurationBuilder withFileOutput(String filePath, int bufferSize, long flushIntervalMillis) {
+        try {
+            FileChannelAppender appender = new FileChannelAppender(new File(filePath), bufferSize, flushIntervalMillis);
+            this.formatter.setOutputStream(new PrintStream(appender, false));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open log file " + filePath, e);
+        }
+        return this;
+    }
+    
+    /**
+     * Renders each message once with the current formatter and writes it to several appenders.
+     * The output stream of the current formatter is no longer used.
+     * 
+     * @param appenders The appenders to write to.
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withAppenders(Appender... appenders) {
+        this.formatter = AppendingFormatter.of(this.formatter, appenders);
+        return this;
+    }
+    
+    /**
+     * Renders each message once with a layout and writes it to several appenders.
+     * 
+     * @param layout The layout to render messages with.
+     * @param appenders The appenders to write to.
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withLayout(Layout layout, Appender... appenders) {
+        this.formatter = new AppendingFormatter(layout, appenders);
+        return this;
+    }
+    
+    /**
+     * Sets how the current formatter substitutes arguments into messages.
+     * 
+     * @param messageStyle The message style, e.g. {@link MessageStyle#BRACES} for {@code {}} placeholders.
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withMessageStyle(MessageStyle messageStyle) {
+        this.formatter.setMessageStyle(messageStyle);
+        return this;
+    }
+    
+    /**
+     * Enables the garbage-free output path of the current formatter, which writes
+     * UTF-8 bytes straight to the output stream from reusable per-thread buffers.
+     * 
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withGarbageFree() {
+        this.formatter.setGarbageFree(true);
+        return this;
+    }
+    
+    /**
+     * Formats messages on the shared background thread instead of the logging thread.
+     * 
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withAsync() {
+        this.asyncDispatcher = AsyncLogDispatcher.getDefault();
+        return this;
+    }
+    
+    /**
+     * Formats messages on a dedicated background thread with its own ring buffer.
+     * 
+     * @param bufferSize The number of messages that can be queued, rounded up to a power of two.
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withAsync(int bufferSize) {
+        this.asyncDispatcher = new AsyncLogDispatcher(bufferSize);
+        return this;
+    }
+    
+    /**
+     * Formats messages on the background thread of the given dispatcher.
+     * 
+     * @param dispatcher The dispatcher to use, or null to log synchronously.
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withAsync(AsyncLogDispatcher dispatcher) {
+        this.asyncDispatcher = dispatcher;
+        return this;
+    }
+    
+    /**
+     * Adds a filter that is asked about each enabled message before it is formatted.
+     * Filters are asked in the order they are added, and the first one that accepts or
+     * denies a message decides. Messages no filter decides on are logged.
+     * 
+     * @param filter The filter to add.
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withFilter(Filter filter) {
+        this.filters.add(filter);
+        return this;
+    }
+    
+    /**
+     * Drops or samples messages before they are formatted. Unless the limiter has its own
+     * reporter, suppressed counts are reported as WARN messages from the logger
+     * {@code trailblazer.limiter} through the formatter of this configuration.
+     * 
+     * @param limiter The limiter, or null to log every message.
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withLimiter(LogLimiter limiter) {
+        this.limiter = limiter;
+        return this;
+    }
+    
+    /**
+     * Keeps events below the log level in a flight recorder, to be written out after a FATAL
+     * event, an error logged with a throwable, or on demand. Dumps go to the formatter of
+     * this configuration unless the recorder has its own output.
+     * 
+     * @param flightRecorder The recorder, or null to drop events below the log level.
+     * @return This builder instance.
+     */
+    public LoggerConfigurationBuilder withFlightRecorder(FlightRecorder flightRecorder) {
+        this.flightRecorder = flightRecorder;
+        return this;
+    }
+    
     /**
      * Builds the configuration.
      * 
      * @return A new LoggerConfiguration with the specified settings.
      */
     public LoggerConfiguration build() {
-        return new LoggerConfiguration(logLevel, formatter);
+        LoggerConfiguration configuration = new LoggerConfiguration(logLevel, formatter, asyncDispatcher);
+        configuration.filters = FilterChain.of(filters);
+        if (limiter != null) {
+            if (limiter.getReporter() == null) {
+                AbstractFormatter reportFormatter = formatter;
+                limiter.setReporter(message -> {
+                    synchronized (reportFormatter) {
+                        reportFormatter.formatLogMessage(LogLevel.WARN.name(), "trailblazer.limiter", message);
+                    }
+                });
+            }
+            configuration.limiter = limiter;
+        }
+        if (flightRecorder != null) {
+            if (flightRecorder.getOutput() == null) {
+                flightRecorder.setOutput(formatter);
+            }
+            configuration.flightRecorder = flightRecorder;
+        }
+        return configuration;
     }
 }
@@ -0,0 +1,177 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.context;
+
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable, insertion-ordered map of diagnostic context entries, stored as two small
+ * arrays. Adding or removing an entry copies the arrays, which is cheap for the handful of
+ * entries a context usually holds, and means a map can be shared between threads and
+ * attached to log events without copying. Reading it never allocates.
+ */
+public final class ContextMap {
+    /**
+     * The map without entries.
+     */
+    public static final ContextMap EMPTY = new ContextMap(new String[0], new String[0]);
+
+    private final String[] keys;
+    private final String[] values;
+
+    private ContextMap(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return The size.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Checks whether this map has no entries.
+     *
+     * @return true if the map is empty.
+     */
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * Gets the key of an entry.
+     *
+     * @param index The index of the entry, in insertion order.
+     * @return The key.
+     */
+    public String getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Gets the value of an entry.
+     *
+     * @param index The index of the entry, in insertion order.
+     * @return The value.
+     */
+    public String getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Gets the value for a key.
+     *
+     * @param key The key.
+     * @return The value, or null if the key is not present.
+     */
+    public String get(String key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * Returns a map with an entry added or replaced.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return The new map.
+     */
+    public ContextMap with(String key, String value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            String[] newValues = values.clone();
+            newValues[index] = value;
+            return new ContextMap(keys, newValues);
+        }
+        String[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+        String[] newValues = Arrays.copyOf(values, values.length + 1);
+        newKeys[keys.length] = key;
+        newValues[values.length] = value;
+        return new ContextMap(newKeys, newValues);
+    }
+
+    /**
+     * Returns a map without an entry.
+     *
+     * @param key The key to remove.
+     * @return The new map, or this map if the key is not present.
+     */
+    public ContextMap without(String key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return this;
+        }
+        if (keys.length == 1) {
+            return EMPTY;
+        }
+        String[] newKeys = new String[keys.length - 1];
+        String[] newValues = new String[values.length - 1];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+        System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+        return new ContextMap(newKeys, newValues);
+    }
+
+    /**
+     * Copies the entries into a new map.
+     *
+     * @return A mutable, insertion-ordered copy.
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], values[i]);
+        }
+        return map;
+    }
+
+    /**
+     * Appends the entries as {@code key=value, key=value} in UTF-8.
+     *
+     * @param out The buffer to append to.
+     */
+    public void appendTo(Utf8Buffer out) {
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                out.append((byte) ',').append((byte) ' ');
+            }
+            out.append(keys[i]).append((byte) '=').append(values[i]);
+        }
+    }
+
+    private int indexOf(String key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Formats the entries as {@code key=value, key=value}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(keys[i]).append('=').append(values[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,166 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.context;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The mapped diagnostic context: entries such as request and tenant ids that are attached to
+ * every event logged on the current thread, and rendered by the formatters.
+ * <p>
+ * The context of a thread is an immutable {@link ContextMap}, so attaching it to an event or
+ * taking a snapshot for another thread is a reference copy. Only changing it allocates.
+ * <pre>
+ * try (MDC.Scope scope = MDC.with("requestId", requestId)) {
+ *     logger.info("Handling order {}", orderId);
+ *     executor.submit(MDC.wrap(() -&gt; logger.info("Runs with the same requestId")));
+ * }
+ * </pre>
+ */
+public final class MDC {
+    private static final ThreadLocal<Holder> current = ThreadLocal.withInitial(Holder::new);
+
+    private MDC() {
+    }
+
+    /**
+     * Adds or replaces an entry in the context of the current thread.
+     *
+     * @param key   The key.
+     * @param value The value.
+     */
+    public static void put(String key, String value) {
+        Holder holder = current.get();
+        holder.context = holder.context.with(key, value);
+    }
+
+    /**
+     * Gets an entry from the context of the current thread.
+     *
+     * @param key The key.
+     * @return The value, or null if the key is not present.
+     */
+    public static String get(String key) {
+        return current.get().context.get(key);
+    }
+
+    /**
+     * Removes an entry from the context of the current thread.
+     *
+     * @param key The key.
+     */
+    public static void remove(String key) {
+        Holder holder = current.get();
+        holder.context = holder.context.without(key);
+    }
+
+    /**
+     * Removes all entries from the context of the current thread.
+     */
+    public static void clear() {
+        current.get().context = ContextMap.EMPTY;
+    }
+
+    /**
+     * Gets the context of the current thread. The map is immutable, so it can be kept as a
+     * snapshot and restored later with {@link #setContext(ContextMap)}.
+     *
+     * @return The context.
+     */
+    public static ContextMap getContext() {
+        return current.get().context;
+    }
+
+    /**
+     * Replaces the context of the current thread.
+     *
+     * @param context The context, or null to clear it.
+     */
+    public static void setContext(ContextMap context) {
+        current.get().context = context != null ? context : ContextMap.EMPTY;
+    }
+
+    /**
+     * Adds an entry until the returned scope is closed, which restores the previous context.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return The scope to close.
+     */
+    public static Scope with(String key, String value) {
+        Holder holder = current.get();
+        Scope scope = new Scope(holder.context);
+        holder.context = holder.context.with(key, value);
+        return scope;
+    }
+
+    /**
+     * Wraps a task so that it runs with the context of the calling thread, for handing work
+     * to an executor. The thread that runs it gets its own context back afterwards.
+     *
+     * @param task The task.
+     * @return The wrapped task.
+     */
+    public static Runnable wrap(Runnable task) {
+        ContextMap captured = getContext();
+        return () -> {
+            Holder holder = current.get();
+            ContextMap previous = holder.context;
+            holder.context = captured;
+            try {
+                task.run();
+            } finally {
+                holder.context = previous;
+            }
+        };
+    }
+
+    /**
+     * Wraps a task so that it runs with the context of the calling thread, for handing work
+     * to an executor. The thread that runs it gets its own context back afterwards.
+     *
+     * @param <T>  The result type of the task.
+     * @param task The task.
+     * @return The wrapped task.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        ContextMap captured = getContext();
+        return () -> {
+            Holder holder = current.get();
+            ContextMap previous = holder.context;
+            holder.context = captured;
+            try {
+                return task.call();
+            } finally {
+                holder.context = previous;
+            }
+        };
+    }
+
+    /**
+     * Restores the context that was current when it was created.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final ContextMap previous;
+
+        private Scope(ContextMap previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            setContext(previous);
+        }
+    }
+
+    /**
+     * The context of one thread, kept in a mutable holder so that changing it doesn't go
+     * through {@link ThreadLocal#set(Object)}.
+     */
+    private static final class Holder {
+        ContextMap context = ContextMap.EMPTY;
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.filters;
+
+import dev.alphagame.trailblazer.LogLevel;
+
+/**
+ * Common {@link EventCondition}s. None of them allocate or format anything.
+ */
+public final class Conditions {
+    private Conditions() {
+    }
+
+    /**
+     * Holds for events at or above a level.
+     *
+     * @param level The least severe level that matches.
+     * @return The condition.
+     */
+    public static EventCondition levelAtLeast(LogLevel level) {
+        int threshold = level.getLevel();
+        return (eventLevel, loggerName, message, args) -> eventLevel.getLevel() >= threshold;
+    }
+
+    /**
+     * Holds for events below a level.
+     *
+     * @param level The least severe level that does not match.
+     * @return The condition.
+     */
+    public static EventCondition levelBelow(LogLevel level) {
+        int threshold = level.getLevel();
+        return (eventLevel, loggerName, message, args) -> eventLevel.getLevel() < threshold;
+    }
+
+    /**
+     * Holds for loggers at or below a dot-separated name, such as {@code com.shop.payments}.
+     *
+     * @param name The logger name or package.
+     * @return The condition.
+     */
+    public static EventCondition loggerUnder(String name) {
+        int length = name.length();
+        return (level, loggerName, message, args) -> loggerName != null && loggerName.startsWith(name)
+                && (loggerName.length() == length || loggerName.charAt(length) == '.');
+    }
+
+    /**
+     * Holds for message templates that start with a prefix.
+     *
+     * @param prefix The prefix.
+     * @return The condition.
+     */
+    public static EventCondition messageStartsWith(String prefix) {
+        return (level, loggerName, message, args) -> message != null && message.startsWith(prefix);
+    }
+
+    /**
+     * Holds for message templates that contain some text.
+     *
+     * @param text The text.
+     * @return The condition.
+     */
+    public static EventCondition messageContains(String text) {
+        return (level, loggerName, message, args) -> message != null && message.contains(text);
+    }
+
+    /**
+     * Holds for events that carry a marker among their arguments.
+     *
+     * @param marker The marker.
+     * @return The condition.
+     */
+    public static EventCondition hasMarker(Marker marker) {
+        return (level, loggerName, message, args) -> Marker.isPresent(marker, args);
+    }
+
+    /**
+     * Holds for events that carry the marker with a name among their arguments.
+     *
+     * @param markerName The name of the marker.
+     * @return The condition.
+     */
+    public static EventCondition hasMarker(String markerName) {
+        return hasMarker(Marker.of(markerName));
+    }
+
+    /**
+     * Holds for events logged by threads whose name starts with a prefix.
+     *
+     * @param prefix The prefix of the thread name.
+     * @return The condition.
+     */
+    public static EventCondition threadNameStartsWith(String prefix) {
+        return (level, loggerName, message, args) -> Thread.currentThread().getName().startsWith(prefix);
+    }
+}
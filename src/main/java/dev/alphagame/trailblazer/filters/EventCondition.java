@@ -0,0 +1,57 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.filters;
+
+import dev.alphagame.trailblazer.LogLevel;
+
+/**
+ * A test on an event before it is formatted. The message is the template as passed to the
+ * logger, before any arguments are substituted.
+ */
+@FunctionalInterface
+public interface EventCondition {
+    /**
+     * Tests an event.
+     *
+     * @param level      The level of the event.
+     * @param loggerName The name of the logger.
+     * @param message    The message template.
+     * @param args       The arguments, or null if there are none.
+     * @return true if the condition holds.
+     */
+    boolean test(LogLevel level, String loggerName, String message, Object[] args);
+
+    /**
+     * Combines this condition with another one that must also hold.
+     *
+     * @param other The other condition.
+     * @return The combined condition.
+     */
+    default EventCondition and(EventCondition other) {
+        return (level, loggerName, message, args) -> test(level, loggerName, message, args)
+                && other.test(level, loggerName, message, args);
+    }
+
+    /**
+     * Combines this condition with another one, either of which must hold.
+     *
+     * @param other The other condition.
+     * @return The combined condition.
+     */
+    default EventCondition or(EventCondition other) {
+        return (level, loggerName, message, args) -> test(level, loggerName, message, args)
+                || other.test(level, loggerName, message, args);
+    }
+
+    /**
+     * Negates this condition.
+     *
+     * @return The negated condition.
+     */
+    default EventCondition negate() {
+        return (level, loggerName, message, args) -> !test(level, loggerName, message, args);
+    }
+}
@@ -0,0 +1,65 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.filters;
+
+/**
+ * A condition and the results to give when it holds and when it does not.
+ */
+public final class Filter {
+    private final EventCondition condition;
+    private final FilterResult onMatch;
+    private final FilterResult onMismatch;
+
+    private Filter(EventCondition condition, FilterResult onMatch, FilterResult onMismatch) {
+        this.condition = condition;
+        this.onMatch = onMatch;
+        this.onMismatch = onMismatch;
+    }
+
+    /**
+     * Creates a filter.
+     *
+     * @param condition  The condition.
+     * @param onMatch    The result when the condition holds.
+     * @param onMismatch The result when it does not.
+     * @return The filter.
+     */
+    public static Filter of(EventCondition condition, FilterResult onMatch, FilterResult onMismatch) {
+        return new Filter(condition, onMatch, onMismatch);
+    }
+
+    /**
+     * Creates a filter that logs the events a condition holds for and leaves the others to the next filter.
+     *
+     * @param condition The condition.
+     * @return The filter.
+     */
+    public static Filter accept(EventCondition condition) {
+        return new Filter(condition, FilterResult.ACCEPT, FilterResult.NEUTRAL);
+    }
+
+    /**
+     * Creates a filter that drops the events a condition holds for and leaves the others to the next filter.
+     *
+     * @param condition The condition.
+     * @return The filter.
+     */
+    public static Filter deny(EventCondition condition) {
+        return new Filter(condition, FilterResult.DENY, FilterResult.NEUTRAL);
+    }
+
+    EventCondition getCondition() {
+        return condition;
+    }
+
+    FilterResult getOnMatch() {
+        return onMatch;
+    }
+
+    FilterResult getOnMismatch() {
+        return onMismatch;
+    }
+}
@@ -0,0 +1,76 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.filters;
+
+import dev.alphagame.trailblazer.LogLevel;
+
+import java.util.List;
+
+/**
+ * An ordered list of filters, flattened into parallel arrays of conditions and results so
+ * that deciding on an event is a loop over arrays with no iterator or allocation.
+ * The first filter that does not return {@link FilterResult#NEUTRAL} decides.
+ */
+public final class FilterChain {
+    private final EventCondition[] conditions;
+    private final FilterResult[] onMatch;
+    private final FilterResult[] onMismatch;
+
+    private FilterChain(List<Filter> filters) {
+        int count = filters.size();
+        this.conditions = new EventCondition[count];
+        this.onMatch = new FilterResult[count];
+        this.onMismatch = new FilterResult[count];
+        for (int i = 0; i < count; i++) {
+            Filter filter = filters.get(i);
+            conditions[i] = filter.getCondition();
+            onMatch[i] = filter.getOnMatch();
+            onMismatch[i] = filter.getOnMismatch();
+        }
+    }
+
+    /**
+     * Compiles a list of filters.
+     *
+     * @param filters The filters, in the order they are asked.
+     * @return The chain, or null if there are no filters.
+     */
+    public static FilterChain of(List<Filter> filters) {
+        return filters.isEmpty() ? null : new FilterChain(filters);
+    }
+
+    /**
+     * Asks the filters about an event.
+     *
+     * @param level      The level of the event.
+     * @param loggerName The name of the logger.
+     * @param message    The message template.
+     * @param args       The arguments, or null if there are none.
+     * @return The result of the first filter that decides, or {@link FilterResult#NEUTRAL}.
+     */
+    public FilterResult decide(LogLevel level, String loggerName, String message, Object[] args) {
+        for (int i = 0; i < conditions.length; i++) {
+            FilterResult result = conditions[i].test(level, loggerName, message, args) ? onMatch[i] : onMismatch[i];
+            if (result != FilterResult.NEUTRAL) {
+                return result;
+            }
+        }
+        return FilterResult.NEUTRAL;
+    }
+
+    /**
+     * Checks whether an event should be logged.
+     *
+     * @param level      The level of the event.
+     * @param loggerName The name of the logger.
+     * @param message    The message template.
+     * @param args       The arguments, or null if there are none.
+     * @return false if a filter denies the event.
+     */
+    public boolean accepts(LogLevel level, String loggerName, String message, Object[] args) {
+        return decide(level, loggerName, message, args) != FilterResult.DENY;
+    }
+}
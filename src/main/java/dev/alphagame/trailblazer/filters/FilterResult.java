@@ -0,0 +1,26 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.filters;
+
+/**
+ * The decision of a {@link Filter} about an event.
+ */
+public enum FilterResult {
+    /**
+     * Log the event without asking the remaining filters.
+     */
+    ACCEPT,
+
+    /**
+     * Drop the event without asking the remaining filters.
+     */
+    DENY,
+
+    /**
+     * Leave the decision to the next filter. An event no filter decides on is logged.
+     */
+    NEUTRAL
+}
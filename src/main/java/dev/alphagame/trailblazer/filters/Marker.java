@@ -0,0 +1,102 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.filters;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A tag that can be passed among the arguments of a log call, for filters to match on:
+ * <pre>
+ * logger.info("Probe ok", Marker.of("healthcheck"));
+ * </pre>
+ * Markers are interned by name, so matching one is an identity check. They are removed from the
+ * arguments once the filters have run, so they are neither formatted nor written.
+ */
+public final class Marker {
+    private static final ConcurrentMap<String, Marker> markers = new ConcurrentHashMap<>();
+
+    private final String name;
+
+    private Marker(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the marker with a name.
+     *
+     * @param name The name of the marker.
+     * @return The marker, the same instance for the same name.
+     */
+    public static Marker of(String name) {
+        return markers.computeIfAbsent(name, Marker::new);
+    }
+
+    /**
+     * Gets the name of this marker.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks whether a marker is among the arguments of an event.
+     *
+     * @param marker The marker.
+     * @param args   The arguments, or null.
+     * @return true if the marker is present.
+     */
+    public static boolean isPresent(Marker marker, Object[] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg == marker) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the markers from the arguments of an event.
+     *
+     * @param args The arguments, or null.
+     * @return The same array if it holds no markers, else a copy without them, or null if only
+     *         markers were passed.
+     */
+    public static Object[] strip(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        int markers = 0;
+        for (Object arg : args) {
+            if (arg instanceof Marker) {
+                markers++;
+            }
+        }
+        if (markers == 0) {
+            return args;
+        }
+        if (markers == args.length) {
+            return null;
+        }
+        Object[] stripped = new Object[args.length - markers];
+        int i = 0;
+        for (Object arg : args) {
+            if (!(arg instanceof Marker)) {
+                stripped[i++] = arg;
+            }
+        }
+        return stripped;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -5,12 +5,22 @@
 
 package dev.alphagame.trailblazer.formatters;
 
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+
 import java.io.PrintStream;
 
 public abstract class AbstractFormatter {
+    private static final int LINE_SEPARATOR_LENGTH = System.lineSeparator().length();
+
     protected String format;
     protected String dateFormat;
     protected PrintStream outputStream;
+    protected boolean garbageFree;
+    protected MessageStyle messageStyle = MessageStyle.AUTO;
+    protected StackTraceCache stackTraceCache = new StackTraceCache(StackTraceCache.DEFAULT_SIZE);
+    // Off when the output is captured by a layout, whose appenders count it instead
+    boolean countOutput = true;
 
     public AbstractFormatter() {
         this.outputStream = System.out;
@@ -38,6 +48,111 @@ public abstract class AbstractFormatter {
         return outputStream;
     }
 
+    /**
+     * Enables or disables the garbage-free output path. Formatters that support it render
+     * into reusable per-thread buffers and write UTF-8 bytes straight to the output stream,
+     * instead of building strings and letting the stream encode them with the platform charset.
+     * Formatters that don't support it ignore this setting.
+     * 
+     * @param garbageFree true to enable the garbage-free path.
+     */
+    public void setGarbageFree(boolean garbageFree) {
+        this.garbageFree = garbageFree;
+    }
+
+    /**
+     * Checks whether the garbage-free output path is enabled.
+     * 
+     * @return true if the garbage-free path is enabled.
+     */
+    public boolean isGarbageFree() {
+        return garbageFree;
+    }
+
+    /**
+     * Sets how arguments are substituted into messages.
+     * 
+     * @param messageStyle The message style to use.
+     */
+    public void setMessageStyle(MessageStyle messageStyle) {
+        this.messageStyle = messageStyle != null ? messageStyle : MessageStyle.AUTO;
+    }
+
+    /**
+     * Gets how arguments are substituted into messages.
+     * 
+     * @return The message style.
+     */
+    public MessageStyle getMessageStyle() {
+        return messageStyle;
+    }
+
+    /**
+     * Sets the cache that decides whether a stack trace is printed in full or as a reference to
+     * an earlier occurrence.
+     * 
+     * @param stackTraceCache The cache, or null to print every stack trace in full.
+     */
+    public void setStackTraceCache(StackTraceCache stackTraceCache) {
+        this.stackTraceCache = stackTraceCache;
+    }
+
+    /**
+     * Gets the cache of stack traces already printed.
+     * 
+     * @return The cache, or null if every stack trace is printed in full.
+     */
+    public StackTraceCache getStackTraceCache() {
+        return stackTraceCache;
+    }
+
+    /**
+     * Substitutes the arguments into a message according to the message style.
+     * 
+     * @param message The log message.
+     * @param args    The arguments to format the message with.
+     * @return The formatted message.
+     */
+    protected String formatMessage(String message, Object[] args) {
+        MessageTemplate template = templateFor(message);
+        return template != null ? template.format(args) : String.format(message, args);
+    }
+
+    /**
+     * Gets the parsed template to render a message with, according to the message style.
+     * 
+     * @param message The log message.
+     * @return The template, or null if the message should be passed to {@link String#format(String, Object...)}.
+     */
+    protected MessageTemplate templateFor(String message) {
+        if (messageStyle == MessageStyle.PRINTF) {
+            return null;
+        }
+        MessageTemplate template = MessageTemplate.of(message);
+        return messageStyle == MessageStyle.AUTO && template.isPrintfStyle() ? null : template;
+    }
+
+    /**
+     * Counts bytes written to the output stream in the logging metrics.
+     * 
+     * @param bytes The number of bytes written.
+     */
+    protected void recordOutput(long bytes) {
+        if (countOutput) {
+            LoggerMetrics.recordBytesWritten(bytes);
+        }
+    }
+
+    /**
+     * Counts a line printed to the output stream in the logging metrics, by its length in
+     * characters plus the line separator.
+     * 
+     * @param line The line that was printed.
+     */
+    protected void recordOutput(String line) {
+        recordOutput(line.length() + LINE_SEPARATOR_LENGTH);
+    }
+
     /**
      * Formats a log message with the given level, logger name, message, and arguments.
      *
@@ -57,6 +172,27 @@ public abstract class AbstractFormatter {
      */
     public abstract void formatLogMessage(String level, String loggerName, String message);
     
+    /**
+     * Formats a log event. The event carries its own timestamp, so formatters that print
+     * the time should use {@link LogEvent#getTimestamp()} rather than reading the clock.
+     * The default implementation delegates to the message-based methods, adding the throwable
+     * of the event, if any, to the message as {@code " - " + throwable}.
+     *
+     * @param event The event to format.
+     */
+    public void formatLogEvent(LogEvent event) {
+        String message = event.getMessage();
+        if (event.getThrown() != null) {
+            // Formatters that only implement formatLogMessage have no other place for the throwable
+            message = message + " - " + event.getThrown();
+        }
+        if (event.getArgs() == null) {
+            formatLogMessage(event.getLevel().name(), event.getLoggerName(), message);
+        } else {
+            formatLogMessage(event.getLevel().name(), event.getLoggerName(), message, event.getArgs());
+        }
+    }
+    
     /**
      * Formats a log message with the given level, message, and arguments (legacy method).
      *
@@ -0,0 +1,214 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.appenders.Appender;
+import dev.alphagame.trailblazer.context.MDC;
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A formatter that renders each event once with a {@link Layout} and hands the same bytes
+ * to every one of its appenders, for example to the console and a file at once.
+ * <p>
+ * The output stream of this formatter is not used. Message style and garbage-free settings
+ * are passed on to the layout when it is a formatter itself.
+ */
+public class AppendingFormatter extends AbstractFormatter {
+    private static final ThreadLocal<RenderBuffer> renderBuffers = ThreadLocal.withInitial(RenderBuffer::new);
+
+    private final Layout layout;
+    private volatile Appender[] appenders;
+
+    /**
+     * Creates a formatter that renders with a layout and writes to appenders.
+     *
+     * @param layout    The layout to render events with.
+     * @param appenders The appenders to write to.
+     */
+    public AppendingFormatter(Layout layout, Appender... appenders) {
+        super();
+        this.layout = layout;
+        this.appenders = appenders.clone();
+    }
+
+    /**
+     * Creates a formatter that renders with an existing formatter. Formatters that are not
+     * a {@link Layout} themselves are wrapped in a {@link FormatterLayout}.
+     *
+     * @param formatter The formatter to render events with.
+     * @param appenders The appenders to write to.
+     * @return The new formatter.
+     */
+    public static AppendingFormatter of(AbstractFormatter formatter, Appender... appenders) {
+        Layout layout = formatter instanceof Layout ? (Layout) formatter : new FormatterLayout(formatter);
+        return new AppendingFormatter(layout, appenders);
+    }
+
+    /**
+     * Gets the layout events are rendered with.
+     *
+     * @return The layout.
+     */
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Gets the appenders events are written to.
+     *
+     * @return A copy of the appenders.
+     */
+    public Appender[] getAppenders() {
+        return appenders.clone();
+    }
+
+    /**
+     * Adds an appender.
+     *
+     * @param appender The appender to add.
+     */
+    public synchronized void addAppender(Appender appender) {
+        Appender[] current = appenders;
+        Appender[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = appender;
+        appenders = updated;
+    }
+
+    /**
+     * Removes an appender. The appender is not closed.
+     *
+     * @param appender The appender to remove.
+     */
+    public synchronized void removeAppender(Appender appender) {
+        Appender[] current = appenders;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == appender) {
+                Appender[] updated = new Appender[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                appenders = updated;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void setMessageStyle(MessageStyle messageStyle) {
+        super.setMessageStyle(messageStyle);
+        AbstractFormatter formatter = layoutFormatter();
+        if (formatter != null) {
+            formatter.setMessageStyle(messageStyle);
+        }
+    }
+
+    @Override
+    public void setGarbageFree(boolean garbageFree) {
+        super.setGarbageFree(garbageFree);
+        AbstractFormatter formatter = layoutFormatter();
+        if (formatter != null) {
+            formatter.setGarbageFree(garbageFree);
+        }
+    }
+
+    /**
+     * Renders the event once and writes it to every appender.
+     * A failing appender does not keep the others from receiving the event.
+     *
+     * @param event The event to format.
+     */
+    @Override
+    public void formatLogEvent(LogEvent event) {
+        RenderBuffer buffer = renderBuffers.get();
+        if (buffer.inUse) {
+            // An appender or argument is logging while this thread renders
+            buffer = new RenderBuffer();
+        }
+        buffer.inUse = true;
+        try {
+            Utf8Buffer out = buffer.out;
+            out.reset();
+            layout.format(event, out);
+            for (Appender appender : appenders) {
+                try {
+                    appender.append(event, out.array(), 0, out.length());
+                    recordOutput(out.length());
+                } catch (IOException e) {
+                    LoggerMetrics.recordWriteError();
+                    System.err.println("Trailblazer: appender " + appender + " failed: " + e);
+                }
+            }
+        } finally {
+            buffer.inUse = false;
+        }
+    }
+
+    @Override
+    public void formatLogMessage(String level, String loggerName, String message, Object... args) {
+        LogEvent event = new LogEvent();
+        event.set(toLevel(level), loggerName, message, args, System.currentTimeMillis());
+        event.setContext(MDC.getContext());
+        formatLogEvent(event);
+    }
+
+    @Override
+    public void formatLogMessage(String level, String loggerName, String message) {
+        formatLogMessage(level, loggerName, message, (Object[]) null);
+    }
+
+    /**
+     * Flushes every appender.
+     *
+     * @throws IOException If an appender fails to flush.
+     */
+    public void flush() throws IOException {
+        for (Appender appender : appenders) {
+            appender.flush();
+        }
+    }
+
+    /**
+     * Closes every appender.
+     *
+     * @throws IOException If an appender fails to close.
+     */
+    public void close() throws IOException {
+        for (Appender appender : appenders) {
+            appender.close();
+        }
+    }
+
+    private AbstractFormatter layoutFormatter() {
+        if (layout instanceof AbstractFormatter) {
+            return (AbstractFormatter) layout;
+        }
+        if (layout instanceof FormatterLayout) {
+            return ((FormatterLayout) layout).getFormatter();
+        }
+        return null;
+    }
+
+    private static LogLevel toLevel(String level) {
+        try {
+            return LogLevel.valueOf(level);
+        } catch (IllegalArgumentException e) {
+            return LogLevel.INFO;
+        }
+    }
+
+    /**
+     * A thread's reusable render buffer.
+     */
+    private static final class RenderBuffer {
+        final Utf8Buffer out = new Utf8Buffer(256);
+        boolean inUse;
+    }
+}
@@ -0,0 +1,352 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+import dev.alphagame.trailblazer.KeyValues;
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.context.ContextMap;
+import dev.alphagame.trailblazer.context.MDC;
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A formatter that writes events as compact binary records instead of text, to be turned
+ * back into text later with {@link BinaryLogDecoder}.
+ * <p>
+ * Logger names and the templates of messages with arguments are written once per stream in a
+ * definition record and referred to by number afterwards; messages without arguments are
+ * written inline, so one-off strings don't fill the dictionary. An event record holds one byte for its type and
+ * level, the timestamp as a varint difference to the previous event, the numbers of its
+ * logger name and template, its arguments, its diagnostic context and its key-value fields.
+ * Messages are never rendered, so an event costs a few map lookups and varint writes.
+ * <p>
+ * Format, with all integers as unsigned LEB128 varints and signed ones zigzag-encoded:
+ * <pre>
+ * header:     'T' 'B' 'L' 'G' version:u8 messageStyle:u8
+ * definition: 0x01 id string
+ * event:      (0x10 | thrown:0x08 | level ordinal) timestampDelta:signed loggerId templateId argCount arg*
+ *             contextCount (keyId value:string)* fieldCount (keyId arg)* throwable?
+ * throwable:  classId message:arg frameCount frame* suppressedCount throwable* hasCause:u8 throwable?
+ * frame:      classId methodId hasFile:u8 fileId? line:signed
+ * string:     length utf8-bytes
+ * </pre>
+ * Ids start at 1; id 0 is followed by the string itself, which is used for messages without
+ * arguments and once the dictionary is full. Arguments start with a tag byte: integers, longs, characters, floats, doubles,
+ * booleans, strings and null keep their type, anything else is written as its
+ * {@code toString()}; key-value fields use the same tags, so long, double and boolean fields
+ * keep their type. Context and field keys are interned, their values are not. Version 2 files,
+ * whose events end after their arguments, still decode. A throwable is written with its class,
+ * message, frames, cause and
+ * suppressed exceptions, interning the class, method and file names of the frames. A header
+ * starts every new output stream, so a file that several processes appended to in turn still
+ * decodes.
+ * <p>
+ * The output stream must be given explicitly, since binary records on a console are of no use.
+ */
+public class BinaryFormatter extends AbstractFormatter {
+    static final byte[] MAGIC = { 'T', 'B', 'L', 'G' };
+    static final int VERSION = 3;
+    static final int DEFINITION = 0x01;
+    static final int EVENT = 0x10;
+    static final int EVENT_THROWN = 0x08;
+    static final int ARG_NULL = 0;
+    static final int ARG_STRING = 1;
+    static final int ARG_INT = 2;
+    static final int ARG_LONG = 3;
+    static final int ARG_DOUBLE = 4;
+    static final int ARG_FLOAT = 5;
+    static final int ARG_TRUE = 6;
+    static final int ARG_FALSE = 7;
+    static final int ARG_CHAR = 8;
+
+    /**
+     * The default maximum number of logger names and templates interned per stream.
+     */
+    public static final int DEFAULT_DICTIONARY_SIZE = 65536;
+
+    private final int maxDictionarySize;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final Utf8Buffer record = new Utf8Buffer(256);
+    private final Utf8Buffer text = new Utf8Buffer(128);
+    private final Utf8Buffer thrownRecord = new Utf8Buffer(256);
+    private final Utf8Buffer fieldsRecord = new Utf8Buffer(128);
+    private PrintStream headerWrittenTo;
+    private long lastTimestamp;
+
+    /**
+     * Creates a binary formatter.
+     *
+     * @param outputStream The stream to write to, usually a file.
+     * @throws IllegalArgumentException If the stream is null.
+     */
+    public BinaryFormatter(PrintStream outputStream) {
+        this(outputStream, DEFAULT_DICTIONARY_SIZE);
+    }
+
+    /**
+     * Creates a binary formatter.
+     *
+     * @param outputStream      The stream to write to, usually a file.
+     * @param maxDictionarySize The number of distinct logger names and templates to intern
+     *                          per stream; further ones are written out with every event.
+     * @throws IllegalArgumentException If the stream is null.
+     */
+    public BinaryFormatter(PrintStream outputStream, int maxDictionarySize) {
+        super(requireStream(outputStream));
+        this.maxDictionarySize = maxDictionarySize;
+    }
+
+    /**
+     * Sets the output stream for this formatter.
+     *
+     * @param outputStream The output stream to write to.
+     * @throws IllegalArgumentException If the stream is null, which other formatters take to mean
+     *                                  {@code System.out}.
+     */
+    @Override
+    public void setOutputStream(PrintStream outputStream) {
+        super.setOutputStream(requireStream(outputStream));
+    }
+
+    @Override
+    public void formatLogMessage(String level, String loggerName, String message, Object... args) {
+        writeEvent(toLevel(level), loggerName, message, args, MDC.getContext(), null, null,
+                System.currentTimeMillis());
+    }
+
+    @Override
+    public void formatLogMessage(String level, String loggerName, String message) {
+        writeEvent(toLevel(level), loggerName, message, null, MDC.getContext(), null, null,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * Writes a log event as a binary record, using the time at which it was logged.
+     *
+     * @param event The event to write.
+     */
+    @Override
+    public void formatLogEvent(LogEvent event) {
+        writeEvent(event.getLevel(), event.getLoggerName(), event.getMessage(), event.getArgs(), event.getContext(),
+                event.getKeyValues(), event.getThrown(), event.getTimestamp());
+    }
+
+    private synchronized void writeEvent(LogLevel level, String loggerName, String message, Object[] args,
+            ContextMap context, KeyValues keyValues, Throwable thrown, long timestamp) {
+        Utf8Buffer out = record;
+        out.reset();
+        if (headerWrittenTo != outputStream) {
+            // Every stream gets its own header and dictionary
+            headerWrittenTo = outputStream;
+            dictionary.clear();
+            lastTimestamp = 0;
+            out.append(MAGIC).append((byte) VERSION).append((byte) messageStyle.ordinal());
+        }
+        int loggerId = intern(out, loggerName);
+        // Messages without arguments are often built per call, so only templates are interned
+        int templateId = args != null && args.length > 0 ? intern(out, message) : 0;
+        // Also written aside, for the keys it interns
+        fieldsRecord.reset();
+        writeFields(out, fieldsRecord, context, keyValues);
+        if (thrown != null) {
+            // Written aside first, since the names it interns must be defined before the event
+            thrownRecord.reset();
+            writeThrowable(out, thrownRecord, thrown, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        out.append((byte) (EVENT | (thrown != null ? EVENT_THROWN : 0) | level.ordinal()));
+        writeVarLong(out, zigzag(timestamp - lastTimestamp));
+        lastTimestamp = timestamp;
+        writeReference(out, loggerId, loggerName);
+        writeReference(out, templateId, message);
+        int argCount = args != null ? args.length : 0;
+        writeVarLong(out, argCount);
+        for (int i = 0; i < argCount; i++) {
+            writeArg(out, args[i]);
+        }
+        out.append(fieldsRecord.array(), 0, fieldsRecord.length());
+        if (thrown != null) {
+            out.append(thrownRecord.array(), 0, thrownRecord.length());
+        }
+        outputStream.write(out.array(), 0, out.length());
+        recordOutput(out.length());
+    }
+
+    /**
+     * Gets the number of a string, writing a definition record the first time it is seen.
+     *
+     * @return The id, or 0 if the dictionary is full.
+     */
+    private int intern(Utf8Buffer out, String value) {
+        Integer id = dictionary.get(value);
+        if (id != null) {
+            return id;
+        }
+        if (dictionary.size() >= maxDictionarySize) {
+            return 0;
+        }
+        int next = dictionary.size() + 1;
+        dictionary.put(value, next);
+        out.append((byte) DEFINITION);
+        writeVarLong(out, next);
+        writeString(out, value);
+        return next;
+    }
+
+    private void writeReference(Utf8Buffer out, int id, String value) {
+        writeVarLong(out, id);
+        if (id == 0) {
+            writeString(out, value);
+        }
+    }
+
+    /**
+     * Writes the context and key-value fields to a record, writing the definitions of their keys to the output.
+     */
+    private void writeFields(Utf8Buffer out, Utf8Buffer record, ContextMap context, KeyValues keyValues) {
+        int contextSize = context != null ? context.size() : 0;
+        writeVarLong(record, contextSize);
+        for (int i = 0; i < contextSize; i++) {
+            String key = context.getKey(i);
+            writeReference(record, intern(out, key), key);
+            writeString(record, context.getValue(i));
+        }
+        int fieldCount = keyValues != null ? keyValues.size() : 0;
+        writeVarLong(record, fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            String key = keyValues.getKey(i);
+            writeReference(record, intern(out, key), key);
+            switch (keyValues.getType(i)) {
+                case KeyValues.LONG:
+                    record.append((byte) ARG_LONG);
+                    writeVarLong(record, zigzag(keyValues.getLong(i)));
+                    break;
+                case KeyValues.DOUBLE:
+                    record.append((byte) ARG_DOUBLE);
+                    writeFixed(record, Double.doubleToRawLongBits(keyValues.getDouble(i)), 8);
+                    break;
+                case KeyValues.BOOLEAN:
+                    record.append((byte) (keyValues.getBoolean(i) ? ARG_TRUE : ARG_FALSE));
+                    break;
+                default:
+                    writeArg(record, keyValues.getObject(i));
+            }
+        }
+    }
+
+    /**
+     * Writes a throwable to a record, writing the definitions of the names it uses to the output.
+     */
+    private void writeThrowable(Utf8Buffer out, Utf8Buffer record, Throwable throwable, Set<Throwable> visited) {
+        visited.add(throwable);
+        String className = DecodedThrowable.classNameOf(throwable);
+        writeReference(record, intern(out, className), className);
+        writeArg(record, throwable.getMessage());
+        StackTraceElement[] frames = throwable.getStackTrace();
+        writeVarLong(record, frames.length);
+        for (StackTraceElement frame : frames) {
+            writeReference(record, intern(out, frame.getClassName()), frame.getClassName());
+            writeReference(record, intern(out, frame.getMethodName()), frame.getMethodName());
+            String fileName = frame.getFileName();
+            record.append((byte) (fileName != null ? 1 : 0));
+            if (fileName != null) {
+                writeReference(record, intern(out, fileName), fileName);
+            }
+            writeVarLong(record, zigzag(frame.getLineNumber()));
+        }
+        List<Throwable> suppressed = new ArrayList<>();
+        for (Throwable each : throwable.getSuppressed()) {
+            if (!visited.contains(each)) {
+                suppressed.add(each);
+            }
+        }
+        writeVarLong(record, suppressed.size());
+        for (Throwable each : suppressed) {
+            writeThrowable(out, record, each, visited);
+        }
+        // A circular cause is left out
+        Throwable cause = throwable.getCause();
+        boolean hasCause = cause != null && !visited.contains(cause);
+        record.append((byte) (hasCause ? 1 : 0));
+        if (hasCause) {
+            writeThrowable(out, record, cause, visited);
+        }
+    }
+
+    private void writeArg(Utf8Buffer out, Object arg) {
+        if (arg == null) {
+            out.append((byte) ARG_NULL);
+        } else if (arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+            out.append((byte) ARG_INT);
+            writeVarLong(out, zigzag(((Number) arg).intValue()));
+        } else if (arg instanceof Long) {
+            out.append((byte) ARG_LONG);
+            writeVarLong(out, zigzag((Long) arg));
+        } else if (arg instanceof Double) {
+            out.append((byte) ARG_DOUBLE);
+            writeFixed(out, Double.doubleToRawLongBits((Double) arg), 8);
+        } else if (arg instanceof Float) {
+            out.append((byte) ARG_FLOAT);
+            writeFixed(out, Float.floatToRawIntBits((Float) arg), 4);
+        } else if (arg instanceof Boolean) {
+            out.append((byte) ((Boolean) arg ? ARG_TRUE : ARG_FALSE));
+        } else if (arg instanceof Character) {
+            out.append((byte) ARG_CHAR);
+            writeVarLong(out, (Character) arg);
+        } else {
+            out.append((byte) ARG_STRING);
+            writeString(out, arg instanceof CharSequence ? (CharSequence) arg : arg.toString());
+        }
+    }
+
+    private void writeString(Utf8Buffer out, CharSequence value) {
+        text.reset();
+        text.append(value);
+        writeVarLong(out, text.length());
+        out.append(text.array(), 0, text.length());
+    }
+
+    private static void writeVarLong(Utf8Buffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.append((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.append((byte) value);
+    }
+
+    private static void writeFixed(Utf8Buffer out, long bits, int bytes) {
+        for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8) {
+            out.append((byte) (bits >>> shift));
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static PrintStream requireStream(PrintStream outputStream) {
+        if (outputStream == null) {
+            throw new IllegalArgumentException("BinaryFormatter needs an output stream");
+        }
+        return outputStream;
+    }
+
+    private static LogLevel toLevel(String level) {
+        try {
+            return LogLevel.valueOf(level);
+        } catch (IllegalArgumentException e) {
+            return LogLevel.INFO;
+        }
+    }
+}
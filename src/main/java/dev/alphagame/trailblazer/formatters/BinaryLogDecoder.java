@@ -0,0 +1,336 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+import dev.alphagame.trailblazer.KeyValues;
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.context.ContextMap;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads files written by {@link BinaryFormatter} one event at a time, so files of any size
+ * can be converted without loading them.
+ * <p>
+ * Decoded events can be passed to any formatter, which renders them exactly as if they had
+ * been logged to it, with their original timestamps. From the command line:
+ * <pre>
+ * java -cp trailblazer.jar dev.alphagame.trailblazer.formatters.BinaryLogDecoder [--json] app.tblg
+ * </pre>
+ * prints the file as {@link SimpleFormatter} text, or as JSON Lines with {@code --json}.
+ */
+public class BinaryLogDecoder implements Closeable {
+    private static final LogLevel[] LEVELS = LogLevel.values();
+    private static final MessageStyle[] STYLES = MessageStyle.values();
+
+    private final InputStream in;
+    private final List<String> dictionary = new ArrayList<>();
+    private final KeyValues keyValues = new KeyValues();
+    private byte[] text = new byte[256];
+    private MessageStyle messageStyle = MessageStyle.AUTO;
+    private int version;
+    private long lastTimestamp;
+    private boolean started;
+
+    /**
+     * Creates a decoder reading from a stream.
+     *
+     * @param in The stream, positioned at the start of a file written by {@link BinaryFormatter}.
+     */
+    public BinaryLogDecoder(InputStream in) {
+        this.in = in instanceof BufferedInputStream ? in : new BufferedInputStream(in, 64 * 1024);
+    }
+
+    /**
+     * Gets the message style the file was written with, as read from the most recent header.
+     *
+     * @return The message style.
+     */
+    public MessageStyle getMessageStyle() {
+        return messageStyle;
+    }
+
+    /**
+     * Reads the next event into a reusable event.
+     *
+     * @param event The event to fill in.
+     * @return true if an event was read, false at the end of the stream.
+     * @throws IOException If the stream fails or does not hold a valid log.
+     */
+    public boolean next(LogEvent event) throws IOException {
+        while (true) {
+            int type = in.read();
+            if (type < 0) {
+                return false;
+            }
+            if (!started && type != BinaryFormatter.MAGIC[0]) {
+                throw new IOException("Not a Trailblazer binary log");
+            }
+            started = true;
+            if (type == BinaryFormatter.MAGIC[0]) {
+                readHeader();
+            } else if (type == BinaryFormatter.DEFINITION) {
+                int id = (int) readVarLong();
+                if (id != dictionary.size() + 1) {
+                    throw new IOException("Dictionary entry " + id + " is out of order");
+                }
+                dictionary.add(readString());
+            } else if ((type & 0xF0) == BinaryFormatter.EVENT && (type & 0x07) < LEVELS.length) {
+                readEvent(LEVELS[type & 0x07], (type & BinaryFormatter.EVENT_THROWN) != 0, event);
+                return true;
+            } else {
+                throw new IOException("Unknown record type " + type);
+            }
+        }
+    }
+
+    /**
+     * Decodes every remaining event and passes it to a formatter. The formatter's message
+     * style is set to the one the file was written with.
+     *
+     * @param formatter The formatter to render the events with.
+     * @return The number of events decoded.
+     * @throws IOException If the stream fails or does not hold a valid log.
+     */
+    public long decodeTo(AbstractFormatter formatter) throws IOException {
+        LogEvent event = new LogEvent();
+        long count = 0;
+        while (next(event)) {
+            formatter.setMessageStyle(messageStyle);
+            formatter.formatLogEvent(event);
+            count++;
+        }
+        formatter.getOutputStream().flush();
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Converts a binary log to text on standard output.
+     *
+     * @param args {@code [--json] <file>}
+     * @throws IOException If the file cannot be read or is not a valid log.
+     */
+    public static void main(String[] args) throws IOException {
+        boolean json = args.length == 2 && args[0].equals("--json");
+        if (args.length != (json ? 2 : 1)) {
+            System.err.println("Usage: BinaryLogDecoder [--json] <file>");
+            System.exit(2);
+            return;
+        }
+        PrintStream out;
+        try {
+            out = new PrintStream(new FileOutputStream(FileDescriptor.out), false, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        AbstractFormatter formatter = json ? new JSONFormatter(out) : new SimpleFormatter(out);
+        formatter.setGarbageFree(true);
+        try (BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(args[args.length - 1]))) {
+            decoder.decodeTo(formatter);
+        }
+    }
+
+    private void readHeader() throws IOException {
+        for (int i = 1; i < BinaryFormatter.MAGIC.length; i++) {
+            if (readByte() != BinaryFormatter.MAGIC[i]) {
+                throw new IOException("Not a Trailblazer binary log");
+            }
+        }
+        version = readByte();
+        // Version 2 added throwables to events, and version 3 their context and key-value fields
+        if (version < 1 || version > BinaryFormatter.VERSION) {
+            throw new IOException("Unsupported binary log version " + version);
+        }
+        int style = readByte();
+        messageStyle = style < STYLES.length ? STYLES[style] : MessageStyle.AUTO;
+        // A new writer starts over with an empty dictionary
+        dictionary.clear();
+        lastTimestamp = 0;
+    }
+
+    private void readEvent(LogLevel level, boolean hasThrown, LogEvent event) throws IOException {
+        long timestamp = lastTimestamp + unzigzag(readVarLong());
+        lastTimestamp = timestamp;
+        String loggerName = readReference();
+        String message = readReference();
+        int argCount = (int) readVarLong();
+        Object[] args = null;
+        if (argCount > 0) {
+            args = new Object[argCount];
+            for (int i = 0; i < argCount; i++) {
+                args[i] = readArg();
+            }
+        }
+        event.set(level, loggerName, message, args, timestamp);
+        if (version >= 3) {
+            readFields(event);
+        }
+        if (hasThrown) {
+            event.setThrown(readThrowable());
+        }
+    }
+
+    private void readFields(LogEvent event) throws IOException {
+        int contextSize = (int) readVarLong();
+        ContextMap context = ContextMap.EMPTY;
+        for (int i = 0; i < contextSize; i++) {
+            String key = readReference();
+            context = context.with(key, readString());
+        }
+        event.setContext(context);
+        int fieldCount = (int) readVarLong();
+        keyValues.clear();
+        for (int i = 0; i < fieldCount; i++) {
+            String key = readReference();
+            int tag = readByte();
+            switch (tag) {
+                case BinaryFormatter.ARG_LONG:
+                    keyValues.add(key, unzigzag(readVarLong()));
+                    break;
+                case BinaryFormatter.ARG_DOUBLE:
+                    keyValues.add(key, Double.longBitsToDouble(readFixed(8)));
+                    break;
+                case BinaryFormatter.ARG_TRUE:
+                case BinaryFormatter.ARG_FALSE:
+                    keyValues.add(key, tag == BinaryFormatter.ARG_TRUE);
+                    break;
+                default:
+                    keyValues.add(key, readArg(tag));
+            }
+        }
+        event.copyKeyValues(keyValues);
+    }
+
+    private Throwable readThrowable() throws IOException {
+        String className = readReference();
+        Object message = readArg();
+        StackTraceElement[] frames = new StackTraceElement[(int) readVarLong()];
+        for (int i = 0; i < frames.length; i++) {
+            String declaringClass = readReference();
+            String methodName = readReference();
+            String fileName = readByte() != 0 ? readReference() : null;
+            frames[i] = new StackTraceElement(declaringClass, methodName, fileName, (int) unzigzag(readVarLong()));
+        }
+        Throwable[] suppressed = new Throwable[(int) readVarLong()];
+        for (int i = 0; i < suppressed.length; i++) {
+            suppressed[i] = readThrowable();
+        }
+        Throwable cause = readByte() != 0 ? readThrowable() : null;
+        DecodedThrowable throwable = new DecodedThrowable(className, message != null ? message.toString() : null,
+                cause);
+        throwable.setStackTrace(frames);
+        for (Throwable each : suppressed) {
+            throwable.addSuppressed(each);
+        }
+        return throwable;
+    }
+
+    private String readReference() throws IOException {
+        int id = (int) readVarLong();
+        if (id == 0) {
+            return readString();
+        }
+        if (id > dictionary.size()) {
+            throw new IOException("Undefined dictionary entry " + id);
+        }
+        return dictionary.get(id - 1);
+    }
+
+    private Object readArg() throws IOException {
+        return readArg(readByte());
+    }
+
+    private Object readArg(int tag) throws IOException {
+        switch (tag) {
+            case BinaryFormatter.ARG_NULL:
+                return null;
+            case BinaryFormatter.ARG_STRING:
+                return readString();
+            case BinaryFormatter.ARG_INT:
+                return (int) unzigzag(readVarLong());
+            case BinaryFormatter.ARG_LONG:
+                return unzigzag(readVarLong());
+            case BinaryFormatter.ARG_DOUBLE:
+                return Double.longBitsToDouble(readFixed(8));
+            case BinaryFormatter.ARG_FLOAT:
+                return Float.intBitsToFloat((int) readFixed(4));
+            case BinaryFormatter.ARG_TRUE:
+                return Boolean.TRUE;
+            case BinaryFormatter.ARG_FALSE:
+                return Boolean.FALSE;
+            case BinaryFormatter.ARG_CHAR:
+                return (char) readVarLong();
+            default:
+                throw new IOException("Unknown argument type " + tag);
+        }
+    }
+
+    private String readString() throws IOException {
+        int length = (int) readVarLong();
+        if (length > text.length) {
+            text = new byte[Math.max(length, text.length * 2)];
+        }
+        int read = 0;
+        while (read < length) {
+            int n = in.read(text, read, length - read);
+            if (n < 0) {
+                throw new EOFException("Truncated binary log");
+            }
+            read += n;
+        }
+        return new String(text, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private long readFixed(int bytes) throws IOException {
+        long bits = 0;
+        for (int i = 0; i < bytes; i++) {
+            bits = (bits << 8) | readByte();
+        }
+        return bits;
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Truncated binary log");
+        }
+        return b;
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -5,6 +5,11 @@
 
 package dev.alphagame.trailblazer.formatters;
 
+import dev.alphagame.trailblazer.KeyValues;
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.context.ContextMap;
+import dev.alphagame.trailblazer.context.MDC;
+
 import java.io.PrintStream;
 
 public class ColumnedFormatter extends AbstractFormatter {
@@ -41,16 +46,7 @@ public class ColumnedFormatter extends AbstractFormatter {
      */
     @Override
     public void formatLogMessage(String level, String loggerName, String message, Object... args) {
-        String formattedMessage = String.format(message, args);
-        // Create a formatted string with columns
-        StringBuilder sb = new StringBuilder();
-        sb.append(String.format("%-" + columnWidth + "s", level)).append(columnSeparator);
-        sb.append(String.format("%-" + columnWidth + "s", loggerName)).append(columnSeparator);
-        sb.append(String.format("%-" + columnWidth + "s", formattedMessage)).append(columnSeparator);
-        for (Object arg : args) {
-            sb.append(String.format("%-" + columnWidth + "s", arg.toString())).append(columnSeparator);
-        }
-        outputStream.println(sb.toString());
+        writeColumns(level, loggerName, MDC.getContext(), formatMessage(message, args), args, null, null);
     }
 
     /**
@@ -62,12 +58,54 @@ public class ColumnedFormatter extends AbstractFormatter {
      */
     @Override
     public void formatLogMessage(String level, String loggerName, String message) {
+        writeColumns(level, loggerName, MDC.getContext(), message, null, null, null);
+    }
+
+    /**
+     * Formats a log event into a columned format, with the diagnostic context of the thread
+     * that logged it.
+     *
+     * @param event The event to format.
+     */
+    @Override
+    public void formatLogEvent(LogEvent event) {
+        Object[] args = event.getArgs();
+        String message = args != null ? formatMessage(event.getMessage(), args) : event.getMessage();
+        writeColumns(event.getLevel().name(), event.getLoggerName(), event.getContext(), message, args,
+                event.getKeyValues(), event.getThrown());
+    }
+
+    private void writeColumns(String level, String loggerName, ContextMap context, String message, Object[] args,
+            KeyValues keyValues, Throwable thrown) {
         // Create a formatted string with columns
         StringBuilder sb = new StringBuilder();
         sb.append(String.format("%-" + columnWidth + "s", level)).append(columnSeparator);
         sb.append(String.format("%-" + columnWidth + "s", loggerName)).append(columnSeparator);
+        if (!context.isEmpty()) {
+            sb.append(String.format("%-" + columnWidth + "s", context)).append(columnSeparator);
+        }
         sb.append(String.format("%-" + columnWidth + "s", message)).append(columnSeparator);
-        outputStream.println(sb.toString());
+        if (args != null) {
+            for (Object arg : args) {
+                sb.append(String.format("%-" + columnWidth + "s", arg.toString())).append(columnSeparator);
+            }
+        }
+        if (keyValues != null) {
+            for (int i = 0; i < keyValues.size(); i++) {
+                String field = keyValues.getKey(i) + "=" + keyValues.getValueAsString(i);
+                sb.append(String.format("%-" + columnWidth + "s", field)).append(columnSeparator);
+            }
+        }
+        if (thrown != null) {
+            StackTraces trace = StackTraces.record(thrown, stackTraceCache);
+            sb.append(String.format("%-" + columnWidth + "s", trace.reference().trim())).append(columnSeparator);
+            if (trace.isFirst()) {
+                sb.append(StackTraces.render(thrown));
+            }
+        }
+        String line = sb.toString();
+        outputStream.println(line);
+        recordOutput(line);
     }
     
     /**
@@ -0,0 +1,46 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+/**
+ * A throwable read back from a binary log, standing in for the original one so that the
+ * formatters render it the same way: it keeps the original class name, message, frames,
+ * cause and suppressed exceptions.
+ */
+final class DecodedThrowable extends Throwable {
+    private static final long serialVersionUID = 1L;
+
+    private final String className;
+
+    DecodedThrowable(String className, String message, Throwable cause) {
+        super(message, cause, true, true);
+        this.className = className;
+    }
+
+    /**
+     * Gets the class name a throwable is rendered with.
+     *
+     * @param throwable The throwable.
+     * @return The name of its class, or of the original class for a decoded throwable.
+     */
+    static String classNameOf(Throwable throwable) {
+        return throwable instanceof DecodedThrowable
+                ? ((DecodedThrowable) throwable).className
+                : throwable.getClass().getName();
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // The frames are set from the log
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        String message = getLocalizedMessage();
+        return message != null ? className + ": " + message : className;
+    }
+}
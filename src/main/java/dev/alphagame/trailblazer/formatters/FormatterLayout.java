@@ -0,0 +1,80 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Adapts any formatter into a {@link Layout}, for formatters that don't render into a buffer
+ * themselves. The formatter's output stream is replaced by one that captures what it prints
+ * as UTF-8, so the formatter must not be used on its own anymore.
+ */
+public class FormatterLayout implements Layout {
+    private final AbstractFormatter formatter;
+    private final Capture capture = new Capture();
+
+    /**
+     * Wraps a formatter.
+     *
+     * @param formatter The formatter to capture the output of.
+     */
+    public FormatterLayout(AbstractFormatter formatter) {
+        this.formatter = formatter;
+        formatter.countOutput = false;
+        try {
+            formatter.setOutputStream(new PrintStream(capture, false, "UTF-8"));
+        } catch (UnsupportedEncodingException e) {
+            // Every JVM supports UTF-8
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets the wrapped formatter.
+     *
+     * @return The formatter.
+     */
+    public AbstractFormatter getFormatter() {
+        return formatter;
+    }
+
+    @Override
+    public synchronized void format(LogEvent event, Utf8Buffer out) {
+        capture.target = out;
+        try {
+            formatter.formatLogEvent(event);
+            formatter.getOutputStream().flush();
+        } finally {
+            capture.target = null;
+        }
+    }
+
+    /**
+     * Copies everything written to it into the current target buffer.
+     */
+    private static final class Capture extends OutputStream {
+        Utf8Buffer target;
+
+        @Override
+        public void write(int b) {
+            if (target != null) {
+                target.append((byte) b);
+            }
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) {
+            if (target != null) {
+                target.append(data, offset, length);
+            }
+        }
+    }
+}
@@ -5,10 +5,34 @@
 
 package dev.alphagame.trailblazer.formatters;
 
-import org.json.JSONObject;
+import dev.alphagame.trailblazer.KeyValues;
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.context.ContextMap;
+import dev.alphagame.trailblazer.context.MDC;
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
 import java.io.PrintStream;
 
-public class JSONFormatter extends AbstractFormatter {
+/**
+ * A formatter that outputs one JSON object per line (JSON Lines).
+ * Lines are encoded straight into a reusable per-thread buffer and written as UTF-8,
+ * with the field names pre-encoded once. A non-empty diagnostic context is written as the
+ * {@code "context"} object, and fields added with {@link dev.alphagame.trailblazer.LogEventBuilder}
+ * as top-level fields of their own type; a field named like one of the formatter's own fields
+ * ({@code level}, {@code logger}, {@code message}, {@code timestamp}, {@code context}, {@code args}
+ * or {@code exception}) is written with an underscore prefix, as {@code "_level"}. A logged throwable is written as an {@code "exception"}
+ * object whose frames, causes and suppressed exceptions are only included the first time that
+ * stack trace is seen.
+ */
+public class JSONFormatter extends AbstractFormatter implements Layout {
+    private static final byte[] LEVEL_KEY = Utf8Buffer.encode("{\"level\":");
+    private static final byte[] LOGGER_KEY = Utf8Buffer.encode(",\"logger\":");
+    private static final byte[] MESSAGE_KEY = Utf8Buffer.encode(",\"message\":");
+    private static final byte[] TIMESTAMP_KEY = Utf8Buffer.encode(",\"timestamp\":");
+    private static final byte[] ARGS_KEY = Utf8Buffer.encode(",\"args\":");
+    private static final byte[] CONTEXT_KEY = Utf8Buffer.encode(",\"context\":{");
+    private static final byte[] LINE_SEPARATOR = Utf8Buffer.encode(System.lineSeparator());
+
     public JSONFormatter() {
         super();
     }
@@ -27,19 +51,7 @@ public class JSONFormatter extends AbstractFormatter {
      */
     @Override
     public void formatLogMessage(String level, String loggerName, String message, Object... args) {
-        String formattedMessage = String.format(message, args);
-        // Create a JSON object with the log details
-
-        JSONObject json = new JSONObject();
-        json.put("level", level);
-        json.put("logger", loggerName);
-        json.put("message", formattedMessage);
-        json.put("timestamp", System.currentTimeMillis());
-        if (args.length > 0) {
-            json.put("args", args);
-        }
-
-        outputStream.println(json.toString());
+        writeJson(level, loggerName, MDC.getContext(), message, args, null, null, System.currentTimeMillis());
     }
 
     /**
@@ -51,14 +63,133 @@ public class JSONFormatter extends AbstractFormatter {
      */
     @Override
     public void formatLogMessage(String level, String loggerName, String message) {
-        // Create a JSON object with the log details
+        writeJson(level, loggerName, MDC.getContext(), message, null, null, null, System.currentTimeMillis());
+    }
+
+    /**
+     * Formats a log event into JSON format, using the time at which the event was logged.
+     *
+     * @param event The event to format.
+     */
+    @Override
+    public void formatLogEvent(LogEvent event) {
+        writeJson(event.getLevel().name(), event.getLoggerName(), event.getContext(), event.getMessage(),
+                event.getArgs(), event.getKeyValues(), event.getThrown(), event.getTimestamp());
+    }
+
+    /**
+     * Renders a log event as a JSON line.
+     *
+     * @param event The event to render.
+     * @param out   The buffer to append to.
+     */
+    @Override
+    public void format(LogEvent event, Utf8Buffer out) {
+        LineBuffers buffers = LineBuffers.acquire();
+        try {
+            appendJson(out, buffers, event.getLevel().name(), event.getLoggerName(), event.getContext(),
+                    event.getMessage(), event.getArgs(), event.getKeyValues(), event.getThrown(),
+                    event.getTimestamp());
+        } finally {
+            buffers.release();
+        }
+    }
 
-        JSONObject json = new JSONObject();
-        json.put("level", level);
-        json.put("logger", loggerName);
-        json.put("message", message);
-        json.put("timestamp", System.currentTimeMillis());
+    private void writeJson(String level, String loggerName, ContextMap context, String message, Object[] args,
+            KeyValues keyValues, Throwable thrown, long timestamp) {
+        LineBuffers buffers = LineBuffers.acquire();
+        try {
+            Utf8Buffer line = buffers.line;
+            appendJson(line, buffers, level, loggerName, context, message, args, keyValues, thrown, timestamp);
+            outputStream.write(line.array(), 0, line.length());
+            recordOutput(line.length());
+        } finally {
+            buffers.release();
+        }
+    }
 
-        outputStream.println(json.toString());
+    private void appendJson(Utf8Buffer line, LineBuffers buffers, String level, String loggerName,
+            ContextMap context, String message, Object[] args, KeyValues keyValues, Throwable thrown,
+            long timestamp) {
+        line.append(LEVEL_KEY);
+        JsonWriter.writeString(line, level);
+        line.append(LOGGER_KEY);
+        JsonWriter.writeString(line, loggerName);
+        line.append(MESSAGE_KEY);
+        JsonWriter.writeString(line, buffers.formatMessage(this, message, args));
+        line.append(TIMESTAMP_KEY).appendDecimal(timestamp);
+        if (!context.isEmpty()) {
+            line.append(CONTEXT_KEY);
+            for (int i = 0; i < context.size(); i++) {
+                if (i > 0) {
+                    line.append((byte) ',');
+                }
+                JsonWriter.writeString(line, context.getKey(i));
+                line.append((byte) ':');
+                JsonWriter.writeString(line, context.getValue(i));
+            }
+            line.append((byte) '}');
+        }
+        if (keyValues != null) {
+            appendKeyValues(line, keyValues);
+        }
+        if (args != null && args.length > 0) {
+            line.append(ARGS_KEY);
+            JsonWriter.writeArray(line, args);
+        }
+        if (thrown != null) {
+            line.append((byte) ',');
+            StackTraces.record(thrown, stackTraceCache).writeJson(line, thrown);
+        }
+        line.append((byte) '}').append(LINE_SEPARATOR);
+    }
+
+    private static void appendKeyValues(Utf8Buffer line, KeyValues keyValues) {
+        for (int i = 0; i < keyValues.size(); i++) {
+            line.append((byte) ',');
+            JsonWriter.writeString(line, fieldName(keyValues.getKey(i)));
+            line.append((byte) ':');
+            switch (keyValues.getType(i)) {
+                case KeyValues.LONG:
+                    line.appendDecimal(keyValues.getLong(i));
+                    break;
+                case KeyValues.DOUBLE:
+                    JsonWriter.writeNumber(line, keyValues.getDouble(i));
+                    break;
+                case KeyValues.BOOLEAN:
+                    JsonWriter.writeValue(line, keyValues.getBoolean(i) ? Boolean.TRUE : Boolean.FALSE);
+                    break;
+                default:
+                    JsonWriter.writeValue(line, keyValues.getObject(i));
+            }
+        }
+    }
+
+    /**
+     * Gets the name a key-value field is written under, so that it cannot replace a field of
+     * the event for parsers that keep the last of duplicate keys.
+     */
+    private static String fieldName(String key) {
+        if (key == null) {
+            return null;
+        }
+        switch (key) {
+            case "level":
+                return "_level";
+            case "logger":
+                return "_logger";
+            case "message":
+                return "_message";
+            case "timestamp":
+                return "_timestamp";
+            case "context":
+                return "_context";
+            case "args":
+                return "_args";
+            case "exception":
+                return "_exception";
+            default:
+                return key;
+        }
     }
-}
\ No newline at end of file
+}
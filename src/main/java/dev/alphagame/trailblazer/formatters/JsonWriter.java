@@ -0,0 +1,242 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Streaming JSON encoding into a {@link Utf8Buffer}.
+ * Values are written as they are visited, without building an intermediate object tree.
+ */
+public final class JsonWriter {
+    private static final byte[] HEX = Utf8Buffer.encode("0123456789abcdef");
+    private static final byte[] NULL = Utf8Buffer.encode("null");
+    private static final byte[] TRUE = Utf8Buffer.encode("true");
+    private static final byte[] FALSE = Utf8Buffer.encode("false");
+
+    private JsonWriter() {
+    }
+
+    /**
+     * Writes a quoted, escaped JSON string.
+     * Runs of characters that need no escaping are copied as they are.
+     *
+     * @param out   The buffer to write to.
+     * @param value The string value, or null to write {@code null}.
+     */
+    public static void writeString(Utf8Buffer out, CharSequence value) {
+        if (value == null) {
+            out.append(NULL);
+            return;
+        }
+        out.append((byte) '"');
+        int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                if (i > start) {
+                    out.append(value.subSequence(start, i));
+                }
+                writeEscaped(out, c);
+                start = i + 1;
+            }
+        }
+        if (start == 0) {
+            // Nothing needed escaping
+            out.append(value);
+        } else if (start < length) {
+            out.append(value.subSequence(start, length));
+        }
+        out.append((byte) '"');
+    }
+
+    /**
+     * Writes an arbitrary value. Numbers and booleans are written as JSON literals, maps as
+     * objects, collections and arrays as arrays, and everything else as a string using
+     * {@code toString()}. No reflection is involved.
+     *
+     * @param out   The buffer to write to.
+     * @param value The value to write.
+     */
+    public static void writeValue(Utf8Buffer out, Object value) {
+        if (value == null) {
+            out.append(NULL);
+        } else if (value instanceof CharSequence) {
+            writeString(out, (CharSequence) value);
+        } else if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            out.appendDecimal(((Number) value).longValue());
+        } else if (value instanceof Double) {
+            writeNumber(out, ((Double) value).doubleValue());
+        } else if (value instanceof Float) {
+            writeNumber(out, ((Float) value).floatValue());
+        } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+            out.append(value.toString());
+        } else if (value instanceof Boolean) {
+            out.append((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Map) {
+            writeMap(out, (Map<?, ?>) value);
+        } else if (value instanceof Collection) {
+            writeArray(out, ((Collection<?>) value).toArray());
+        } else if (value instanceof Object[]) {
+            writeArray(out, (Object[]) value);
+        } else if (value.getClass().isArray()) {
+            writePrimitiveArray(out, value);
+        } else {
+            writeString(out, value.toString());
+        }
+    }
+
+    /**
+     * Writes a number. Values that JSON cannot represent (NaN and infinities) are written as strings.
+     *
+     * @param out   The buffer to write to.
+     * @param value The number.
+     */
+    public static void writeNumber(Utf8Buffer out, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append((byte) '"').append(Double.toString(value)).append((byte) '"');
+        } else if (value == (long) value && Math.abs(value) < 1e15) {
+            out.appendDecimal((long) value);
+        } else {
+            out.append(Double.toString(value));
+        }
+    }
+
+    /**
+     * Writes a number, keeping the shorter decimal representation of a float.
+     *
+     * @param out   The buffer to write to.
+     * @param value The number.
+     */
+    public static void writeNumber(Utf8Buffer out, float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value) || value == (long) value) {
+            writeNumber(out, (double) value);
+        } else {
+            out.append(Float.toString(value));
+        }
+    }
+
+    /**
+     * Writes an array of values.
+     *
+     * @param out    The buffer to write to.
+     * @param values The values.
+     */
+    public static void writeArray(Utf8Buffer out, Object[] values) {
+        out.append((byte) '[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append((byte) ',');
+            }
+            writeValue(out, values[i]);
+        }
+        out.append((byte) ']');
+    }
+
+    private static void writeMap(Utf8Buffer out, Map<?, ?> map) {
+        out.append((byte) '{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                out.append((byte) ',');
+            }
+            first = false;
+            writeString(out, String.valueOf(entry.getKey()));
+            out.append((byte) ':');
+            writeValue(out, entry.getValue());
+        }
+        out.append((byte) '}');
+    }
+
+    private static void writePrimitiveArray(Utf8Buffer out, Object array) {
+        out.append((byte) '[');
+        if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separate(out, i).appendDecimal(values[i]);
+            }
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separate(out, i).appendDecimal(values[i]);
+            }
+        } else if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            for (int i = 0; i < values.length; i++) {
+                writeNumber(separate(out, i), values[i]);
+            }
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            for (int i = 0; i < values.length; i++) {
+                writeNumber(separate(out, i), values[i]);
+            }
+        } else if (array instanceof boolean[]) {
+            boolean[] values = (boolean[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separate(out, i).append(values[i] ? TRUE : FALSE);
+            }
+        } else if (array instanceof char[]) {
+            char[] values = (char[]) array;
+            for (int i = 0; i < values.length; i++) {
+                writeString(separate(out, i), String.valueOf(values[i]));
+            }
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separate(out, i).appendDecimal(values[i]);
+            }
+        } else if (array instanceof byte[]) {
+            byte[] values = (byte[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separate(out, i).appendDecimal(values[i]);
+            }
+        }
+        out.append((byte) ']');
+    }
+
+    private static Utf8Buffer separate(Utf8Buffer out, int index) {
+        if (index > 0) {
+            out.append((byte) ',');
+        }
+        return out;
+    }
+
+    private static void writeEscaped(Utf8Buffer out, char c) {
+        switch (c) {
+            case '"':
+                out.append((byte) '\\').append((byte) '"');
+                break;
+            case '\\':
+                out.append((byte) '\\').append((byte) '\\');
+                break;
+            case '\n':
+                out.append((byte) '\\').append((byte) 'n');
+                break;
+            case '\r':
+                out.append((byte) '\\').append((byte) 'r');
+                break;
+            case '\t':
+                out.append((byte) '\\').append((byte) 't');
+                break;
+            case '\b':
+                out.append((byte) '\\').append((byte) 'b');
+                break;
+            case '\f':
+                out.append((byte) '\\').append((byte) 'f');
+                break;
+            default:
+                out.append((byte) '\\').append((byte) 'u').append((byte) '0').append((byte) '0')
+                        .append(HEX[c >> 4]).append(HEX[c & 0xF]);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+/**
+ * Renders a log event into bytes, without writing them anywhere.
+ * A rendered event can then be handed to any number of appenders, see {@link AppendingFormatter}.
+ */
+public interface Layout {
+    /**
+     * Renders an event as UTF-8, including the trailing line separator.
+     *
+     * @param event The event to render.
+     * @param out   The buffer to append to.
+     */
+    void format(LogEvent event, Utf8Buffer out);
+}
@@ -0,0 +1,68 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+import java.util.Formatter;
+
+/**
+ * Reusable per-thread buffers for formatters that write encoded lines straight to their stream.
+ */
+final class LineBuffers {
+    private static final ThreadLocal<LineBuffers> current = ThreadLocal.withInitial(LineBuffers::new);
+
+    final StringBuilder text = new StringBuilder(128);
+    final Formatter formatter = new Formatter(text);
+    final Utf8Buffer line = new Utf8Buffer(256);
+    private boolean inUse;
+
+    /**
+     * Gets the buffers of the current thread, emptied and ready for a new line.
+     * Must be paired with {@link #release()}.
+     *
+     * @return The buffers to use.
+     */
+    static LineBuffers acquire() {
+        LineBuffers buffers = current.get();
+        if (buffers.inUse) {
+            // An argument is logging from its toString()
+            buffers = new LineBuffers();
+        }
+        buffers.inUse = true;
+        buffers.line.reset();
+        return buffers;
+    }
+
+    /**
+     * Hands the buffers back once the line has been written.
+     */
+    void release() {
+        inUse = false;
+    }
+
+    /**
+     * Substitutes the arguments into a message using the text buffer.
+     *
+     * @param owner   The formatter whose message style applies.
+     * @param message The log message.
+     * @param args    The arguments, or null to use the message as is.
+     * @return The formatted message, valid until the buffers are used again.
+     */
+    CharSequence formatMessage(AbstractFormatter owner, String message, Object[] args) {
+        if (args == null) {
+            return message;
+        }
+        text.setLength(0);
+        MessageTemplate template = owner.templateFor(message);
+        if (template != null) {
+            template.appendTo(text, args);
+        } else {
+            formatter.format(message, args);
+        }
+        return text;
+    }
+}
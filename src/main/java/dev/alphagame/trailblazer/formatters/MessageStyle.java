@@ -0,0 +1,30 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+/**
+ * How formatters substitute arguments into log messages.
+ */
+public enum MessageStyle {
+    /**
+     * Messages are format strings for {@link String#format(String, Object...)}, e.g. {@code "count = %d"}.
+     */
+    PRINTF,
+
+    /**
+     * Messages use {@code {}} placeholders, e.g. {@code "count = {}"}. Percent signs are left alone.
+     */
+    BRACES,
+
+    /**
+     * Messages containing a format specifier, such as {@code %s}, {@code %d}, {@code %.2f},
+     * {@code %n} or {@code %%}, are treated as format strings, even if they also contain
+     * {@code {}}, so that printf-style messages keep formatting as they always have. Other
+     * messages use {@code {}} placeholders, and a lone {@code %} in them is left alone.
+     * This is the default.
+     */
+    AUTO
+}
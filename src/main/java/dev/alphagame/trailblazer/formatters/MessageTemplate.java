@@ -0,0 +1,225 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A log message with {@code {}} placeholders, parsed once into the literal text between them.
+ * <p>
+ * Parsed templates are kept in a small direct-mapped cache keyed by the identity of the
+ * message string, so a message that is logged over and over (usually a string literal)
+ * is only parsed the first time. A placeholder can be escaped as {@code \{}}.
+ */
+public final class MessageTemplate {
+    private static final int CACHE_SIZE = 4096;
+    private static final AtomicReferenceArray<MessageTemplate> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+    // What java.util.Formatter accepts between '%' and the conversion, except the space flag,
+    // so that text such as "95% full" is not taken for a conversion
+    private static final String SPECIFIER_CHARS = "0123456789$<-#+,(.";
+    private static final String CONVERSIONS = "bBhHsScCdoxXeEfgGaAn%";
+    private static final String DATE_CONVERSIONS = "HIklMSLNpzZsQBbhAaCYyjmdeRTrDFc";
+
+    private final String source;
+    private final String[] literals;
+    private final boolean printfStyle;
+
+    private MessageTemplate(String source, String[] literals) {
+        this.source = source;
+        this.literals = literals;
+        this.printfStyle = hasConversion(source);
+    }
+
+    /**
+     * Gets the parsed template for a message, parsing it if it isn't cached yet.
+     *
+     * @param message The message.
+     * @return The parsed template.
+     */
+    public static MessageTemplate of(String message) {
+        int index = System.identityHashCode(message) & (CACHE_SIZE - 1);
+        MessageTemplate template = cache.get(index);
+        if (template == null || template.source != message) {
+            template = parse(message);
+            cache.lazySet(index, template);
+        }
+        return template;
+    }
+
+    /**
+     * Parses a message without consulting the cache.
+     *
+     * @param message The message.
+     * @return The parsed template.
+     */
+    public static MessageTemplate parse(String message) {
+        String[] literals = new String[4];
+        int count = 0;
+        StringBuilder literal = new StringBuilder();
+        int length = message.length();
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (c == '{' && i + 1 < length && message.charAt(i + 1) == '}') {
+                int backslashes = literal.length() > 0 && literal.charAt(literal.length() - 1) == '\\' ? 1 : 0;
+                if (backslashes == 1 && literal.length() > 1 && literal.charAt(literal.length() - 2) == '\\') {
+                    // "\\{}" is a literal backslash followed by a placeholder
+                    literal.setLength(literal.length() - 1);
+                } else if (backslashes == 1) {
+                    // "\{}" is an escaped placeholder
+                    literal.setLength(literal.length() - 1);
+                    literal.append("{}");
+                    i++;
+                    continue;
+                }
+                if (count + 1 == literals.length) {
+                    literals = Arrays.copyOf(literals, literals.length * 2);
+                }
+                literals[count++] = literal.toString();
+                literal.setLength(0);
+                i++;
+            } else {
+                literal.append(c);
+            }
+        }
+        literals[count++] = literal.toString();
+        return new MessageTemplate(message, Arrays.copyOf(literals, count));
+    }
+
+    /**
+     * Gets the number of placeholders in this template.
+     *
+     * @return The placeholder count.
+     */
+    public int getPlaceholderCount() {
+        return literals.length - 1;
+    }
+
+    /**
+     * Checks whether this message contains a {@link java.util.Formatter} conversion, such as
+     * {@code %s}, {@code %5.2f}, {@code %n} or {@code %%}, which means it is most likely a
+     * {@link String#format(String, Object...)} format string even if it also contains {@code {}}.
+     *
+     * @return true if the message looks like a format string.
+     */
+    public boolean isPrintfStyle() {
+        return printfStyle;
+    }
+
+    private static boolean hasConversion(String message) {
+        int length = message.length();
+        for (int i = message.indexOf('%'); i >= 0; i = message.indexOf('%', i + 1)) {
+            int j = i + 1;
+            while (j < length && SPECIFIER_CHARS.indexOf(message.charAt(j)) >= 0) {
+                j++;
+            }
+            if (j == length) {
+                return false;
+            }
+            char conversion = message.charAt(j);
+            if (CONVERSIONS.indexOf(conversion) >= 0) {
+                return true;
+            }
+            if ((conversion == 't' || conversion == 'T') && j + 1 < length
+                    && DATE_CONVERSIONS.indexOf(message.charAt(j + 1)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Renders the message with the given arguments.
+     *
+     * @param args The arguments for the placeholders.
+     * @return The rendered message.
+     */
+    public String format(Object[] args) {
+        if (literals.length == 1) {
+            return literals[0];
+        }
+        StringBuilder sb = new StringBuilder(source.length() + 16 * literals.length);
+        appendTo(sb, args);
+        return sb.toString();
+    }
+
+    /**
+     * Renders the message with the given arguments into a builder.
+     * Extra arguments are ignored, and placeholders without an argument are kept as {@code {}}.
+     *
+     * @param sb   The builder to append to.
+     * @param args The arguments for the placeholders.
+     */
+    public void appendTo(StringBuilder sb, Object[] args) {
+        int argCount = args != null ? args.length : 0;
+        sb.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            if (i <= argCount) {
+                appendArgument(sb, args[i - 1]);
+            } else {
+                sb.append("{}");
+            }
+            sb.append(literals[i]);
+        }
+    }
+
+    /**
+     * Appends a single argument, using the primitive overloads of {@link StringBuilder}
+     * for boxed numbers so that no intermediate string is created.
+     *
+     * @param sb  The builder to append to.
+     * @param arg The argument.
+     */
+    public static void appendArgument(StringBuilder sb, Object arg) {
+        if (arg == null) {
+            sb.append("null");
+        } else if (arg instanceof String) {
+            sb.append((String) arg);
+        } else if (arg instanceof Integer) {
+            sb.append(((Integer) arg).intValue());
+        } else if (arg instanceof Long) {
+            sb.append(((Long) arg).longValue());
+        } else if (arg instanceof Double) {
+            sb.append(((Double) arg).doubleValue());
+        } else if (arg instanceof Float) {
+            sb.append(((Float) arg).floatValue());
+        } else if (arg instanceof Boolean) {
+            sb.append(((Boolean) arg).booleanValue());
+        } else if (arg instanceof Character) {
+            sb.append(((Character) arg).charValue());
+        } else if (arg instanceof Short || arg instanceof Byte) {
+            sb.append(((Number) arg).intValue());
+        } else if (arg instanceof CharSequence) {
+            sb.append((CharSequence) arg);
+        } else if (arg.getClass().isArray()) {
+            appendArray(sb, arg);
+        } else {
+            sb.append(arg.toString());
+        }
+    }
+
+    private static void appendArray(StringBuilder sb, Object array) {
+        if (array instanceof Object[]) {
+            sb.append(Arrays.deepToString((Object[]) array));
+        } else if (array instanceof int[]) {
+            sb.append(Arrays.toString((int[]) array));
+        } else if (array instanceof long[]) {
+            sb.append(Arrays.toString((long[]) array));
+        } else if (array instanceof double[]) {
+            sb.append(Arrays.toString((double[]) array));
+        } else if (array instanceof float[]) {
+            sb.append(Arrays.toString((float[]) array));
+        } else if (array instanceof boolean[]) {
+            sb.append(Arrays.toString((boolean[]) array));
+        } else if (array instanceof char[]) {
+            sb.append(Arrays.toString((char[]) array));
+        } else if (array instanceof short[]) {
+            sb.append(Arrays.toString((short[]) array));
+        } else {
+            sb.append(Arrays.toString((byte[]) array));
+        }
+    }
+}
@@ -5,35 +5,56 @@
 
 package dev.alphagame.trailblazer.formatters;
 
+import dev.alphagame.trailblazer.KeyValues;
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.context.ContextMap;
+import dev.alphagame.trailblazer.context.MDC;
+import dev.alphagame.trailblazer.utils.CachedDateFormat;
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
 import java.io.PrintStream;
-import java.text.SimpleDateFormat;
-import java.util.Date;
 
 /**
  * A simple formatter that outputs log messages in a standard format:
- * [TIMESTAMP] [LEVEL] MESSAGE
+ * [TIMESTAMP] [LEVEL] [LOGGER] MESSAGE
+ * <p>
+ * When the diagnostic context is not empty, it is written before the message as
+ * {@code [key=value, key=value]}. Fields added with {@link dev.alphagame.trailblazer.LogEventBuilder}
+ * follow the message as {@code key=value key=value}. A logged throwable adds a {@code [trace id]}
+ * reference and, the first time that stack trace is seen, the full trace on the following lines.
+ * <p>
+ * As a {@link Layout} it always renders the garbage-free, UTF-8 form of the line.
  */
-public class SimpleFormatter extends AbstractFormatter {
-    private final SimpleDateFormat dateFormatter;
+public class SimpleFormatter extends AbstractFormatter implements Layout {
+    /**
+     * The date pattern used when none is given.
+     */
+    public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
+
+    private static final byte[] FIELD_SEPARATOR = Utf8Buffer.encode("] [");
+    private static final byte[] MESSAGE_SEPARATOR = Utf8Buffer.encode("] ");
+    private static final byte[] LINE_SEPARATOR = Utf8Buffer.encode(System.lineSeparator());
+
+    private final CachedDateFormat dateFormatter;
     
     public SimpleFormatter() {
         super();
-        this.dateFormatter = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        this.dateFormatter = CachedDateFormat.forPattern(DEFAULT_DATE_FORMAT);
     }
     
     public SimpleFormatter(String dateFormat) {
         super();
-        this.dateFormatter = new SimpleDateFormat(dateFormat);
+        this.dateFormatter = CachedDateFormat.forPattern(dateFormat);
     }
     
     public SimpleFormatter(PrintStream outputStream) {
         super(outputStream);
-        this.dateFormatter = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        this.dateFormatter = CachedDateFormat.forPattern(DEFAULT_DATE_FORMAT);
     }
     
     public SimpleFormatter(String dateFormat, PrintStream outputStream) {
         super(outputStream);
-        this.dateFormatter = new SimpleDateFormat(dateFormat);
+        this.dateFormatter = CachedDateFormat.forPattern(dateFormat);
     }
 
     /**
@@ -46,10 +67,13 @@ public class SimpleFormatter extends AbstractFormatter {
      */
     @Override
     public void formatLogMessage(String level, String loggerName, String message, Object... args) {
-        String formattedMessage = String.format(message, args);
-        String timestamp = dateFormatter.format(new Date());
-        String logLine = String.format("[%s] [%s] [%s] %s", timestamp, level, loggerName, formattedMessage);
-        outputStream.println(logLine);
+        if (garbageFree) {
+            writeEncodedLine(System.currentTimeMillis(), Utf8Buffer.encode(level), Utf8Buffer.encode(loggerName),
+                    MDC.getContext(), message, args, null, null);
+            return;
+        }
+        String formattedMessage = formatMessage(message, args);
+        writeLine(System.currentTimeMillis(), level, loggerName, MDC.getContext(), formattedMessage, null, null);
     }
 
     /**
@@ -61,8 +85,117 @@ public class SimpleFormatter extends AbstractFormatter {
      */
     @Override
     public void formatLogMessage(String level, String loggerName, String message) {
-        String timestamp = dateFormatter.format(new Date());
-        String logLine = String.format("[%s] [%s] [%s] %s", timestamp, level, loggerName, message);
+        if (garbageFree) {
+            writeEncodedLine(System.currentTimeMillis(), Utf8Buffer.encode(level), Utf8Buffer.encode(loggerName),
+                    MDC.getContext(), message, null, null, null);
+            return;
+        }
+        writeLine(System.currentTimeMillis(), level, loggerName, MDC.getContext(), message, null, null);
+    }
+
+    /**
+     * Formats a log event, using the time at which the event was logged.
+     *
+     * @param event The event to format.
+     */
+    @Override
+    public void formatLogEvent(LogEvent event) {
+        if (garbageFree) {
+            writeEncodedLine(event.getTimestamp(), event.getLevel().getEncodedName(), encodedLoggerName(event),
+                    event.getContext(), event.getMessage(), event.getArgs(), event.getKeyValues(), event.getThrown());
+            return;
+        }
+        String message = event.getArgs() != null
+                ? formatMessage(event.getMessage(), event.getArgs())
+                : event.getMessage();
+        writeLine(event.getTimestamp(), event.getLevel().name(), event.getLoggerName(), event.getContext(), message,
+                event.getKeyValues(), event.getThrown());
+    }
+
+    /**
+     * Renders a log event as a UTF-8 line.
+     *
+     * @param event The event to render.
+     * @param out   The buffer to append to.
+     */
+    @Override
+    public void format(LogEvent event, Utf8Buffer out) {
+        LineBuffers buffers = LineBuffers.acquire();
+        try {
+            appendLine(out, buffers, event.getTimestamp(), event.getLevel().getEncodedName(),
+                    encodedLoggerName(event), event.getContext(), event.getMessage(), event.getArgs(),
+                    event.getKeyValues(), event.getThrown());
+        } finally {
+            buffers.release();
+        }
+    }
+
+    private static byte[] encodedLoggerName(LogEvent event) {
+        return event.getEncodedLoggerName() != null
+                ? event.getEncodedLoggerName()
+                : Utf8Buffer.encode(event.getLoggerName());
+    }
+
+    private void writeLine(long timestamp, String level, String loggerName, ContextMap context, String message,
+            KeyValues keyValues, Throwable thrown) {
+        String formattedTimestamp = dateFormatter.format(timestamp);
+        String logLine = context.isEmpty()
+                ? String.format("[%s] [%s] [%s] %s", formattedTimestamp, level, loggerName, message)
+                : String.format("[%s] [%s] [%s] [%s] %s", formattedTimestamp, level, loggerName, context, message);
+        if (keyValues != null && !keyValues.isEmpty()) {
+            logLine = logLine + " " + keyValues;
+        }
+        if (thrown != null) {
+            StackTraces trace = StackTraces.record(thrown, stackTraceCache);
+            logLine = trace.isFirst()
+                    ? logLine + trace.reference() + StackTraces.render(thrown)
+                    : logLine + trace.reference();
+        }
         outputStream.println(logLine);
+        recordOutput(logLine);
+    }
+
+    /**
+     * Renders a line into the per-thread buffers and writes the UTF-8 bytes to the output stream.
+     * Does not allocate once the buffers have grown to fit, except once per second for the
+     * timestamp, or when a format string is used or an argument has to be converted with toString().
+     */
+    private void writeEncodedLine(long timestamp, byte[] level, byte[] loggerName, ContextMap context, String message,
+            Object[] args, KeyValues keyValues, Throwable thrown) {
+        LineBuffers buffers = LineBuffers.acquire();
+        try {
+            Utf8Buffer line = buffers.line;
+            appendLine(line, buffers, timestamp, level, loggerName, context, message, args, keyValues, thrown);
+            outputStream.write(line.array(), 0, line.length());
+            recordOutput(line.length());
+        } finally {
+            buffers.release();
+        }
+    }
+
+    private void appendLine(Utf8Buffer line, LineBuffers buffers, long timestamp, byte[] level, byte[] loggerName,
+            ContextMap context, String message, Object[] args, KeyValues keyValues, Throwable thrown) {
+        line.append((byte) '[');
+        dateFormatter.format(timestamp, line);
+        line.append(FIELD_SEPARATOR).append(level);
+        line.append(FIELD_SEPARATOR).append(loggerName);
+        if (!context.isEmpty()) {
+            line.append(FIELD_SEPARATOR);
+            context.appendTo(line);
+        }
+        line.append(MESSAGE_SEPARATOR);
+        line.append(buffers.formatMessage(this, message, args));
+        if (keyValues != null && !keyValues.isEmpty()) {
+            line.append((byte) ' ');
+            keyValues.appendTo(line);
+        }
+        if (thrown != null) {
+            StackTraces trace = StackTraces.record(thrown, stackTraceCache);
+            line.append(trace.reference());
+            if (trace.isFirst()) {
+                line.append(StackTraces.render(thrown));
+            }
+        }
+        line.append(LINE_SEPARATOR);
     }
 }
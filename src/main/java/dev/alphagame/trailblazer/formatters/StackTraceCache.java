@@ -0,0 +1,125 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Counts how often each stack trace has been written, so that formatters print a trace in full
+ * only the first time and refer to it by a short id afterwards.
+ * <p>
+ * Traces are told apart by a 64-bit hash of the exception classes and frames of the throwable,
+ * its causes and its suppressed exceptions, so the same failure with a different message counts
+ * as a repeat. The id is the hash folded to 32 bits, in hexadecimal. The cache keeps the most
+ * recently seen traces and forgets the oldest one when full, after which that trace is printed
+ * in full again.
+ */
+public final class StackTraceCache {
+    /**
+     * The default number of traces remembered.
+     */
+    public static final int DEFAULT_SIZE = 1024;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private final Map<Long, long[]> counts;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize The number of distinct traces to remember.
+     */
+    public StackTraceCache(int maxSize) {
+        int capacity = Math.max(1, maxSize);
+        this.counts = new LinkedHashMap<Long, long[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Counts one more occurrence of a trace.
+     *
+     * @param hash The hash of the trace, from {@link #hash(Throwable)}.
+     * @return The number of occurrences including this one; 1 means the trace should be printed in full.
+     */
+    public synchronized long record(long hash) {
+        long[] count = counts.get(hash);
+        if (count == null) {
+            counts.put(hash, new long[] { 1 });
+            return 1;
+        }
+        return ++count[0];
+    }
+
+    /**
+     * Forgets all traces.
+     */
+    public synchronized void clear() {
+        counts.clear();
+    }
+
+    /**
+     * Gets the number of traces remembered.
+     *
+     * @return The number of distinct traces.
+     */
+    public synchronized int size() {
+        return counts.size();
+    }
+
+    /**
+     * Hashes the exception classes and frames of a throwable, its causes and its suppressed exceptions.
+     *
+     * @param throwable The throwable.
+     * @return The hash.
+     */
+    public static long hash(Throwable throwable) {
+        return hash(throwable, FNV_OFFSET, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * Gets the id printed for a trace.
+     *
+     * @param hash The hash of the trace.
+     * @return The folded hash as 8 hexadecimal digits.
+     */
+    public static String id(long hash) {
+        String hex = Integer.toHexString((int) (hash ^ (hash >>> 32)));
+        return hex.length() == 8 ? hex : "00000000".substring(hex.length()) + hex;
+    }
+
+    private static long hash(Throwable throwable, long hash, Set<Throwable> visited) {
+        if (!visited.add(throwable)) {
+            return mix(hash, 1);
+        }
+        hash = mix(hash, DecodedThrowable.classNameOf(throwable).hashCode());
+        for (StackTraceElement frame : throwable.getStackTrace()) {
+            // The printed parts only, so that a trace read back from a binary log keeps its id
+            hash = mix(hash, frame.getClassName().hashCode());
+            hash = mix(hash, frame.getMethodName().hashCode());
+            hash = mix(hash, Objects.hashCode(frame.getFileName()));
+            hash = mix(hash, frame.getLineNumber());
+        }
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            hash = hash(suppressed, mix(hash, 2), visited);
+        }
+        Throwable cause = throwable.getCause();
+        return cause != null ? hash(cause, mix(hash, 3), visited) : hash;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
@@ -0,0 +1,177 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.formatters;
+
+import dev.alphagame.trailblazer.utils.Utf8Buffer;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Renders throwables for the formatters, in full the first time a trace is seen and as a
+ * reference to its id afterwards.
+ * <p>
+ * The text form follows {@link Throwable#printStackTrace()}, including {@code Caused by:} and
+ * {@code Suppressed:} sections and the {@code ... n more} lines for frames shared with the
+ * enclosing trace. The JSON form is an object with the class, message, id, occurrence count
+ * and, on the first occurrence, the frames, cause and suppressed exceptions.
+ */
+final class StackTraces {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final String id;
+    private final long occurrence;
+
+    private StackTraces(String id, long occurrence) {
+        this.id = id;
+        this.occurrence = occurrence;
+    }
+
+    /**
+     * Counts an occurrence of a throwable in a cache.
+     *
+     * @param throwable The throwable.
+     * @param cache     The cache, or null to treat every occurrence as the first.
+     * @return The id and occurrence number of the trace.
+     */
+    static StackTraces record(Throwable throwable, StackTraceCache cache) {
+        long hash = StackTraceCache.hash(throwable);
+        return new StackTraces(StackTraceCache.id(hash), cache != null ? cache.record(hash) : 1);
+    }
+
+    /**
+     * Checks whether the trace should be printed in full.
+     */
+    boolean isFirst() {
+        return occurrence == 1;
+    }
+
+    /**
+     * Gets the text that follows the message line, such as {@code  [trace 1a2b3c4d]}.
+     */
+    String reference() {
+        return isFirst() ? " [trace " + id + "]" : " [trace " + id + ", seen " + occurrence + " times]";
+    }
+
+    /**
+     * Renders the text lines of a trace, each preceded by a line separator.
+     */
+    static String render(Throwable throwable) {
+        StringBuilder sb = new StringBuilder(1024);
+        Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        appendTrace(sb, throwable, new StackTraceElement[0], "", "", visited);
+        return sb.toString();
+    }
+
+    /**
+     * Writes the {@code "exception"} object of a JSON line, without a leading comma.
+     */
+    void writeJson(Utf8Buffer out, Throwable throwable) {
+        out.append("\"exception\":{");
+        writeThrowableFields(out, throwable);
+        out.append(",\"traceId\":");
+        JsonWriter.writeString(out, id);
+        out.append(",\"occurrence\":");
+        out.appendDecimal(occurrence);
+        if (isFirst()) {
+            Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            visited.add(throwable);
+            writeDetails(out, throwable, new StackTraceElement[0], visited);
+        }
+        out.append((byte) '}');
+    }
+
+    private static void appendTrace(StringBuilder sb, Throwable throwable, StackTraceElement[] enclosingTrace,
+            String caption, String prefix, Set<Throwable> visited) {
+        sb.append(LINE_SEPARATOR).append(prefix).append(caption);
+        if (!visited.add(throwable)) {
+            sb.append("[CIRCULAR REFERENCE: ").append(throwable).append(']');
+            return;
+        }
+        sb.append(throwable);
+        StackTraceElement[] trace = throwable.getStackTrace();
+        int inCommon = framesInCommon(trace, enclosingTrace);
+        for (int i = 0; i < trace.length - inCommon; i++) {
+            sb.append(LINE_SEPARATOR).append(prefix).append("\tat ").append(trace[i]);
+        }
+        if (inCommon != 0) {
+            sb.append(LINE_SEPARATOR).append(prefix).append("\t... ").append(inCommon).append(" more");
+        }
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            appendTrace(sb, suppressed, trace, "Suppressed: ", prefix + "\t", visited);
+        }
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            appendTrace(sb, cause, trace, "Caused by: ", prefix, visited);
+        }
+    }
+
+    private static void writeThrowableFields(Utf8Buffer out, Throwable throwable) {
+        out.append("\"class\":");
+        JsonWriter.writeString(out, DecodedThrowable.classNameOf(throwable));
+        if (throwable.getMessage() != null) {
+            out.append(",\"message\":");
+            JsonWriter.writeString(out, throwable.getMessage());
+        }
+    }
+
+    private static void writeDetails(Utf8Buffer out, Throwable throwable, StackTraceElement[] enclosingTrace,
+            Set<Throwable> visited) {
+        StackTraceElement[] trace = throwable.getStackTrace();
+        int inCommon = framesInCommon(trace, enclosingTrace);
+        out.append(",\"frames\":[");
+        for (int i = 0; i < trace.length - inCommon; i++) {
+            if (i > 0) {
+                out.append((byte) ',');
+            }
+            JsonWriter.writeString(out, trace[i].toString());
+        }
+        out.append((byte) ']');
+        if (inCommon != 0) {
+            out.append(",\"framesInCommon\":");
+            out.appendDecimal(inCommon);
+        }
+        Throwable[] suppressed = throwable.getSuppressed();
+        if (suppressed.length > 0) {
+            out.append(",\"suppressed\":[");
+            for (int i = 0; i < suppressed.length; i++) {
+                if (i > 0) {
+                    out.append((byte) ',');
+                }
+                writeNested(out, suppressed[i], trace, visited);
+            }
+            out.append((byte) ']');
+        }
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            out.append(",\"cause\":");
+            writeNested(out, cause, trace, visited);
+        }
+    }
+
+    private static void writeNested(Utf8Buffer out, Throwable throwable, StackTraceElement[] enclosingTrace,
+            Set<Throwable> visited) {
+        out.append((byte) '{');
+        writeThrowableFields(out, throwable);
+        if (visited.add(throwable)) {
+            writeDetails(out, throwable, enclosingTrace, visited);
+        } else {
+            out.append(",\"circular\":true");
+        }
+        out.append((byte) '}');
+    }
+
+    private static int framesInCommon(StackTraceElement[] trace, StackTraceElement[] enclosingTrace) {
+        int m = trace.length - 1;
+        int n = enclosingTrace.length - 1;
+        while (m >= 0 && n >= 0 && trace[m].equals(enclosingTrace[n])) {
+            m--;
+            n--;
+        }
+        return trace.length - 1 - m;
+    }
+}
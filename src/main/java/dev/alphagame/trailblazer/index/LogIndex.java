@@ -0,0 +1,454 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.index;
+
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.metrics.LoggerMetrics;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A sparse index of a log file, kept in a sidecar file next to it, that maps time ranges to
+ * byte ranges of the log.
+ * <p>
+ * Each entry describes one block of consecutive events: its byte range in the log, its earliest
+ * and latest timestamp, the levels it contains and a 512-bit filter of its logger names. A
+ * {@link LogQuery} reads only the blocks whose entry can match. The sidecar is named
+ * {@code <log file>.idx}; it starts with the magic bytes {@code TBIX} and a version, followed by
+ * {@value #ENTRY_SIZE}-byte entries:
+ * <pre>
+ * long offset           position of the block's first event in the log
+ * int  length           bytes of the block in the log
+ * long firstTimestamp   earliest event timestamp, in epoch milliseconds
+ * long lastTimestamp    latest event timestamp
+ * int  eventCount       number of events
+ * int  levelMask        bit (1 &lt;&lt; ordinal) set for each level present
+ * long[8] loggerFilter  two bits set for the hash of each logger name present
+ * </pre>
+ * Entries are appended as blocks fill up, so the index stays usable while the log is written.
+ * Bytes of the log that no entry covers, such as the last unfinished block, are read in full.
+ */
+public final class LogIndex {
+    /**
+     * The suffix added to the name of the log file to get the name of its index.
+     */
+    public static final String SUFFIX = ".idx";
+
+    static final byte[] MAGIC = { 'T', 'B', 'I', 'X' };
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int ENTRY_SIZE = 100;
+    private static final int FILTER_WORDS = 8;
+
+    private final List<Entry> entries;
+
+    private LogIndex(List<Entry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Gets the index file of a log file.
+     *
+     * @param logFile The log file.
+     * @return The sidecar file, which may not exist.
+     */
+    public static File indexFileFor(File logFile) {
+        return new File(logFile.getPath() + SUFFIX);
+    }
+
+    /**
+     * Reads an index file. An entry cut short at the end of the file is ignored.
+     *
+     * @param indexFile The index file.
+     * @return The index.
+     * @throws IOException If the file cannot be read or is not an index.
+     */
+    public static LogIndex read(Path indexFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            return new LogIndex(readEntries(channel));
+        }
+    }
+
+    /**
+     * Reads the index of a log file, or returns an empty index when the log has none.
+     *
+     * @param logFile The log file.
+     * @return The index.
+     * @throws IOException If the index exists but cannot be read.
+     */
+    public static LogIndex forLogFile(File logFile) throws IOException {
+        try {
+            return read(indexFileFor(logFile).toPath());
+        } catch (NoSuchFileException e) {
+            return new LogIndex(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Gets the entries of the index, in the order they were written.
+     *
+     * @return The entries.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Gets the bits a logger name sets in an entry's logger filter.
+     *
+     * @param loggerName The logger name.
+     * @return The two bit positions, packed as {@code first | second << 16}.
+     */
+    static int loggerBits(String loggerName) {
+        int hash = loggerName != null ? loggerName.hashCode() : 0;
+        int first = hash * 0x9E3779B9;
+        int second = (first ^ (first >>> 16)) * 0x85EBCA6B;
+        return (first >>> 23) | (second >>> 23) << 16;
+    }
+
+    private static List<Entry> readEntries(FileChannel channel) throws IOException {
+        checkHeader(channel);
+        long count = (channel.size() - HEADER_SIZE) / ENTRY_SIZE;
+        List<Entry> entries = new ArrayList<>((int) Math.min(count, Integer.MAX_VALUE));
+        ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE * 256);
+        long position = HEADER_SIZE;
+        long end = HEADER_SIZE + count * ENTRY_SIZE;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Index file shrank while being read");
+                }
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                long offset = buffer.getLong();
+                int length = buffer.getInt();
+                long firstTimestamp = buffer.getLong();
+                long lastTimestamp = buffer.getLong();
+                int eventCount = buffer.getInt();
+                int levelMask = buffer.getInt();
+                long[] loggerFilter = new long[FILTER_WORDS];
+                for (int i = 0; i < FILTER_WORDS; i++) {
+                    loggerFilter[i] = buffer.getLong();
+                }
+                entries.add(new Entry(offset, length, firstTimestamp, lastTimestamp, eventCount, levelMask,
+                        loggerFilter));
+            }
+            position += buffer.limit();
+        }
+        return entries;
+    }
+
+    private static void checkHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // Keep reading
+        }
+        if (header.position() < HEADER_SIZE || header.get(0) != MAGIC[0] || header.get(1) != MAGIC[1]
+                || header.get(2) != MAGIC[2] || header.get(3) != MAGIC[3]) {
+            throw new IOException("Not a Trailblazer log index");
+        }
+        if (header.get(4) != VERSION) {
+            throw new IOException("Unsupported log index version " + header.get(4));
+        }
+    }
+
+    /**
+     * The description of one block of the log.
+     */
+    public static final class Entry {
+        private final long offset;
+        private final int length;
+        private final long firstTimestamp;
+        private final long lastTimestamp;
+        private final int eventCount;
+        private final int levelMask;
+        private final long[] loggerFilter;
+
+        Entry(long offset, int length, long firstTimestamp, long lastTimestamp, int eventCount, int levelMask,
+                long[] loggerFilter) {
+            this.offset = offset;
+            this.length = length;
+            this.firstTimestamp = firstTimestamp;
+            this.lastTimestamp = lastTimestamp;
+            this.eventCount = eventCount;
+            this.levelMask = levelMask;
+            this.loggerFilter = loggerFilter;
+        }
+
+        /**
+         * Gets the position of the block's first event in the log.
+         *
+         * @return The byte offset.
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * Gets the size of the block in the log.
+         *
+         * @return The length in bytes.
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * Gets the earliest event timestamp in the block.
+         *
+         * @return The timestamp in epoch milliseconds.
+         */
+        public long getFirstTimestamp() {
+            return firstTimestamp;
+        }
+
+        /**
+         * Gets the latest event timestamp in the block.
+         *
+         * @return The timestamp in epoch milliseconds.
+         */
+        public long getLastTimestamp() {
+            return lastTimestamp;
+        }
+
+        /**
+         * Gets the number of events in the block.
+         *
+         * @return The event count.
+         */
+        public int getEventCount() {
+            return eventCount;
+        }
+
+        /**
+         * Checks whether the block contains events of a level.
+         *
+         * @param level The level.
+         * @return true if at least one event has the level.
+         */
+        public boolean hasLevel(LogLevel level) {
+            return (levelMask & 1 << level.ordinal()) != 0;
+        }
+
+        /**
+         * Checks whether the block may contain events of a logger. False positives are possible,
+         * false negatives are not.
+         *
+         * @param loggerName The exact logger name.
+         * @return false if the block certainly has no event of the logger.
+         */
+        public boolean mayContainLogger(String loggerName) {
+            int bits = loggerBits(loggerName);
+            return isSet(bits & 0xFFFF) && isSet(bits >>> 16);
+        }
+
+        int getLevelMask() {
+            return levelMask;
+        }
+
+        private boolean isSet(int bit) {
+            return (loggerFilter[bit >>> 6] & 1L << bit) != 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry[offset=" + offset + ", length=" + length + ", time=" + firstTimestamp + ".."
+                    + lastTimestamp + ", events=" + eventCount + "]";
+        }
+    }
+
+    /**
+     * Builds the index of a log file while it is written. The caller reports every event in the
+     * order it is written to the log; an entry is appended to the index file whenever the current
+     * block reaches its event or byte limit.
+     * <p>
+     * Writers are not thread-safe; they are meant to be called under the lock of the log file.
+     * A writer holds a lock on the index file, so only one can write an index at a time.
+     */
+    public static final class Writer implements Closeable {
+        private final File indexFile;
+        private final FileChannel channel;
+        private final int maxEvents;
+        private final int maxBytes;
+        private final ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE);
+        private final long[] loggerFilter = new long[FILTER_WORDS];
+        private long offset;
+        private int length;
+        private long firstTimestamp;
+        private long lastTimestamp;
+        private int eventCount;
+        private int levelMask;
+        private String lastLoggerName;
+
+        /**
+         * Opens the index of a log file for appending, creating it if it doesn't exist.
+         *
+         * @param logFile   The log file.
+         * @param logOffset The current size of the log, where the next event will be written.
+         * @param maxEvents The number of events per entry.
+         * @param maxBytes  The number of log bytes per entry.
+         * @throws IOException If the index cannot be opened, is not an index, or is already being written.
+         */
+        public Writer(File logFile, long logOffset, int maxEvents, int maxBytes) throws IOException {
+            if (maxEvents <= 0 || maxBytes <= 0) {
+                throw new IllegalArgumentException("Entry limits must be positive");
+            }
+            this.indexFile = indexFileFor(logFile);
+            this.maxEvents = maxEvents;
+            this.maxBytes = maxBytes;
+            this.offset = logOffset;
+            this.channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                prepareFile();
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Gets the index file.
+         *
+         * @return The sidecar file.
+         */
+        public File getIndexFile() {
+            return indexFile;
+        }
+
+        /**
+         * Records an event that has just been written to the log.
+         *
+         * @param timestamp  The event timestamp, in epoch milliseconds.
+         * @param level      The event level.
+         * @param loggerName The name of the logger.
+         * @param length     The number of bytes written to the log.
+         * @throws IOException If a finished entry cannot be written.
+         */
+        public void add(long timestamp, LogLevel level, String loggerName, int length) throws IOException {
+            if (eventCount == 0) {
+                firstTimestamp = timestamp;
+                lastTimestamp = timestamp;
+            } else {
+                // Events from different threads may arrive slightly out of order
+                firstTimestamp = Math.min(firstTimestamp, timestamp);
+                lastTimestamp = Math.max(lastTimestamp, timestamp);
+            }
+            levelMask |= 1 << level.ordinal();
+            if (loggerName != lastLoggerName) {
+                int bits = loggerBits(loggerName);
+                loggerFilter[(bits & 0xFFFF) >>> 6] |= 1L << bits;
+                loggerFilter[bits >>> 22] |= 1L << (bits >>> 16);
+                lastLoggerName = loggerName;
+            }
+            eventCount++;
+            this.length += length;
+            if (eventCount >= maxEvents || this.length >= maxBytes) {
+                finishBlock();
+            }
+        }
+
+        /**
+         * Writes the entry of the current block, if it has any events, and starts a new block.
+         *
+         * @throws IOException If the entry cannot be written.
+         */
+        public void finishBlock() throws IOException {
+            if (eventCount == 0) {
+                return;
+            }
+            entry.clear();
+            entry.putLong(offset).putInt(length).putLong(firstTimestamp).putLong(lastTimestamp)
+                    .putInt(eventCount).putInt(levelMask);
+            for (int i = 0; i < FILTER_WORDS; i++) {
+                entry.putLong(loggerFilter[i]);
+                loggerFilter[i] = 0;
+            }
+            entry.flip();
+            offset += length;
+            length = 0;
+            eventCount = 0;
+            levelMask = 0;
+            lastLoggerName = null;
+            try {
+                while (entry.hasRemaining()) {
+                    channel.write(entry);
+                }
+            } catch (IOException e) {
+                LoggerMetrics.recordWriteError();
+                throw e;
+            }
+        }
+
+        /**
+         * Writes the entry of the current block and closes the index file.
+         *
+         * @throws IOException If the entry cannot be written or the file cannot be closed.
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                finishBlock();
+            } finally {
+                channel.close();
+            }
+        }
+
+        private void prepareFile() throws IOException {
+            try {
+                if (channel.tryLock() == null) {
+                    throw new IOException("Index " + indexFile + " is already being written");
+                }
+            } catch (OverlappingFileLockException e) {
+                // Held by another writer in this JVM
+                throw new IOException("Index " + indexFile + " is already being written", e);
+            }
+            long size = channel.size();
+            if (size == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.put(MAGIC).put((byte) VERSION).rewind();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                return;
+            }
+            checkHeader(channel);
+            long end = HEADER_SIZE + (size - HEADER_SIZE) / ENTRY_SIZE * ENTRY_SIZE;
+            ByteBuffer last = ByteBuffer.allocate(12);
+            while (end > HEADER_SIZE) {
+                last.clear();
+                while (last.hasRemaining() && channel.read(last, end - ENTRY_SIZE + last.position()) >= 0) {
+                    // Keep reading
+                }
+                if (last.getLong(0) + last.getInt(8) <= offset) {
+                    break;
+                }
+                // The log lost the end of this block, as when the index reached the disk before
+                // the log did; the entries before it are still valid
+                end -= ENTRY_SIZE;
+            }
+            if (end < size) {
+                // Also drops an entry cut short by a crash
+                channel.truncate(end);
+            }
+            channel.position(end);
+        }
+    }
+}
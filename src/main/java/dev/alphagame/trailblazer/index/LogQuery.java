@@ -0,0 +1,462 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.index;
+
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.analysis.LogLineParser;
+import dev.alphagame.trailblazer.formatters.SimpleFormatter;
+
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * Finds the events of a log file that match a time range, a set of levels and a logger, using
+ * the file's {@link LogIndex} to skip blocks that can't match.
+ * <p>
+ * Both {@link SimpleFormatter} and {@link dev.alphagame.trailblazer.formatters.JSONFormatter}
+ * lines are understood, even mixed in one file. A Simple event includes the lines that follow
+ * it up to the next event, such as its stack trace. Timestamps are only parsed in blocks that
+ * lie partly outside the time range; Simple timestamps are parsed with the date pattern of the
+ * query in the default time zone, and events whose timestamp can't be parsed are kept.
+ * A file without an index is scanned in full. From the command line:
+ * <pre>
+ * java -cp trailblazer.jar dev.alphagame.trailblazer.index.LogQuery app.log \
+ *     --from 2025-06-01T10:02 --to 2025-06-01T10:05 --level ERROR --logger Orders
+ * </pre>
+ * Times are epoch milliseconds, ISO-8601 instants, or local date-times in the default time zone.
+ */
+public final class LogQuery {
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private final File file;
+    private final long fromMillis;
+    private final long toMillis;
+    private final int levelMask;
+    private final String loggerName;
+    private final byte[] simpleLoggerName;
+    private final byte[] jsonLoggerName;
+    private final String datePattern;
+    private long blocksRead;
+    private long blocksSkipped;
+
+    /**
+     * Receives the events found by a query.
+     */
+    @FunctionalInterface
+    public interface EventConsumer {
+        /**
+         * Accepts one event.
+         *
+         * @param data   The event as written to the log, including its line separators.
+         *               The array is reused after this call returns.
+         * @param offset The offset of the first byte.
+         * @param length The number of bytes.
+         * @throws IOException If the event cannot be processed.
+         */
+        void accept(byte[] data, int offset, int length) throws IOException;
+    }
+
+    private LogQuery(Builder builder) {
+        this.file = builder.file;
+        this.fromMillis = builder.fromMillis;
+        this.toMillis = builder.toMillis;
+        this.levelMask = builder.levelMask;
+        this.loggerName = builder.loggerName;
+        this.datePattern = builder.datePattern;
+        if (loggerName != null) {
+            this.simpleLoggerName = loggerName.getBytes(StandardCharsets.UTF_8);
+            this.jsonLoggerName = LogLineParser.escapeJson(loggerName);
+        } else {
+            this.simpleLoggerName = null;
+            this.jsonLoggerName = null;
+        }
+    }
+
+    /**
+     * Creates a builder for a query on a log file.
+     *
+     * @param logFile The log file. Its index, if any, is {@link LogIndex#indexFileFor(File)}.
+     * @return A builder that matches every event.
+     */
+    public static Builder builder(File logFile) {
+        return new Builder(logFile);
+    }
+
+    /**
+     * Runs the query.
+     *
+     * @param consumer The consumer to pass the matching events to, in file order.
+     * @return The number of matching events.
+     * @throws IOException If the log or its index cannot be read, or the consumer fails.
+     */
+    public long run(EventConsumer consumer) throws IOException {
+        LogIndex index = LogIndex.forLogFile(file);
+        blocksRead = 0;
+        blocksSkipped = 0;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            Scanner scanner = new Scanner(channel, consumer);
+            long size = channel.size();
+            long position = 0;
+            for (LogIndex.Entry entry : index.getEntries()) {
+                long start = entry.getOffset();
+                if (start >= size) {
+                    // Written to the index before the log was flushed
+                    break;
+                }
+                if (start < position) {
+                    continue;
+                }
+                if (start > position) {
+                    scanner.scan(position, start, true);
+                }
+                long end = Math.min(start + entry.getLength(), size);
+                if (mayMatch(entry)) {
+                    blocksRead++;
+                    boolean inRange = entry.getFirstTimestamp() >= fromMillis
+                            && entry.getLastTimestamp() <= toMillis;
+                    scanner.scan(start, end, !inRange);
+                } else {
+                    blocksSkipped++;
+                }
+                position = end;
+            }
+            if (position < size) {
+                scanner.scan(position, size, true);
+            }
+            return scanner.matches;
+        }
+    }
+
+    /**
+     * Runs the query and writes the matching events to a stream.
+     *
+     * @param out The stream to write to.
+     * @return The number of matching events.
+     * @throws IOException If the log cannot be read or the stream fails.
+     */
+    public long copyTo(OutputStream out) throws IOException {
+        return run(out::write);
+    }
+
+    /**
+     * Gets the number of indexed blocks read by the last run.
+     *
+     * @return The block count.
+     */
+    public long getBlocksRead() {
+        return blocksRead;
+    }
+
+    /**
+     * Gets the number of indexed blocks the last run skipped without reading.
+     *
+     * @return The block count.
+     */
+    public long getBlocksSkipped() {
+        return blocksSkipped;
+    }
+
+    /**
+     * Prints the matching events of a log file to standard output.
+     *
+     * @param args The file followed by any of {@code --from}, {@code --to}, {@code --level},
+     *             {@code --min-level}, {@code --logger} and {@code --date-pattern} with their values.
+     * @throws IOException If the file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args.length % 2 == 0) {
+            usage();
+            return;
+        }
+        Builder builder = builder(new File(args[0]));
+        long from = Long.MIN_VALUE;
+        long to = Long.MAX_VALUE;
+        try {
+            for (int i = 1; i < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--from":
+                        from = parseTime(value);
+                        break;
+                    case "--to":
+                        to = parseTime(value);
+                        break;
+                    case "--level":
+                        String[] names = value.split(",");
+                        LogLevel[] levels = new LogLevel[names.length];
+                        for (int j = 0; j < names.length; j++) {
+                            levels[j] = LogLevel.valueOf(names[j].trim().toUpperCase());
+                        }
+                        builder.withLevels(levels);
+                        break;
+                    case "--min-level":
+                        builder.withMinLevel(LogLevel.valueOf(value.toUpperCase()));
+                        break;
+                    case "--logger":
+                        builder.withLogger(value);
+                        break;
+                    case "--date-pattern":
+                        builder.withDatePattern(value);
+                        break;
+                    default:
+                        usage();
+                        return;
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            System.err.println(e.getMessage());
+            usage();
+            return;
+        }
+        LogQuery query = builder.withTimeRange(from, to).build();
+        OutputStream out = new FileOutputStream(FileDescriptor.out);
+        long matches = query.copyTo(out);
+        out.flush();
+        System.err.println(matches + " events; read " + query.getBlocksRead() + " indexed blocks, skipped "
+                + query.getBlocksSkipped());
+    }
+
+    private static void usage() {
+        System.err.println("Usage: LogQuery <file> [--from <time>] [--to <time>] [--level <LEVEL,...>]"
+                + " [--min-level <LEVEL>] [--logger <name>] [--date-pattern <pattern>]");
+        System.exit(2);
+    }
+
+    private static long parseTime(String time) {
+        try {
+            return Long.parseLong(time);
+        } catch (NumberFormatException e) {
+            // Not epoch milliseconds
+        }
+        if (time.endsWith("Z")) {
+            return Instant.parse(time).toEpochMilli();
+        }
+        return LocalDateTime.parse(time).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private boolean mayMatch(LogIndex.Entry entry) {
+        return entry.getLastTimestamp() >= fromMillis && entry.getFirstTimestamp() <= toMillis
+                && (entry.getLevelMask() & levelMask) != 0
+                && (loggerName == null || entry.mayContainLogger(loggerName));
+    }
+
+    /**
+     * Splits byte ranges of the log into events and passes the matching ones on.
+     */
+    private final class Scanner {
+        private final FileChannel channel;
+        private final EventConsumer consumer;
+        private final LogLineParser parser;
+        private byte[] buffer = new byte[CHUNK_SIZE];
+        private ByteBuffer view = ByteBuffer.wrap(buffer);
+        private boolean checkTime;
+        private boolean current;
+        private long matches;
+
+        Scanner(FileChannel channel, EventConsumer consumer) {
+            this.channel = channel;
+            this.consumer = consumer;
+            this.parser = new LogLineParser(datePattern);
+        }
+
+        void scan(long start, long end, boolean checkTime) throws IOException {
+            this.checkTime = checkTime && (fromMillis != Long.MIN_VALUE || toMillis != Long.MAX_VALUE);
+            long position = start;
+            int filled = 0;
+            while (position < end || filled > 0) {
+                if (filled == buffer.length) {
+                    // A single event larger than the buffer
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    view = ByteBuffer.wrap(buffer);
+                }
+                int length = (int) Math.min(buffer.length - filled, end - position);
+                ByteBuffer target = ByteBuffer.wrap(buffer, filled, length);
+                while (target.hasRemaining()) {
+                    int read = channel.read(target, position);
+                    if (read < 0) {
+                        break;
+                    }
+                    position += read;
+                }
+                filled = target.position();
+                boolean last = position >= end || target.hasRemaining();
+                int consumed = process(filled, last);
+                System.arraycopy(buffer, consumed, buffer, 0, filled - consumed);
+                filled -= consumed;
+                if (last) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Passes on the complete events in the buffer and returns the number of bytes used.
+         */
+        private int process(int filled, boolean last) throws IOException {
+            int position = 0;
+            int eventStart = -1;
+            while (position < filled) {
+                int lineEnd = position;
+                while (lineEnd < filled && buffer[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                if (lineEnd == filled && !last) {
+                    break;
+                }
+                boolean previous = current;
+                if (parseHeader(position, lineEnd)) {
+                    if (eventStart >= 0 && previous) {
+                        accept(eventStart, position);
+                    }
+                    eventStart = position;
+                }
+                position = Math.min(lineEnd + 1, filled);
+            }
+            if (!last) {
+                // The last event may continue in the next chunk
+                return eventStart >= 0 ? eventStart : position;
+            }
+            if (eventStart >= 0 && current) {
+                accept(eventStart, filled);
+            }
+            return filled;
+        }
+
+        private void accept(int start, int end) throws IOException {
+            matches++;
+            consumer.accept(buffer, start, end - start);
+        }
+
+        /**
+         * Checks whether a line starts an event and, if so, whether the event matches.
+         */
+        private boolean parseHeader(int start, int end) {
+            if (!parser.parse(view, start, end)) {
+                return false;
+            }
+            current = (levelMask & 1 << parser.getLevel().ordinal()) != 0
+                    && (loggerName == null
+                            || parser.loggerEquals(parser.isJson() ? jsonLoggerName : simpleLoggerName));
+            if (current && checkTime) {
+                long timestamp = parser.getTimestamp();
+                // Keep events that can't be placed in time
+                current = timestamp == LogLineParser.NO_TIMESTAMP || inRange(timestamp);
+            }
+            return true;
+        }
+
+        private boolean inRange(long millis) {
+            return millis >= fromMillis && millis <= toMillis;
+        }
+    }
+
+    /**
+     * Builds a {@link LogQuery}.
+     */
+    public static final class Builder {
+        private final File file;
+        private long fromMillis = Long.MIN_VALUE;
+        private long toMillis = Long.MAX_VALUE;
+        private int levelMask = (1 << LEVELS.length) - 1;
+        private String loggerName;
+        private String datePattern = SimpleFormatter.DEFAULT_DATE_FORMAT;
+
+        private Builder(File file) {
+            this.file = file;
+        }
+
+        /**
+         * Only matches events logged within a time range.
+         *
+         * @param fromMillis The earliest timestamp to include, in epoch milliseconds.
+         * @param toMillis   The latest timestamp to include, in epoch milliseconds.
+         * @return This builder.
+         */
+        public Builder withTimeRange(long fromMillis, long toMillis) {
+            this.fromMillis = fromMillis;
+            this.toMillis = toMillis;
+            return this;
+        }
+
+        /**
+         * Only matches events of the given levels.
+         *
+         * @param levels The levels to include.
+         * @return This builder.
+         */
+        public Builder withLevels(LogLevel... levels) {
+            int mask = 0;
+            for (LogLevel level : levels) {
+                mask |= 1 << level.ordinal();
+            }
+            this.levelMask = mask;
+            return this;
+        }
+
+        /**
+         * Only matches events of a level or more severe.
+         *
+         * @param level The least severe level to include.
+         * @return This builder.
+         */
+        public Builder withMinLevel(LogLevel level) {
+            int mask = 0;
+            for (LogLevel candidate : LEVELS) {
+                if (candidate.getLevel() >= level.getLevel()) {
+                    mask |= 1 << candidate.ordinal();
+                }
+            }
+            this.levelMask = mask;
+            return this;
+        }
+
+        /**
+         * Only matches events of one logger.
+         *
+         * @param loggerName The exact logger name, or null to match every logger.
+         * @return This builder.
+         */
+        public Builder withLogger(String loggerName) {
+            this.loggerName = loggerName;
+            return this;
+        }
+
+        /**
+         * Sets the date pattern of {@link SimpleFormatter} lines, if the log was not written
+         * with {@link SimpleFormatter#DEFAULT_DATE_FORMAT}.
+         *
+         * @param datePattern A {@link SimpleDateFormat} pattern.
+         * @return This builder.
+         */
+        public Builder withDatePattern(String datePattern) {
+            this.datePattern = datePattern;
+            return this;
+        }
+
+        /**
+         * Builds the query.
+         *
+         * @return The query.
+         */
+        public LogQuery build() {
+            return new LogQuery(this);
+        }
+    }
+}
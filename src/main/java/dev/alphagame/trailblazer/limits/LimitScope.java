@@ -0,0 +1,31 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.limits;
+
+/**
+ * What a {@link LogLimiter} keeps separate budgets for.
+ */
+public enum LimitScope {
+    /**
+     * One budget shared by every event.
+     */
+    GLOBAL,
+
+    /**
+     * One budget per logger name.
+     */
+    LOGGER,
+
+    /**
+     * One budget per level.
+     */
+    LEVEL,
+
+    /**
+     * One budget per message template, so that one noisy call site does not silence the others.
+     */
+    TEMPLATE
+}
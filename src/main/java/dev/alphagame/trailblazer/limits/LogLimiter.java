@@ -0,0 +1,368 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.limits;
+
+import dev.alphagame.trailblazer.LogLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Drops events before they are formatted when they come faster than a rate limit, or keeps
+ * only a sample of them.
+ * <p>
+ * The rate limit is a token bucket kept as a single timestamp, the time at which the bucket
+ * would be full again (the generic cell rate algorithm). Letting an event through moves
+ * that time forward with one compare-and-set; dropping an event only reads it and adds to a
+ * striped counter, so a storm of suppressed events does not contend. Sampling keeps every
+ * Nth event with an atomic counter, or each event with a probability using a thread-local
+ * random number.
+ * <p>
+ * Budgets are kept per {@link LimitScope}. The number of suppressed events is reported
+ * periodically for each budget that dropped any, through the reporter, which
+ * {@link dev.alphagame.trailblazer.config.LoggerConfigurationBuilder#withLimiter(LogLimiter)}
+ * points at the configuration's formatter.
+ */
+public final class LogLimiter {
+    private static final int MAX_KEYS = 10000;
+    private static final int MAX_REPORTED_KEYS = 20;
+
+    private static final ScheduledExecutorService reporterThread = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "trailblazer-limit-reporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LimitScope scope;
+    private final int maxLevel;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long sampleEvery;
+    private final double sampleProbability;
+    private final long reportIntervalMillis;
+    private final Budget global = new Budget("all events");
+    private final Budget[] levels = new Budget[LogLevel.values().length];
+    private final Map<String, Budget> keyed = new ConcurrentHashMap<>();
+    private final Budget overflow = new Budget("other " + MAX_KEYS + "+ keys");
+    private final ScheduledFuture<?> reportTask;
+    private volatile Consumer<String> reporter;
+
+    private LogLimiter(Builder builder) {
+        this.scope = builder.scope;
+        this.maxLevel = builder.maxLevel.getLevel();
+        this.intervalNanos = builder.permitsPerSecond > 0 ? (long) (1e9 / builder.permitsPerSecond) : 0;
+        this.burstNanos = intervalNanos * Math.max(1, builder.burst);
+        this.sampleEvery = builder.sampleEvery;
+        this.sampleProbability = builder.sampleProbability;
+        this.reportIntervalMillis = builder.reportIntervalMillis;
+        this.reporter = builder.reporter;
+        for (LogLevel level : LogLevel.values()) {
+            levels[level.ordinal()] = new Budget("level " + level);
+        }
+        this.reportTask = reportIntervalMillis > 0
+                ? reporterThread.scheduleWithFixedDelay(this::report, reportIntervalMillis, reportIntervalMillis,
+                        TimeUnit.MILLISECONDS)
+                : null;
+    }
+
+    /**
+     * Starts building a limiter.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Decides whether an event may be logged. Called before anything is formatted.
+     *
+     * @param level      The level of the event.
+     * @param loggerName The name of the logger.
+     * @param message    The message template, before arguments are substituted.
+     * @return true to log the event, false to drop it.
+     */
+    public boolean allow(LogLevel level, String loggerName, String message) {
+        if (level.getLevel() > maxLevel) {
+            return true;
+        }
+        Budget budget = budgetFor(level, loggerName, message);
+        if (budget.allow(this)) {
+            return true;
+        }
+        budget.suppressed.increment();
+        return false;
+    }
+
+    /**
+     * Sets where suppressed counts are reported.
+     *
+     * @param reporter Receives one line per budget that dropped events, or null to print to standard error.
+     */
+    public void setReporter(Consumer<String> reporter) {
+        this.reporter = reporter;
+    }
+
+    /**
+     * Gets where suppressed counts are reported.
+     *
+     * @return The reporter, or null if they are printed to standard error.
+     */
+    public Consumer<String> getReporter() {
+        return reporter;
+    }
+
+    /**
+     * Gets the number of events dropped since the last report, keyed by budget.
+     *
+     * @return A new map of the counts that are not zero.
+     */
+    public Map<String, Long> getSuppressedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Budget budget : budgets()) {
+            long count = budget.suppressed.sum();
+            if (count > 0) {
+                counts.put(budget.name, count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Reports what is left to report and stops the periodic reports.
+     */
+    public void close() {
+        if (reportTask != null) {
+            reportTask.cancel(false);
+        }
+        report();
+    }
+
+    private Budget budgetFor(LogLevel level, String loggerName, String message) {
+        switch (scope) {
+            case LEVEL:
+                return levels[level.ordinal()];
+            case LOGGER:
+                return keyed(loggerName, "logger ");
+            case TEMPLATE:
+                return keyed(message, "message ");
+            default:
+                return global;
+        }
+    }
+
+    private Budget keyed(String key, String kind) {
+        Budget budget = keyed.get(key);
+        if (budget != null) {
+            return budget;
+        }
+        if (keyed.size() >= MAX_KEYS) {
+            // Messages built by concatenation would otherwise grow the map forever
+            return overflow;
+        }
+        return keyed.computeIfAbsent(key, k -> new Budget(kind + "\"" + k + "\""));
+    }
+
+    private List<Budget> budgets() {
+        List<Budget> budgets = new ArrayList<>(keyed.values());
+        budgets.add(global);
+        budgets.add(overflow);
+        for (Budget budget : levels) {
+            budgets.add(budget);
+        }
+        return budgets;
+    }
+
+    private void report() {
+        List<String> lines = new ArrayList<>();
+        int more = 0;
+        for (Budget budget : budgets()) {
+            long count = budget.suppressed.sumThenReset();
+            if (count == 0) {
+                continue;
+            }
+            if (lines.size() < MAX_REPORTED_KEYS) {
+                lines.add("Suppressed " + count + " events for " + budget.name + " in the last "
+                        + reportIntervalMillis + " ms");
+            } else {
+                more++;
+            }
+        }
+        if (more > 0) {
+            lines.add("Suppressed events for " + more + " more keys");
+        }
+        Consumer<String> reporter = this.reporter;
+        for (String line : lines) {
+            try {
+                if (reporter != null) {
+                    reporter.accept(line);
+                } else {
+                    System.err.println("Trailblazer: " + line);
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Trailblazer: failed to report suppressed events: " + e);
+            }
+        }
+    }
+
+    /**
+     * The rate limit and sampling state of one scope key.
+     */
+    private static final class Budget {
+        final String name;
+        final AtomicLong fullAtNanos = new AtomicLong(Long.MIN_VALUE);
+        final AtomicLong seen = new AtomicLong();
+        final LongAdder suppressed = new LongAdder();
+
+        Budget(String name) {
+            this.name = name;
+        }
+
+        boolean allow(LogLimiter limiter) {
+            if (limiter.sampleEvery > 1 && seen.getAndIncrement() % limiter.sampleEvery != 0) {
+                return false;
+            }
+            if (limiter.sampleProbability < 1
+                    && ThreadLocalRandom.current().nextDouble() >= limiter.sampleProbability) {
+                return false;
+            }
+            return limiter.intervalNanos == 0 || takeToken(limiter.intervalNanos, limiter.burstNanos);
+        }
+
+        private boolean takeToken(long intervalNanos, long burstNanos) {
+            long now = System.nanoTime();
+            while (true) {
+                long fullAt = fullAtNanos.get();
+                // The bucket is never fuller than its burst size
+                long start = fullAt == Long.MIN_VALUE || fullAt - now < 0 ? now : fullAt;
+                long next = start + intervalNanos;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (fullAtNanos.compareAndSet(fullAt, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link LogLimiter}.
+     */
+    public static final class Builder {
+        private LimitScope scope = LimitScope.GLOBAL;
+        private LogLevel maxLevel = LogLevel.FATAL;
+        private double permitsPerSecond;
+        private int burst = 1;
+        private long sampleEvery = 1;
+        private double sampleProbability = 1;
+        private long reportIntervalMillis = TimeUnit.SECONDS.toMillis(10);
+        private Consumer<String> reporter;
+
+        private Builder() {
+        }
+
+        /**
+         * Lets through at most this many events per second, after an initial burst.
+         *
+         * @param permitsPerSecond The sustained rate.
+         * @param burst            The number of events that may pass at once after a quiet period.
+         * @return This builder instance.
+         */
+        public Builder withRateLimit(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Keeps only every Nth event, starting with the first.
+         *
+         * @param n The sampling interval.
+         * @return This builder instance.
+         */
+        public Builder withSampleEvery(long n) {
+            this.sampleEvery = Math.max(1, n);
+            return this;
+        }
+
+        /**
+         * Keeps each event with a probability.
+         *
+         * @param probability The probability from 0 to 1.
+         * @return This builder instance.
+         */
+        public Builder withSampleProbability(double probability) {
+            this.sampleProbability = Math.max(0, Math.min(1, probability));
+            return this;
+        }
+
+        /**
+         * Sets what separate budgets are kept for.
+         *
+         * @param scope The scope, {@link LimitScope#GLOBAL} by default.
+         * @return This builder instance.
+         */
+        public Builder withScope(LimitScope scope) {
+            this.scope = scope;
+            return this;
+        }
+
+        /**
+         * Only limits events up to a level, so that more severe events always get through.
+         *
+         * @param maxLevel The most severe level that is limited.
+         * @return This builder instance.
+         */
+        public Builder withMaxLevel(LogLevel maxLevel) {
+            this.maxLevel = maxLevel;
+            return this;
+        }
+
+        /**
+         * Sets how often suppressed counts are reported.
+         *
+         * @param interval The interval, or 0 to never report.
+         * @param unit     The unit of the interval.
+         * @return This builder instance.
+         */
+        public Builder withReportInterval(long interval, TimeUnit unit) {
+            this.reportIntervalMillis = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * Sets where suppressed counts are reported.
+         *
+         * @param reporter Receives one line per budget that dropped events.
+         * @return This builder instance.
+         */
+        public Builder withReporter(Consumer<String> reporter) {
+            this.reporter = reporter;
+            return this;
+        }
+
+        /**
+         * Creates the limiter.
+         *
+         * @return The limiter.
+         */
+        public LogLimiter build() {
+            return new LogLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.metrics;
+
+/**
+ * An immutable copy of a {@link LatencyHistogram}. Reported values are the upper bound of
+ * the bucket they fall into, so they are at most about three percent too high.
+ */
+public final class HistogramSnapshot {
+    private final long[] counts;
+    private final long count;
+
+    HistogramSnapshot(long[] counts) {
+        this.counts = counts;
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        this.count = total;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the value below which a percentage of the recorded values fall.
+     *
+     * @param percentile The percentile, from 0 to 100, such as 99.9.
+     * @return The value in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return LatencyHistogram.highestValueOf(i);
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return The value in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] != 0) {
+                return LatencyHistogram.highestValueOf(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the average of the recorded values.
+     *
+     * @return The mean in nanoseconds, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        if (count == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                long low = i == 0 ? 0 : LatencyHistogram.highestValueOf(i - 1) + 1;
+                sum += counts[i] * (low + LatencyHistogram.highestValueOf(i)) / 2.0;
+            }
+        }
+        return sum / count;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", p50=" + getPercentile(50) + "ns, p99=" + getPercentile(99)
+                + "ns, p99.9=" + getPercentile(99.9) + "ns, max=" + getMax() + "ns";
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A concurrent histogram of durations in nanoseconds with log-linear buckets, in the style of
+ * HdrHistogram: every power of two is split into 32 buckets, so recorded values keep about
+ * three percent precision from a nanosecond up to hours.
+ * <p>
+ * Counts are striped over several arrays chosen by thread, so threads recording at the same
+ * time rarely touch the same cache line. Recording never allocates.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int HALF_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = HALF_BUCKETS * 2;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (63 - SUB_BUCKET_BITS) * HALF_BUCKETS;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+
+    /**
+     * Creates an empty histogram with one stripe per processor, up to eight.
+     */
+    public LatencyHistogram() {
+        int stripeCount = Integer.highestOneBit(Math.min(8, Runtime.getRuntime().availableProcessors()));
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(BUCKET_COUNT);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos The duration in nanoseconds. Negative values are recorded as zero.
+     */
+    public void record(long nanos) {
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        stripes[stripe].incrementAndGet(bucketOf(Math.max(0, nanos)));
+    }
+
+    /**
+     * Sums the stripes into an immutable snapshot. Values recorded while the snapshot is
+     * taken may or may not be included.
+     *
+     * @return The snapshot.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += stripe.get(i);
+            }
+        }
+        return new HistogramSnapshot(counts);
+    }
+
+    /**
+     * Gets the bucket a value falls into.
+     */
+    static int bucketOf(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int top = (int) (value >>> shift);
+        return LINEAR_BUCKETS + (shift - 1) * HALF_BUCKETS + (top - HALF_BUCKETS);
+    }
+
+    /**
+     * Gets the highest value that falls into a bucket.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        int offset = bucket - LINEAR_BUCKETS;
+        int shift = offset / HALF_BUCKETS + 1;
+        long top = offset % HALF_BUCKETS + HALF_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+}
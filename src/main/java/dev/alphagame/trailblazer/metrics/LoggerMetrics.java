@@ -0,0 +1,263 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.metrics;
+
+import dev.alphagame.trailblazer.LogLevel;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counters for the events of one logger, plus the process-wide counters and timings.
+ * <p>
+ * Counting is off by default and turned on with {@link #setEnabled(boolean)} or the
+ * {@code trailblazer.metrics} system property; timing the formatters and the lock they are
+ * called under additionally needs {@link #setTimingEnabled(boolean)} or
+ * {@code trailblazer.metrics.timing}, since it reads the clock twice per event. While off,
+ * recording costs one volatile read. Counters are {@link LongAdder}s and the timings are
+ * striped histograms, so recording from many threads does not contend.
+ */
+public final class LoggerMetrics {
+    /**
+     * The name the metrics MBean is registered under.
+     */
+    public static final String OBJECT_NAME = "dev.alphagame.trailblazer:type=LoggingMetrics";
+
+    private static final LogLevel[] LEVELS = LogLevel.values();
+    private static final LoggerMetrics global = new LoggerMetrics(null);
+    private static final LongAdder bytesWritten = new LongAdder();
+    private static final LongAdder writeErrors = new LongAdder();
+    private static final LatencyHistogram formatTime = new LatencyHistogram();
+    private static final LatencyHistogram lockWaitTime = new LatencyHistogram();
+
+    private static volatile boolean enabled;
+    private static volatile boolean timingEnabled;
+
+    static {
+        setEnabled(Boolean.getBoolean("trailblazer.metrics"));
+        setTimingEnabled(Boolean.getBoolean("trailblazer.metrics.timing"));
+    }
+
+    private final LoggerMetrics parent;
+    private final LongAdder[] events = newCounters();
+    private final LongAdder[] filtered = newCounters();
+    private final LongAdder[] rejected = newCounters();
+    private final LongAdder[] rateLimited = newCounters();
+
+    private LoggerMetrics(LoggerMetrics parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Creates the counters for one logger. Everything recorded on them is also counted globally.
+     *
+     * @return The new counters.
+     */
+    public static LoggerMetrics forLogger() {
+        return new LoggerMetrics(global);
+    }
+
+    /**
+     * Gets the process-wide counters.
+     *
+     * @return The global metrics.
+     */
+    public static LoggerMetrics global() {
+        return global;
+    }
+
+    /**
+     * Checks whether events are counted.
+     *
+     * @return true if metrics are being recorded.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns counting on or off. Turning it on also registers the MBean.
+     *
+     * @param enabled Whether to record metrics.
+     */
+    public static void setEnabled(boolean enabled) {
+        LoggerMetrics.enabled = enabled;
+        if (enabled) {
+            registerMBean();
+        }
+    }
+
+    /**
+     * Checks whether formatting and lock waits are timed.
+     *
+     * @return true if metrics are enabled and timing is on.
+     */
+    public static boolean isTimingEnabled() {
+        return timingEnabled && enabled;
+    }
+
+    /**
+     * Turns timing of formatting and lock waits on or off. It only takes effect while
+     * metrics are enabled.
+     *
+     * @param timingEnabled Whether to time formatting.
+     */
+    public static void setTimingEnabled(boolean timingEnabled) {
+        LoggerMetrics.timingEnabled = timingEnabled;
+    }
+
+    /**
+     * Registers the {@link LoggingMetricsMXBean} with the platform MBean server, unless it is
+     * already registered.
+     *
+     * @return true if the MBean is registered.
+     */
+    public static synchronized boolean registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new LoggingMetrics(), name);
+            }
+            return true;
+        } catch (JMException | SecurityException e) {
+            System.err.println("Trailblazer: failed to register the metrics MBean: " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Counts an event that was logged.
+     *
+     * @param level The level of the event.
+     */
+    public void recordEvent(LogLevel level) {
+        events[level.ordinal()].increment();
+        if (parent != null) {
+            parent.events[level.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Counts an event that was dropped because its level was disabled.
+     *
+     * @param level The level of the event.
+     */
+    public void recordFiltered(LogLevel level) {
+        filtered[level.ordinal()].increment();
+        if (parent != null) {
+            parent.filtered[level.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Counts an event that was dropped by a filter.
+     *
+     * @param level The level of the event.
+     */
+    public void recordRejected(LogLevel level) {
+        rejected[level.ordinal()].increment();
+        if (parent != null) {
+            parent.rejected[level.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Counts an event that was dropped by a rate limiter.
+     *
+     * @param level The level of the event.
+     */
+    public void recordRateLimited(LogLevel level) {
+        rateLimited[level.ordinal()].increment();
+        if (parent != null) {
+            parent.rateLimited[level.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Counts bytes written by a formatter or appender, if metrics are enabled.
+     *
+     * @param bytes The number of bytes.
+     */
+    public static void recordBytesWritten(long bytes) {
+        if (enabled) {
+            bytesWritten.add(bytes);
+        }
+    }
+
+    /**
+     * Counts a failed write, if metrics are enabled.
+     */
+    public static void recordWriteError() {
+        if (enabled) {
+            writeErrors.increment();
+        }
+    }
+
+    /**
+     * Records how long formatting an event took.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public static void recordFormatNanos(long nanos) {
+        formatTime.record(nanos);
+    }
+
+    /**
+     * Records how long a thread waited for the lock of a formatter.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public static void recordLockWaitNanos(long nanos) {
+        lockWaitTime.record(nanos);
+    }
+
+    /**
+     * Takes a snapshot of these counters. The byte, error and timing figures are always the
+     * global ones.
+     *
+     * @return The snapshot.
+     */
+    public MetricsSnapshot snapshot() {
+        return snapshot(new LoggerMetrics[] { this });
+    }
+
+    /**
+     * Takes a snapshot of the sum of several sets of counters, for example all loggers of a package.
+     * The byte, error and timing figures are always the global ones.
+     *
+     * @param metrics The counters to add up.
+     * @return The snapshot.
+     */
+    public static MetricsSnapshot snapshot(LoggerMetrics... metrics) {
+        long[] eventCounts = new long[LEVELS.length];
+        long[] filteredCounts = new long[LEVELS.length];
+        long[] rejectedCounts = new long[LEVELS.length];
+        long[] rateLimitedCounts = new long[LEVELS.length];
+        for (LoggerMetrics m : metrics) {
+            for (int i = 0; i < LEVELS.length; i++) {
+                eventCounts[i] += m.events[i].sum();
+                filteredCounts[i] += m.filtered[i].sum();
+                rejectedCounts[i] += m.rejected[i].sum();
+                rateLimitedCounts[i] += m.rateLimited[i].sum();
+            }
+        }
+        return new MetricsSnapshot(eventCounts, filteredCounts, rejectedCounts, rateLimitedCounts,
+                bytesWritten.sum(), writeErrors.sum(), formatTime.snapshot(), lockWaitTime.snapshot());
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[LEVELS.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+}
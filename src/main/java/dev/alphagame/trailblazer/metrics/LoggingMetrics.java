@@ -0,0 +1,138 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.metrics;
+
+import dev.alphagame.trailblazer.LogLevel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The MBean exposing {@link LoggerMetrics#global()}. Every attribute read takes a fresh snapshot.
+ */
+final class LoggingMetrics implements LoggingMetricsMXBean {
+    private static MetricsSnapshot snapshot() {
+        return LoggerMetrics.global().snapshot();
+    }
+
+    private static Map<String, Long> byName(Map<LogLevel, Long> counts) {
+        Map<String, Long> named = new LinkedHashMap<>();
+        for (Map.Entry<LogLevel, Long> entry : counts.entrySet()) {
+            named.put(entry.getKey().name(), entry.getValue());
+        }
+        return named;
+    }
+
+    @Override
+    public Map<String, Long> getEventCounts() {
+        return byName(snapshot().getEventCounts());
+    }
+
+    @Override
+    public Map<String, Long> getFilteredCounts() {
+        return byName(snapshot().getFilteredCounts());
+    }
+
+    @Override
+    public Map<String, Long> getRejectedCounts() {
+        return byName(snapshot().getRejectedCounts());
+    }
+
+    @Override
+    public Map<String, Long> getRateLimitedCounts() {
+        return byName(snapshot().getRateLimitedCounts());
+    }
+
+    @Override
+    public long getTotalEvents() {
+        return snapshot().getTotalEvents();
+    }
+
+    @Override
+    public long getTotalFiltered() {
+        return snapshot().getTotalFiltered();
+    }
+
+    @Override
+    public long getTotalRejected() {
+        return snapshot().getTotalRejected();
+    }
+
+    @Override
+    public long getTotalRateLimited() {
+        return snapshot().getTotalRateLimited();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return snapshot().getBytesWritten();
+    }
+
+    @Override
+    public long getWriteErrors() {
+        return snapshot().getWriteErrors();
+    }
+
+    @Override
+    public long getFormatTimeP50() {
+        return snapshot().getFormatTime().getPercentile(50);
+    }
+
+    @Override
+    public long getFormatTimeP99() {
+        return snapshot().getFormatTime().getPercentile(99);
+    }
+
+    @Override
+    public long getFormatTimeP999() {
+        return snapshot().getFormatTime().getPercentile(99.9);
+    }
+
+    @Override
+    public long getFormatTimeMax() {
+        return snapshot().getFormatTime().getMax();
+    }
+
+    @Override
+    public long getLockWaitP50() {
+        return snapshot().getLockWaitTime().getPercentile(50);
+    }
+
+    @Override
+    public long getLockWaitP99() {
+        return snapshot().getLockWaitTime().getPercentile(99);
+    }
+
+    @Override
+    public long getLockWaitP999() {
+        return snapshot().getLockWaitTime().getPercentile(99.9);
+    }
+
+    @Override
+    public long getLockWaitMax() {
+        return snapshot().getLockWaitTime().getMax();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return LoggerMetrics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        LoggerMetrics.setEnabled(enabled);
+    }
+
+    @Override
+    public boolean isTimingEnabled() {
+        return LoggerMetrics.isTimingEnabled();
+    }
+
+    @Override
+    public void setTimingEnabled(boolean timingEnabled) {
+        LoggerMetrics.setTimingEnabled(timingEnabled);
+    }
+}
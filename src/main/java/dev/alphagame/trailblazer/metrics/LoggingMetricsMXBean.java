@@ -0,0 +1,124 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of the process-wide logging metrics, registered as
+ * {@value LoggerMetrics#OBJECT_NAME}. Times are in nanoseconds.
+ */
+public interface LoggingMetricsMXBean {
+    /**
+     * @return The number of events logged, keyed by level name.
+     */
+    Map<String, Long> getEventCounts();
+
+    /**
+     * @return The number of events dropped by the level check, keyed by level name.
+     */
+    Map<String, Long> getFilteredCounts();
+
+    /**
+     * @return The number of events dropped by a filter, keyed by level name.
+     */
+    Map<String, Long> getRejectedCounts();
+
+    /**
+     * @return The number of events dropped by a rate limiter, keyed by level name.
+     */
+    Map<String, Long> getRateLimitedCounts();
+
+    /**
+     * @return The number of events logged at any level.
+     */
+    long getTotalEvents();
+
+    /**
+     * @return The number of events dropped by the level check, at any level.
+     */
+    long getTotalFiltered();
+
+    /**
+     * @return The number of events dropped by a filter, at any level.
+     */
+    long getTotalRejected();
+
+    /**
+     * @return The number of events dropped by a rate limiter, at any level.
+     */
+    long getTotalRateLimited();
+
+    /**
+     * @return The number of bytes written by all formatters and appenders.
+     */
+    long getBytesWritten();
+
+    /**
+     * @return The number of failed writes.
+     */
+    long getWriteErrors();
+
+    /**
+     * @return The median time spent formatting an event.
+     */
+    long getFormatTimeP50();
+
+    /**
+     * @return The 99th percentile of the time spent formatting an event.
+     */
+    long getFormatTimeP99();
+
+    /**
+     * @return The 99.9th percentile of the time spent formatting an event.
+     */
+    long getFormatTimeP999();
+
+    /**
+     * @return The longest time spent formatting an event.
+     */
+    long getFormatTimeMax();
+
+    /**
+     * @return The median time spent waiting for the lock of a formatter.
+     */
+    long getLockWaitP50();
+
+    /**
+     * @return The 99th percentile of the time spent waiting for the lock of a formatter.
+     */
+    long getLockWaitP99();
+
+    /**
+     * @return The 99.9th percentile of the time spent waiting for the lock of a formatter.
+     */
+    long getLockWaitP999();
+
+    /**
+     * @return The longest time spent waiting for the lock of a formatter.
+     */
+    long getLockWaitMax();
+
+    /**
+     * @return Whether metrics are recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * @param enabled Whether to record metrics.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return Whether formatting and lock waits are timed.
+     */
+    boolean isTimingEnabled();
+
+    /**
+     * @param timingEnabled Whether to time formatting and lock waits.
+     */
+    void setTimingEnabled(boolean timingEnabled);
+}
@@ -0,0 +1,209 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.metrics;
+
+import dev.alphagame.trailblazer.LogLevel;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * An immutable copy of logging metrics at one point in time.
+ */
+public final class MetricsSnapshot {
+    private final long[] events;
+    private final long[] filtered;
+    private final long[] rejected;
+    private final long[] rateLimited;
+    private final long bytesWritten;
+    private final long writeErrors;
+    private final HistogramSnapshot formatTime;
+    private final HistogramSnapshot lockWaitTime;
+
+    MetricsSnapshot(long[] events, long[] filtered, long[] rejected, long[] rateLimited, long bytesWritten,
+            long writeErrors, HistogramSnapshot formatTime, HistogramSnapshot lockWaitTime) {
+        this.events = events;
+        this.filtered = filtered;
+        this.rejected = rejected;
+        this.rateLimited = rateLimited;
+        this.bytesWritten = bytesWritten;
+        this.writeErrors = writeErrors;
+        this.formatTime = formatTime;
+        this.lockWaitTime = lockWaitTime;
+    }
+
+    /**
+     * Gets the number of events logged at a level.
+     *
+     * @param level The level.
+     * @return The event count.
+     */
+    public long getEventCount(LogLevel level) {
+        return events[level.ordinal()];
+    }
+
+    /**
+     * Gets the number of events dropped because a level was disabled.
+     *
+     * @param level The level.
+     * @return The filtered event count.
+     */
+    public long getFilteredCount(LogLevel level) {
+        return filtered[level.ordinal()];
+    }
+
+    /**
+     * Gets the number of events at a level dropped by a filter.
+     *
+     * @param level The level.
+     * @return The rejected event count.
+     */
+    public long getRejectedCount(LogLevel level) {
+        return rejected[level.ordinal()];
+    }
+
+    /**
+     * Gets the number of events at a level dropped by a rate limiter.
+     *
+     * @param level The level.
+     * @return The rate-limited event count.
+     */
+    public long getRateLimitedCount(LogLevel level) {
+        return rateLimited[level.ordinal()];
+    }
+
+    /**
+     * Gets the number of events logged at any level.
+     *
+     * @return The event count.
+     */
+    public long getTotalEvents() {
+        return sum(events);
+    }
+
+    /**
+     * Gets the number of events dropped because their level was disabled, at any level.
+     *
+     * @return The filtered event count.
+     */
+    public long getTotalFiltered() {
+        return sum(filtered);
+    }
+
+    /**
+     * Gets the number of events dropped by a filter, at any level.
+     *
+     * @return The rejected event count.
+     */
+    public long getTotalRejected() {
+        return sum(rejected);
+    }
+
+    /**
+     * Gets the number of events dropped by a rate limiter, at any level.
+     *
+     * @return The rate-limited event count.
+     */
+    public long getTotalRateLimited() {
+        return sum(rateLimited);
+    }
+
+    /**
+     * Gets the event counts keyed by level.
+     *
+     * @return A new map of counts.
+     */
+    public Map<LogLevel, Long> getEventCounts() {
+        return toMap(events);
+    }
+
+    /**
+     * Gets the filtered event counts keyed by level.
+     *
+     * @return A new map of counts.
+     */
+    public Map<LogLevel, Long> getFilteredCounts() {
+        return toMap(filtered);
+    }
+
+    /**
+     * Gets the counts of events dropped by a filter, keyed by level.
+     *
+     * @return A new map of counts.
+     */
+    public Map<LogLevel, Long> getRejectedCounts() {
+        return toMap(rejected);
+    }
+
+    /**
+     * Gets the counts of events dropped by a rate limiter, keyed by level.
+     *
+     * @return A new map of counts.
+     */
+    public Map<LogLevel, Long> getRateLimitedCounts() {
+        return toMap(rateLimited);
+    }
+
+    /**
+     * Gets the number of bytes written by all formatters and appenders.
+     *
+     * @return The byte count.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Gets the number of writes that failed.
+     *
+     * @return The error count.
+     */
+    public long getWriteErrors() {
+        return writeErrors;
+    }
+
+    /**
+     * Gets the distribution of the time spent formatting an event.
+     *
+     * @return The histogram, empty unless timing is enabled.
+     */
+    public HistogramSnapshot getFormatTime() {
+        return formatTime;
+    }
+
+    /**
+     * Gets the distribution of the time spent waiting for the lock of a formatter.
+     *
+     * @return The histogram, empty unless timing is enabled.
+     */
+    public HistogramSnapshot getLockWaitTime() {
+        return lockWaitTime;
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    private static Map<LogLevel, Long> toMap(long[] counts) {
+        Map<LogLevel, Long> map = new EnumMap<>(LogLevel.class);
+        for (LogLevel level : LogLevel.values()) {
+            map.put(level, counts[level.ordinal()]);
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "events=" + getEventCounts() + ", filtered=" + getFilteredCounts() + ", rejected="
+                + getRejectedCounts() + ", rateLimited=" + getRateLimitedCounts() + ", bytesWritten="
+                + bytesWritten + ", writeErrors=" + writeErrors + ", formatTime=[" + formatTime
+                + "], lockWaitTime=[" + lockWaitTime + "]";
+    }
+}
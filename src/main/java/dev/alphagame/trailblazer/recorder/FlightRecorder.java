@@ -0,0 +1,534 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.recorder;
+
+import dev.alphagame.trailblazer.LogEvent;
+import dev.alphagame.trailblazer.LogLevel;
+import dev.alphagame.trailblazer.formatters.AbstractFormatter;
+import dev.alphagame.trailblazer.utils.ShutdownHooks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the most recent events that were below the level of their logger in a fixed-size
+ * circular buffer outside the heap, so that they can be written out after something went wrong.
+ * <p>
+ * Recording an event copies its timestamp, level, logger name, message template and arguments
+ * into a direct {@link ByteBuffer} without formatting anything. Strings are stored as UTF-16
+ * code units and primitive arguments in binary, so recording allocates nothing unless an
+ * argument is an arbitrary object, which is stored as its {@code String.valueOf} rendering.
+ * When the buffer is full the oldest events are overwritten.
+ * <p>
+ * A configuration with a recorder lets through events down to the level of the recorder.
+ * Loggers dump the recorder after a FATAL event or an error logged with a throwable, and
+ * {@link dev.alphagame.trailblazer.TBLogger#dumpFlightRecorder()} dumps it on demand. A dump
+ * writes the recorded events to the output, oldest first, between two marker lines from the
+ * {@value #LOGGER_NAME} logger, and empties the buffer.
+ */
+public final class FlightRecorder {
+    /**
+     * The name used for the lines marking the start and end of a dump.
+     */
+    public static final String LOGGER_NAME = "trailblazer.recorder";
+
+    /**
+     * The default buffer size in bytes.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+
+    private static final int HEADER_SIZE = 4;
+    private static final int PADDING = 0;
+    private static final int NULL_STRING = -1;
+
+    private static final byte ARG_NULL = 0;
+    private static final byte ARG_STRING = 1;
+    private static final byte ARG_LONG = 2;
+    private static final byte ARG_INT = 3;
+    private static final byte ARG_DOUBLE = 4;
+    private static final byte ARG_FLOAT = 5;
+    private static final byte ARG_TRUE = 6;
+    private static final byte ARG_FALSE = 7;
+    private static final byte ARG_CHAR = 8;
+
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final int maxStringLength;
+    private final LogLevel level;
+    private volatile AbstractFormatter output;
+    private final Runnable shutdownTask;
+    // Absolute positions of the next record to write and the oldest record kept
+    private long head;
+    private long tail;
+    private int recorded;
+    private long overwritten;
+
+    private FlightRecorder(Builder builder) {
+        this.capacity = builder.capacity;
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+        // A single string may use at most a quarter of the buffer
+        this.maxStringLength = capacity / 8;
+        this.level = builder.level;
+        this.output = builder.output;
+        if (builder.dumpOnShutdown) {
+            this.shutdownTask = this::dump;
+            ShutdownHooks.addProducer(shutdownTask);
+        } else {
+            this.shutdownTask = null;
+        }
+    }
+
+    /**
+     * Creates a builder for a flight recorder.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Records an event. Messages and string arguments longer than an eighth of the buffer are truncated,
+     * and an event that still doesn't fit in the buffer is not recorded.
+     *
+     * @param level             The log level.
+     * @param encodedLoggerName The logger name encoded as UTF-8.
+     * @param message           The message template, or null.
+     * @param args              The arguments of the message, or null.
+     */
+    public void record(LogLevel level, byte[] encodedLoggerName, String message, Object[] args) {
+        long timestamp = System.currentTimeMillis();
+        int argCount = args != null ? Math.min(args.length, 255) : 0;
+        int size = HEADER_SIZE + 8 + 1 + 2 + encodedLoggerName.length + stringSize(message) + 1;
+        for (int i = 0; i < argCount; i++) {
+            Object arg = args[i];
+            if (!isPrimitive(arg) && !(arg instanceof String)) {
+                // Render now so that later changes to a mutable object can't alter the record
+                args = renderArgs(args, argCount);
+                break;
+            }
+        }
+        for (int i = 0; i < argCount; i++) {
+            size += argSize(args[i]);
+        }
+        if (size > capacity) {
+            return;
+        }
+        synchronized (this) {
+            int position = reserve(size);
+            buffer.putInt(position, size);
+            position += HEADER_SIZE;
+            buffer.putLong(position, timestamp);
+            position += 8;
+            buffer.put(position++, (byte) level.ordinal());
+            buffer.putShort(position, (short) encodedLoggerName.length);
+            position += 2;
+            for (byte b : encodedLoggerName) {
+                buffer.put(position++, b);
+            }
+            position = putString(position, message);
+            buffer.put(position++, (byte) argCount);
+            for (int i = 0; i < argCount; i++) {
+                position = putArg(position, args[i]);
+            }
+            recorded++;
+        }
+    }
+
+    /**
+     * Writes all recorded events to the output and empties the buffer.
+     * Does nothing if the recorder has no output.
+     *
+     * @return The number of events written.
+     */
+    public int dump() {
+        AbstractFormatter formatter = output;
+        return formatter != null ? dumpTo(formatter, Integer.MAX_VALUE) : 0;
+    }
+
+    /**
+     * Writes recorded events to a formatter and empties the buffer.
+     *
+     * @param formatter The formatter to write the events with.
+     * @param maxEvents The number of most recent events to write; older ones are discarded.
+     * @return The number of events written.
+     */
+    public int dumpTo(AbstractFormatter formatter, int maxEvents) {
+        List<LogEvent> events;
+        long lost;
+        synchronized (this) {
+            events = drain(maxEvents);
+            lost = overwritten;
+            overwritten = 0;
+        }
+        if (events.isEmpty()) {
+            return 0;
+        }
+        synchronized (formatter) {
+            String start = "Dumping " + events.size() + " recorded events"
+                    + (lost > 0 ? ", " + lost + " older events were overwritten" : "");
+            formatter.formatLogMessage(LogLevel.INFO.name(), LOGGER_NAME, start);
+            for (LogEvent event : events) {
+                formatter.formatLogEvent(event);
+            }
+            formatter.formatLogMessage(LogLevel.INFO.name(), LOGGER_NAME, "End of recorded events");
+        }
+        return events.size();
+    }
+
+    /**
+     * Discards all recorded events.
+     */
+    public synchronized void clear() {
+        head = 0;
+        tail = 0;
+        recorded = 0;
+        overwritten = 0;
+    }
+
+    /**
+     * Gets the number of events currently held.
+     *
+     * @return The number of recorded events.
+     */
+    public synchronized int size() {
+        return recorded;
+    }
+
+    /**
+     * Gets the lowest level recorded.
+     *
+     * @return The level.
+     */
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the buffer size.
+     *
+     * @return The capacity in bytes.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets where dumps are written.
+     *
+     * @param output The formatter to write dumps with, or null to discard them.
+     */
+    public void setOutput(AbstractFormatter output) {
+        this.output = output;
+    }
+
+    /**
+     * Gets where dumps are written.
+     *
+     * @return The formatter, or null if none is set.
+     */
+    public AbstractFormatter getOutput() {
+        return output;
+    }
+
+    /**
+     * Stops dumping the recorder when the JVM exits.
+     */
+    public void close() {
+        if (shutdownTask != null) {
+            ShutdownHooks.remove(shutdownTask);
+        }
+    }
+
+    /**
+     * Makes room for a record and returns where it starts.
+     */
+    private int reserve(int size) {
+        int offset = (int) (head % capacity);
+        int toEnd = capacity - offset;
+        if (toEnd < size) {
+            // Records never wrap; skip the rest of the buffer
+            evict(toEnd);
+            if (toEnd >= HEADER_SIZE) {
+                buffer.putInt(offset, PADDING);
+            }
+            head += toEnd;
+            offset = 0;
+        }
+        evict(size);
+        head += size;
+        return offset;
+    }
+
+    private void evict(int size) {
+        while (head + size - tail > capacity) {
+            int offset = (int) (tail % capacity);
+            int toEnd = capacity - offset;
+            int length = toEnd >= HEADER_SIZE ? buffer.getInt(offset) : PADDING;
+            if (length == PADDING) {
+                tail += toEnd;
+            } else {
+                tail += length;
+                recorded--;
+                overwritten++;
+            }
+        }
+    }
+
+    private List<LogEvent> drain(int maxEvents) {
+        List<LogEvent> events = new ArrayList<>(Math.min(recorded, maxEvents));
+        int skip = Math.max(0, recorded - maxEvents);
+        while (tail < head) {
+            int offset = (int) (tail % capacity);
+            int toEnd = capacity - offset;
+            int length = toEnd >= HEADER_SIZE ? buffer.getInt(offset) : PADDING;
+            if (length == PADDING) {
+                tail += toEnd;
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else {
+                events.add(read(offset + HEADER_SIZE));
+            }
+            tail += length;
+        }
+        head = 0;
+        tail = 0;
+        recorded = 0;
+        return events;
+    }
+
+    private LogEvent read(int position) {
+        long timestamp = buffer.getLong(position);
+        position += 8;
+        LogLevel eventLevel = LEVELS[buffer.get(position++)];
+        byte[] encodedName = new byte[buffer.getShort(position) & 0xFFFF];
+        position += 2;
+        for (int i = 0; i < encodedName.length; i++) {
+            encodedName[i] = buffer.get(position++);
+        }
+        int messageLength = buffer.getInt(position);
+        String message = getString(position + 4, messageLength);
+        position += 4 + Math.max(messageLength, 0) * 2;
+        Object[] args = null;
+        int argCount = buffer.get(position++) & 0xFF;
+        if (argCount > 0) {
+            args = new Object[argCount];
+            for (int i = 0; i < argCount; i++) {
+                byte tag = buffer.get(position++);
+                switch (tag) {
+                    case ARG_STRING:
+                        int length = buffer.getInt(position);
+                        args[i] = getString(position + 4, length);
+                        position += 4 + length * 2;
+                        break;
+                    case ARG_LONG:
+                        args[i] = buffer.getLong(position);
+                        position += 8;
+                        break;
+                    case ARG_INT:
+                        args[i] = buffer.getInt(position);
+                        position += 4;
+                        break;
+                    case ARG_DOUBLE:
+                        args[i] = buffer.getDouble(position);
+                        position += 8;
+                        break;
+                    case ARG_FLOAT:
+                        args[i] = buffer.getFloat(position);
+                        position += 4;
+                        break;
+                    case ARG_TRUE:
+                        args[i] = Boolean.TRUE;
+                        break;
+                    case ARG_FALSE:
+                        args[i] = Boolean.FALSE;
+                        break;
+                    case ARG_CHAR:
+                        args[i] = buffer.getChar(position);
+                        position += 2;
+                        break;
+                    default:
+                        args[i] = null;
+                }
+            }
+        }
+        LogEvent event = new LogEvent();
+        event.set(eventLevel, new String(encodedName, StandardCharsets.UTF_8), encodedName, message, args, timestamp);
+        return event;
+    }
+
+    private String getString(int position, int length) {
+        if (length == NULL_STRING) {
+            return null;
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.getChar(position + i * 2);
+        }
+        return new String(chars);
+    }
+
+    private int putString(int position, String value) {
+        if (value == null) {
+            buffer.putInt(position, NULL_STRING);
+            return position + 4;
+        }
+        int length = Math.min(value.length(), maxStringLength);
+        buffer.putInt(position, length);
+        position += 4;
+        for (int i = 0; i < length; i++) {
+            buffer.putChar(position, value.charAt(i));
+            position += 2;
+        }
+        return position;
+    }
+
+    private int putArg(int position, Object arg) {
+        if (arg == null) {
+            buffer.put(position++, ARG_NULL);
+        } else if (arg instanceof String) {
+            buffer.put(position++, ARG_STRING);
+            position = putString(position, (String) arg);
+        } else if (arg instanceof Long) {
+            buffer.put(position++, ARG_LONG);
+            buffer.putLong(position, (Long) arg);
+            position += 8;
+        } else if (arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+            buffer.put(position++, ARG_INT);
+            buffer.putInt(position, ((Number) arg).intValue());
+            position += 4;
+        } else if (arg instanceof Double) {
+            buffer.put(position++, ARG_DOUBLE);
+            buffer.putDouble(position, (Double) arg);
+            position += 8;
+        } else if (arg instanceof Float) {
+            buffer.put(position++, ARG_FLOAT);
+            buffer.putFloat(position, (Float) arg);
+            position += 4;
+        } else if (arg instanceof Boolean) {
+            buffer.put(position++, (Boolean) arg ? ARG_TRUE : ARG_FALSE);
+        } else {
+            buffer.put(position++, ARG_CHAR);
+            buffer.putChar(position, (Character) arg);
+            position += 2;
+        }
+        return position;
+    }
+
+    private int stringSize(String value) {
+        return 4 + (value != null ? Math.min(value.length(), maxStringLength) * 2 : 0);
+    }
+
+    private int argSize(Object arg) {
+        if (arg == null || arg instanceof Boolean) {
+            return 1;
+        }
+        if (arg instanceof String) {
+            return 1 + stringSize((String) arg);
+        }
+        if (arg instanceof Long || arg instanceof Double) {
+            return 9;
+        }
+        if (arg instanceof Character) {
+            return 3;
+        }
+        return 5;
+    }
+
+    private static boolean isPrimitive(Object arg) {
+        return arg == null
+                || arg instanceof Long
+                || arg instanceof Integer
+                || arg instanceof Short
+                || arg instanceof Byte
+                || arg instanceof Double
+                || arg instanceof Float
+                || arg instanceof Boolean
+                || arg instanceof Character;
+    }
+
+    private static Object[] renderArgs(Object[] args, int argCount) {
+        Object[] rendered = new Object[argCount];
+        for (int i = 0; i < argCount; i++) {
+            Object arg = args[i];
+            rendered[i] = isPrimitive(arg) || arg instanceof String ? arg : String.valueOf(arg);
+        }
+        return rendered;
+    }
+
+    /**
+     * Collects the settings of a {@link FlightRecorder}.
+     */
+    public static final class Builder {
+        private int capacity = DEFAULT_CAPACITY;
+        private LogLevel level = LogLevel.DEBUG;
+        private AbstractFormatter output;
+        private boolean dumpOnShutdown;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the size of the buffer, which is allocated outside the heap when the recorder is built.
+         *
+         * @param bytes The size in bytes, at least 1024; {@value FlightRecorder#DEFAULT_CAPACITY} by default.
+         * @return This builder instance.
+         */
+        public Builder withCapacity(int bytes) {
+            this.capacity = Math.max(1024, bytes);
+            return this;
+        }
+
+        /**
+         * Sets the lowest level recorded.
+         *
+         * @param level The level, DEBUG by default.
+         * @return This builder instance.
+         */
+        public Builder withLevel(LogLevel level) {
+            this.level = level;
+            return this;
+        }
+
+        /**
+         * Sets where dumps are written. Configurations built with
+         * {@link dev.alphagame.trailblazer.config.LoggerConfigurationBuilder#withFlightRecorder(FlightRecorder)}
+         * use their formatter if none is set.
+         *
+         * @param output The formatter to write dumps with.
+         * @return This builder instance.
+         */
+        public Builder withOutput(AbstractFormatter output) {
+            this.output = output;
+            return this;
+        }
+
+        /**
+         * Dumps the recorded events when the JVM exits.
+         *
+         * @return This builder instance.
+         */
+        public Builder withDumpOnShutdown() {
+            this.dumpOnShutdown = true;
+            return this;
+        }
+
+        /**
+         * Allocates the buffer and creates the recorder.
+         *
+         * @return The recorder.
+         */
+        public FlightRecorder build() {
+            return new FlightRecorder(this);
+        }
+    }
+}
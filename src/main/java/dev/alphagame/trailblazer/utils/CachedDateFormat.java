@@ -0,0 +1,200 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.utils;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe, lock-free timestamp renderer for {@link SimpleDateFormat} patterns.
+ * <p>
+ * The parts of the pattern around a single {@code SSS} millisecond field are rendered once
+ * per second and cached; for each timestamp only the three millisecond digits are patched in.
+ * Patterns without a millisecond field are cached per second, and patterns with any other
+ * sub-second field are cached per millisecond. Instances are shared per pattern, see
+ * {@link #forPattern(String)}.
+ */
+public final class CachedDateFormat {
+    private static final ConcurrentMap<String, CachedDateFormat> instances = new ConcurrentHashMap<>();
+
+    private final String pattern;
+    private final String headPattern;
+    private final String tailPattern;
+    private final boolean patchMillis;
+    private final long granularity;
+    private final ThreadLocal<SimpleDateFormat[]> formats;
+    private volatile Rendered cached;
+
+    private CachedDateFormat(String pattern) {
+        this.pattern = pattern;
+        int millis = findMillisField(pattern);
+        this.patchMillis = millis >= 0;
+        this.headPattern = patchMillis ? pattern.substring(0, millis) : pattern;
+        this.tailPattern = patchMillis ? pattern.substring(millis + 3) : "";
+        this.granularity = patchMillis || !hasField(pattern, 'S') ? 1000 : 1;
+        // Fails early on invalid patterns, like SimpleDateFormat itself
+        SimpleDateFormat[] initial = newFormats();
+        this.formats = ThreadLocal.withInitial(this::newFormats);
+        this.formats.set(initial);
+    }
+
+    /**
+     * Gets the shared renderer for a pattern.
+     *
+     * @param pattern A {@link SimpleDateFormat} pattern.
+     * @return The renderer.
+     * @throws IllegalArgumentException If the pattern is invalid.
+     */
+    public static CachedDateFormat forPattern(String pattern) {
+        CachedDateFormat format = instances.get(pattern);
+        if (format == null) {
+            format = instances.computeIfAbsent(pattern, CachedDateFormat::new);
+        }
+        return format;
+    }
+
+    /**
+     * Gets the pattern of this renderer.
+     *
+     * @return The pattern.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Renders a timestamp as a string.
+     *
+     * @param epochMillis The time in milliseconds since the epoch.
+     * @return The rendered timestamp.
+     */
+    public String format(long epochMillis) {
+        Rendered rendered = render(epochMillis);
+        if (!patchMillis) {
+            return rendered.head;
+        }
+        StringBuilder sb = new StringBuilder(rendered.head.length() + 3 + rendered.tail.length());
+        format(epochMillis, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Renders a timestamp into a builder.
+     *
+     * @param epochMillis The time in milliseconds since the epoch.
+     * @param sb          The builder to append to.
+     */
+    public void format(long epochMillis, StringBuilder sb) {
+        Rendered rendered = render(epochMillis);
+        sb.append(rendered.head);
+        if (patchMillis) {
+            int millis = (int) Math.floorMod(epochMillis, 1000L);
+            sb.append((char) ('0' + millis / 100))
+                    .append((char) ('0' + millis / 10 % 10))
+                    .append((char) ('0' + millis % 10));
+            sb.append(rendered.tail);
+        }
+    }
+
+    /**
+     * Renders a timestamp into a byte buffer as UTF-8.
+     *
+     * @param epochMillis The time in milliseconds since the epoch.
+     * @param out         The buffer to append to.
+     */
+    public void format(long epochMillis, Utf8Buffer out) {
+        Rendered rendered = render(epochMillis);
+        out.append(rendered.encodedHead);
+        if (patchMillis) {
+            int millis = (int) Math.floorMod(epochMillis, 1000L);
+            out.append((byte) ('0' + millis / 100))
+                    .append((byte) ('0' + millis / 10 % 10))
+                    .append((byte) ('0' + millis % 10));
+            out.append(rendered.encodedTail);
+        }
+    }
+
+    private Rendered render(long epochMillis) {
+        long bucket = Math.floorDiv(epochMillis, granularity);
+        Rendered rendered = cached;
+        if (rendered == null || rendered.bucket != bucket) {
+            // Racing threads may render the same bucket twice, which is harmless
+            SimpleDateFormat[] formats = this.formats.get();
+            Date start = new Date(bucket * granularity);
+            String head = formats[0].format(start);
+            String tail = formats[1] != null ? formats[1].format(start) : "";
+            rendered = new Rendered(bucket, head, tail);
+            cached = rendered;
+        }
+        return rendered;
+    }
+
+    private SimpleDateFormat[] newFormats() {
+        return new SimpleDateFormat[] {
+                new SimpleDateFormat(headPattern),
+                tailPattern.isEmpty() ? null : new SimpleDateFormat(tailPattern)
+        };
+    }
+
+    /**
+     * Finds a single, unquoted {@code SSS} field when it is the only sub-second field.
+     */
+    private static int findMillisField(String pattern) {
+        int found = -1;
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == 'S') {
+                int end = i;
+                while (end < pattern.length() && pattern.charAt(end) == 'S') {
+                    end++;
+                }
+                if (found >= 0 || end - i != 3) {
+                    return -1;
+                }
+                found = i;
+                i = end - 1;
+            }
+        }
+        return found;
+    }
+
+    private static boolean hasField(String pattern, char field) {
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == field) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The text rendered for one second (or millisecond), never modified after creation.
+     */
+    private static final class Rendered {
+        final long bucket;
+        final String head;
+        final String tail;
+        final byte[] encodedHead;
+        final byte[] encodedTail;
+
+        Rendered(long bucket, String head, String tail) {
+            this.bucket = bucket;
+            this.head = head;
+            this.tail = tail;
+            this.encodedHead = Utf8Buffer.encode(head);
+            this.encodedTail = Utf8Buffer.encode(tail);
+        }
+    }
+}
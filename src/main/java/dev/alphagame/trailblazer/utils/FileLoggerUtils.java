@@ -8,16 +8,31 @@ package dev.alphagame.trailblazer.utils;
 import dev.alphagame.trailblazer.LogLevel;
 import dev.alphagame.trailblazer.LoggerConfiguration;
 import dev.alphagame.trailblazer.TBLogger;
+import dev.alphagame.trailblazer.appenders.BlockCompressedAppender;
+import dev.alphagame.trailblazer.appenders.BlockCompressedReader;
+import dev.alphagame.trailblazer.appenders.ConsoleAppender;
+import dev.alphagame.trailblazer.appenders.FileChannelAppender;
+import dev.alphagame.trailblazer.appenders.IndexedFileAppender;
+import dev.alphagame.trailblazer.appenders.MappedFileAppender;
+import dev.alphagame.trailblazer.appenders.RollingFileAppender;
+import dev.alphagame.trailblazer.appenders.StreamAppender;
+import dev.alphagame.trailblazer.formatters.AppendingFormatter;
+import dev.alphagame.trailblazer.formatters.BinaryFormatter;
+import dev.alphagame.trailblazer.formatters.BinaryLogDecoder;
 import dev.alphagame.trailblazer.formatters.SimpleFormatter;
 import dev.alphagame.trailblazer.formatters.JSONFormatter;
+import dev.alphagame.trailblazer.formatters.Layout;
+import dev.alphagame.trailblazer.index.LogQuery;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 
 /**
  * Utility class for creating file-based loggers.
+ * Files are written through a {@link FileChannelAppender}, which batches log lines
+ * and writes them at most {@link FileChannelAppender#DEFAULT_FLUSH_INTERVAL_MILLIS} ms later.
  */
 public class FileLoggerUtils {
     
@@ -32,13 +47,7 @@ public class FileLoggerUtils {
      */
     public static TBLogger createFileLogger(String name, String filePath, LogLevel logLevel) 
             throws FileNotFoundException {
-        File logFile = new File(filePath);
-        File parentDir = logFile.getParentFile();
-        if (parentDir != null && !parentDir.exists()) {
-            parentDir.mkdirs();
-        }
-        
-        PrintStream fileStream = new PrintStream(new FileOutputStream(logFile, true));
+        PrintStream fileStream = openFileStream(new File(filePath));
         SimpleFormatter formatter = new SimpleFormatter(fileStream);
         LoggerConfiguration config = new LoggerConfiguration(logLevel, formatter);
         
@@ -69,13 +78,7 @@ public class FileLoggerUtils {
      */
     public static TBLogger createJSONFileLogger(String name, String filePath, LogLevel logLevel) 
             throws FileNotFoundException {
-        File logFile = new File(filePath);
-        File parentDir = logFile.getParentFile();
-        if (parentDir != null && !parentDir.exists()) {
-            parentDir.mkdirs();
-        }
-        
-        PrintStream fileStream = new PrintStream(new FileOutputStream(logFile, true));
+        PrintStream fileStream = openFileStream(new File(filePath));
         JSONFormatter formatter = new JSONFormatter(fileStream);
         LoggerConfiguration config = new LoggerConfiguration(logLevel, formatter);
         
@@ -96,9 +99,106 @@ public class FileLoggerUtils {
     }
     
     /**
-     * Creates a rotating file logger (simple implementation).
-     * When the file exceeds maxSizeBytes, it will be renamed with .old extension
-     * and a new file will be created.
+     * Creates a logger that writes every line both to the console and to a file.
+     * Each line is formatted once, and the file is shared with other loggers writing to it.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The path to the log file.
+     * @param logLevel The log level.
+     * @return A TBLogger that writes to the console and the specified file.
+     * @throws FileNotFoundException If the file cannot be created or written to.
+     */
+    public static TBLogger createConsoleAndFileLogger(String name, String filePath, LogLevel logLevel) 
+            throws FileNotFoundException {
+        StreamAppender fileAppender;
+        try {
+            fileAppender = StreamAppender.forFile(filePath);
+        } catch (IOException e) {
+            throw notFound(new File(filePath), e);
+        }
+        AppendingFormatter formatter = new AppendingFormatter(new SimpleFormatter(), new ConsoleAppender(), fileAppender);
+        LoggerConfiguration config = new LoggerConfiguration(logLevel, formatter);
+        
+        return new TBLogger(name, config);
+    }
+    
+    /**
+     * Creates a logger that writes compact binary records with the BinaryFormatter.
+     * Convert the file to text with {@link BinaryLogDecoder}.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The path to the log file.
+     * @param logLevel The log level.
+     * @return A TBLogger that writes binary records to the specified file.
+     * @throws FileNotFoundException If the file cannot be created or written to.
+     */
+    public static TBLogger createBinaryFileLogger(String name, String filePath, LogLevel logLevel) 
+            throws FileNotFoundException {
+        PrintStream fileStream = openFileStream(new File(filePath));
+        BinaryFormatter formatter = new BinaryFormatter(fileStream);
+        LoggerConfiguration config = new LoggerConfiguration(logLevel, formatter);
+        
+        return new TBLogger(name, config);
+    }
+    
+    /**
+     * Creates a logger that writes compact binary records with INFO level.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The path to the log file.
+     * @return A TBLogger that writes binary records to the specified file.
+     * @throws FileNotFoundException If the file cannot be created or written to.
+     */
+    public static TBLogger createBinaryFileLogger(String name, String filePath) 
+            throws FileNotFoundException {
+        return createBinaryFileLogger(name, filePath, LogLevel.INFO);
+    }
+    
+    /**
+     * Creates a logger that copies lines into memory-mapped file segments, using the
+     * SimpleFormatter in garbage-free mode. Segments are named {@code <filePath>.<index>}.
+     * Logging never enters the kernel; writing the pages to disk is left to the operating system.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The base path of the segment files.
+     * @param logLevel The log level.
+     * @return A TBLogger that writes to memory-mapped segments.
+     * @throws FileNotFoundException If the first segment cannot be created or mapped.
+     * @see MappedFileAppender
+     */
+    public static TBLogger createMappedFileLogger(String name, String filePath, LogLevel logLevel) 
+            throws FileNotFoundException {
+        File logFile = new File(filePath);
+        PrintStream fileStream;
+        try {
+            fileStream = new PrintStream(new MappedFileAppender(logFile), false);
+        } catch (IOException e) {
+            throw notFound(logFile, e);
+        }
+        SimpleFormatter formatter = new SimpleFormatter(fileStream);
+        formatter.setGarbageFree(true);
+        LoggerConfiguration config = new LoggerConfiguration(logLevel, formatter);
+        
+        return new TBLogger(name, config);
+    }
+    
+    /**
+     * Creates a logger that copies lines into memory-mapped file segments with INFO level.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The base path of the segment files.
+     * @return A TBLogger that writes to memory-mapped segments.
+     * @throws FileNotFoundException If the first segment cannot be created or mapped.
+     */
+    public static TBLogger createMappedFileLogger(String name, String filePath) 
+            throws FileNotFoundException {
+        return createMappedFileLogger(name, filePath, LogLevel.INFO);
+    }
+    
+    /**
+     * Creates a rotating file logger.
+     * Before the file would grow past maxSizeBytes, it is renamed with the {@code .old}
+     * extension, replacing the previous one, and a new file is started.
      * 
      * @param name The name of the logger.
      * @param filePath The path to the log file.
@@ -109,18 +209,194 @@ public class FileLoggerUtils {
      */
     public static TBLogger createRotatingFileLogger(String name, String filePath, 
             LogLevel logLevel, long maxSizeBytes) throws FileNotFoundException {
+        File logFile = new File(filePath);
+        PrintStream fileStream;
+        try {
+            fileStream = new PrintStream(RollingFileAppender.builder(logFile)
+                    .withMaxFileSize(maxSizeBytes)
+                    .withSingleBackup()
+                    .build(), false);
+        } catch (IOException e) {
+            throw notFound(logFile, e);
+        }
+        SimpleFormatter formatter = new SimpleFormatter(fileStream);
+        LoggerConfiguration config = new LoggerConfiguration(logLevel, formatter);
+        
+        return new TBLogger(name, config);
+    }
+    
+    /**
+     * Creates a rotating file logger with a retention limit.
+     * Before the file would grow past maxSizeBytes, it is renamed to
+     * {@code <filePath>.<yyyyMMdd-HHmmss>} and a new file is started.
+     * Rolled files can be compressed with gzip; this and deleting old files happen
+     * on a background thread.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The path to the log file.
+     * @param logLevel The log level.
+     * @param maxSizeBytes Maximum file size before rotation.
+     * @param maxFiles The number of rolled files to keep, or 0 for no limit.
+     * @param compress Whether to compress rolled files.
+     * @return A TBLogger that writes to a rotating file.
+     * @throws FileNotFoundException If the file cannot be created or written to.
+     * @see RollingFileAppender
+     */
+    public static TBLogger createRotatingFileLogger(String name, String filePath, 
+            LogLevel logLevel, long maxSizeBytes, int maxFiles, boolean compress) throws FileNotFoundException {
+        File logFile = new File(filePath);
+        RollingFileAppender.Builder builder = RollingFileAppender.builder(logFile)
+                .withMaxFileSize(maxSizeBytes)
+                .withMaxFiles(maxFiles);
+        if (compress) {
+            builder.withCompression();
+        }
+        PrintStream fileStream;
+        try {
+            fileStream = new PrintStream(builder.build(), false);
+        } catch (IOException e) {
+            throw notFound(logFile, e);
+        }
+        SimpleFormatter formatter = new SimpleFormatter(fileStream);
+        LoggerConfiguration config = new LoggerConfiguration(logLevel, formatter);
         
+        return new TBLogger(name, config);
+    }
+    
+    /**
+     * Creates a logger that writes SimpleFormatter lines as independently compressed blocks.
+     * Blocks are compressed on a background thread, and each records the time range of its
+     * events, so {@link BlockCompressedReader} can read a time range by decompressing only
+     * the blocks that overlap it.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The path to the log file.
+     * @param logLevel The log level.
+     * @return A TBLogger that writes compressed blocks to the specified file.
+     * @throws FileNotFoundException If the file cannot be created, written to, or is not a compressed log.
+     * @see BlockCompressedAppender
+     */
+    public static TBLogger createCompressedFileLogger(String name, String filePath, LogLevel logLevel) 
+            throws FileNotFoundException {
         File logFile = new File(filePath);
+        BlockCompressedAppender appender;
+        try {
+            appender = new BlockCompressedAppender(logFile);
+        } catch (IOException e) {
+            throw notFound(logFile, e);
+        }
+        AppendingFormatter formatter = new AppendingFormatter(new SimpleFormatter(), appender);
+        LoggerConfiguration config = new LoggerConfiguration(logLevel, formatter);
         
-        // Simple rotation logic
-        if (logFile.exists() && logFile.length() > maxSizeBytes) {
-            File oldFile = new File(filePath + ".old");
-            if (oldFile.exists()) {
-                oldFile.delete();
-            }
-            logFile.renameTo(oldFile);
+        return new TBLogger(name, config);
+    }
+    
+    /**
+     * Creates a logger that writes compressed blocks with INFO level.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The path to the log file.
+     * @return A TBLogger that writes compressed blocks to the specified file.
+     * @throws FileNotFoundException If the file cannot be created, written to, or is not a compressed log.
+     */
+    public static TBLogger createCompressedFileLogger(String name, String filePath) 
+            throws FileNotFoundException {
+        return createCompressedFileLogger(name, filePath, LogLevel.INFO);
+    }
+    
+    /**
+     * Creates a file logger that keeps a sparse time index of the file in {@code <filePath>.idx},
+     * using the SimpleFormatter. {@link LogQuery} uses the index to read only the parts of the
+     * file that can match a query.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The path to the log file.
+     * @param logLevel The log level.
+     * @return A TBLogger that writes to the specified file and its index.
+     * @throws FileNotFoundException If the file or its index cannot be created or written to.
+     * @see IndexedFileAppender
+     */
+    public static TBLogger createIndexedFileLogger(String name, String filePath, LogLevel logLevel) 
+            throws FileNotFoundException {
+        return createIndexedLogger(name, filePath, logLevel, new SimpleFormatter());
+    }
+    
+    /**
+     * Creates a file logger that keeps a sparse time index of the file with INFO level.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The path to the log file.
+     * @return A TBLogger that writes to the specified file and its index.
+     * @throws FileNotFoundException If the file or its index cannot be created or written to.
+     */
+    public static TBLogger createIndexedFileLogger(String name, String filePath) 
+            throws FileNotFoundException {
+        return createIndexedFileLogger(name, filePath, LogLevel.INFO);
+    }
+    
+    /**
+     * Creates a JSON file logger that keeps a sparse time index of the file in {@code <filePath>.idx}.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The path to the log file.
+     * @param logLevel The log level.
+     * @return A TBLogger that writes JSON to the specified file and its index.
+     * @throws FileNotFoundException If the file or its index cannot be created or written to.
+     * @see IndexedFileAppender
+     */
+    public static TBLogger createIndexedJSONFileLogger(String name, String filePath, LogLevel logLevel) 
+            throws FileNotFoundException {
+        return createIndexedLogger(name, filePath, logLevel, new JSONFormatter());
+    }
+    
+    /**
+     * Creates a JSON file logger that keeps a sparse time index of the file with INFO level.
+     * 
+     * @param name The name of the logger.
+     * @param filePath The path to the log file.
+     * @return A TBLogger that writes JSON to the specified file and its index.
+     * @throws FileNotFoundException If the file or its index cannot be created or written to.
+     */
+    public static TBLogger createIndexedJSONFileLogger(String name, String filePath) 
+            throws FileNotFoundException {
+        return createIndexedJSONFileLogger(name, filePath, LogLevel.INFO);
+    }
+    
+    /**
+     * Opens a buffered, channel-backed print stream that appends to a file. Every caller
+     * asking for the same file gets the same stream, so lines from different loggers are
+     * written in the order they were logged.
+     * 
+     * @param logFile The file to append to. Missing parent directories are created.
+     * @return A print stream writing to the file.
+     * @throws FileNotFoundException If the file cannot be opened.
+     * @see FileChannelAppender#sharedPrintStream(File)
+     */
+    public static PrintStream openFileStream(File logFile) throws FileNotFoundException {
+        try {
+            return FileChannelAppender.sharedPrintStream(logFile);
+        } catch (IOException e) {
+            throw notFound(logFile, e);
         }
+    }
+    
+    private static TBLogger createIndexedLogger(String name, String filePath, LogLevel logLevel, Layout layout)
+            throws FileNotFoundException {
+        File logFile = new File(filePath);
+        IndexedFileAppender appender;
+        try {
+            appender = IndexedFileAppender.shared(logFile);
+        } catch (IOException e) {
+            throw notFound(logFile, e);
+        }
+        LoggerConfiguration config = new LoggerConfiguration(logLevel, new AppendingFormatter(layout, appender));
         
-        return createFileLogger(name, filePath, logLevel);
+        return new TBLogger(name, config);
+    }
+    
+    private static FileNotFoundException notFound(File logFile, IOException cause) {
+        FileNotFoundException notFound = new FileNotFoundException(logFile + ": " + cause.getMessage());
+        notFound.initCause(cause);
+        return notFound;
     }
 }
@@ -0,0 +1,70 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.utils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Runs the work Trailblazer does when the JVM exits from a single shutdown hook, in order.
+ * <p>
+ * Producers, such as the asynchronous dispatcher draining its queue, run first. Outputs that
+ * hold buffered data are flushed or closed only after every producer has finished, so that
+ * events written during the drain are not left behind in a buffer that was already flushed,
+ * as they would be with separate hooks, which the JVM runs concurrently.
+ */
+public final class ShutdownHooks {
+    private static final List<Runnable> producers = new CopyOnWriteArrayList<>();
+    private static final List<Runnable> outputs = new CopyOnWriteArrayList<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            runAll(producers);
+            runAll(outputs);
+        }, "trailblazer-shutdown"));
+    }
+
+    private ShutdownHooks() {
+    }
+
+    /**
+     * Adds a task that may still log, to run before the outputs are flushed.
+     *
+     * @param task The task.
+     */
+    public static void addProducer(Runnable task) {
+        producers.add(task);
+    }
+
+    /**
+     * Adds a task that writes out buffered output, to run after all producers.
+     *
+     * @param task The task.
+     */
+    public static void addOutput(Runnable task) {
+        outputs.add(task);
+    }
+
+    /**
+     * Removes a task so that it no longer runs when the JVM exits.
+     *
+     * @param task The task, as it was added.
+     */
+    public static void remove(Runnable task) {
+        producers.remove(task);
+        outputs.remove(task);
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        for (Runnable task : tasks) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("Trailblazer: shutdown task failed: " + e);
+            }
+        }
+    }
+}
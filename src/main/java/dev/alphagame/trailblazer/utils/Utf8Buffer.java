@@ -0,0 +1,209 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer that encodes text as UTF-8 while it is appended.
+ * Meant to be reused: call {@link #reset()} instead of creating a new buffer per line.
+ */
+public class Utf8Buffer {
+    private byte[] bytes;
+    private int length;
+
+    /**
+     * Creates a buffer with a default initial capacity.
+     */
+    public Utf8Buffer() {
+        this(256);
+    }
+
+    /**
+     * Creates a buffer with the given initial capacity.
+     *
+     * @param initialCapacity The initial capacity in bytes.
+     */
+    public Utf8Buffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    /**
+     * Encodes a string as UTF-8. Meant for values that are encoded once and then reused.
+     *
+     * @param text The text to encode.
+     * @return The encoded bytes.
+     */
+    public static byte[] encode(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Empties the buffer, keeping its storage.
+     */
+    public void reset() {
+        length = 0;
+    }
+
+    /**
+     * Appends bytes that are already encoded.
+     *
+     * @param data The bytes to append.
+     * @return This buffer.
+     */
+    public Utf8Buffer append(byte[] data) {
+        return append(data, 0, data.length);
+    }
+
+    /**
+     * Appends a range of bytes that are already encoded.
+     *
+     * @param data   The bytes to append.
+     * @param offset The start of the range.
+     * @param count  The number of bytes to append.
+     * @return This buffer.
+     */
+    public Utf8Buffer append(byte[] data, int offset, int count) {
+        ensureCapacity(length + count);
+        System.arraycopy(data, offset, bytes, length, count);
+        length += count;
+        return this;
+    }
+
+    /**
+     * Appends a single byte, typically an ASCII character.
+     *
+     * @param b The byte to append.
+     * @return This buffer.
+     */
+    public Utf8Buffer append(byte b) {
+        ensureCapacity(length + 1);
+        bytes[length++] = b;
+        return this;
+    }
+
+    /**
+     * Appends the decimal representation of a number without creating a string.
+     *
+     * @param value The number to append.
+     * @return This buffer.
+     */
+    public Utf8Buffer appendDecimal(long value) {
+        if (value == Long.MIN_VALUE) {
+            return append("-9223372036854775808");
+        }
+        ensureCapacity(length + 20);
+        if (value < 0) {
+            bytes[length++] = (byte) '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        int position = length + digits;
+        length = position;
+        do {
+            bytes[--position] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        return this;
+    }
+
+    /**
+     * Appends text, encoding it as UTF-8. Pure ASCII text is copied byte by byte;
+     * anything else, including surrogate pairs, is encoded as it is found.
+     * Unpaired surrogates are replaced with {@code '?'}.
+     *
+     * @param text The text to append, or null to append {@code "null"}.
+     * @return This buffer.
+     */
+    public Utf8Buffer append(CharSequence text) {
+        if (text == null) {
+            text = "null";
+        }
+        int count = text.length();
+        ensureCapacity(length + count);
+        int i = 0;
+        // ASCII fast path
+        for (; i < count; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                break;
+            }
+            bytes[length++] = (byte) c;
+        }
+        for (; i < count; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                ensureCapacity(length + 1);
+                bytes[length++] = (byte) c;
+            } else if (c < 0x800) {
+                ensureCapacity(length + 2);
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                ensureCapacity(length + 4);
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                ensureCapacity(length + 1);
+                bytes[length++] = (byte) '?';
+            } else {
+                ensureCapacity(length + 3);
+                bytes[length++] = (byte) (0xE0 | (c >> 12));
+                bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes the content of this buffer to a stream.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If the stream fails.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, length);
+    }
+
+    /**
+     * Gets the backing array. Only the first {@link #length()} bytes are valid.
+     *
+     * @return The backing array.
+     */
+    public byte[] array() {
+        return bytes;
+    }
+
+    /**
+     * Gets the number of bytes in the buffer.
+     *
+     * @return The length in bytes.
+     */
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer;
+
+import dev.alphagame.trailblazer.config.LoggerConfigurationBuilder;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Checks that the garbage-free output path and disabled log statements allocate nothing in
+ * steady state, using the allocation counter of the current thread. Exits with status 1 if
+ * any case allocates. Run it with {@code ./gradlew allocationTest}, which {@code check} also runs.
+ */
+public class AllocationTest {
+    private static final int WARMUP_EVENTS = 200_000;
+    private static final int MEASURED_EVENTS = 100_000;
+    private static final int ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        PrintStream discard = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }, false);
+        TBLogger logger = new TBLogger("allocation", LoggerConfigurationBuilder.create()
+                .withLogLevel(LogLevel.INFO)
+                .withSimpleFormatter(discard)
+                .withGarbageFree()
+                .build());
+
+        boolean passed = true;
+        passed &= check("garbage-free message", () -> logger.info("steady message"));
+        passed &= check("disabled message", () -> logger.debug("disabled message"));
+        passed &= check("disabled long argument", () -> logger.debug("disabled {}", 42L));
+        passed &= check("disabled builder", () -> logger.atDebug().kv("key", 42L).log("disabled"));
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean check(String name, Runnable call) {
+        for (int i = 0; i < WARMUP_EVENTS; i++) {
+            call.run();
+        }
+        long thread = Thread.currentThread().getId();
+        // Reading the counter can allocate itself; measure that and leave it out
+        long overhead = threads.getThreadAllocatedBytes(thread);
+        overhead = threads.getThreadAllocatedBytes(thread) - overhead;
+        // A round can catch one-off allocations such as late compilation or the timestamp
+        // rendered once per second, so the best of a few rounds is kept
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS && allocated > 0; round++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < MEASURED_EVENTS; i++) {
+                call.run();
+            }
+            allocated = Math.min(allocated, threads.getThreadAllocatedBytes(thread) - before - overhead);
+        }
+        boolean passed = allocated <= 0;
+        System.out.printf("%-24s %8.3f B/event  %s%n", name, Math.max(allocated, 0) / (double) MEASURED_EVENTS,
+                passed ? "ok" : "FAILED");
+        return passed;
+    }
+}
@@ -0,0 +1,74 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer;
+
+import dev.alphagame.trailblazer.appenders.IndexedFileAppender;
+import dev.alphagame.trailblazer.index.LogQuery;
+import dev.alphagame.trailblazer.utils.FileLoggerUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Checks that two indexed loggers writing the same file share its index, so that an indexed
+ * query finds every matching event, and that a second index writer for the file is refused.
+ * Exits with status 1 on failure. Run it with {@code ./gradlew sharedIndexTest}, which
+ * {@code check} also runs.
+ */
+public class SharedIndexTest {
+    private static final int EVENTS = 5000;
+    private static final int ERROR_EVERY = 1000;
+
+    public static void main(String[] args) throws IOException {
+        File directory = Files.createTempDirectory("trailblazer-index").toFile();
+        File logFile = new File(directory, "app.log");
+        TBLogger orders = FileLoggerUtils.createIndexedFileLogger("Orders", logFile.getPath());
+        TBLogger payments = FileLoggerUtils.createIndexedFileLogger("Payments", logFile.getPath());
+        int errors = 0;
+        for (int i = 0; i < EVENTS; i++) {
+            TBLogger logger = i % 2 == 0 ? orders : payments;
+            if (i % ERROR_EVERY == 7) {
+                logger.error("Event {} failed", (long) i);
+                errors++;
+            } else {
+                logger.info("Event {} done", (long) i);
+            }
+        }
+        IndexedFileAppender appender = IndexedFileAppender.shared(logFile);
+        appender.flush();
+
+        boolean passed = true;
+        LogQuery all = LogQuery.builder(logFile).build();
+        passed &= check("all events", all.run((data, offset, length) -> { }), EVENTS);
+        LogQuery query = LogQuery.builder(logFile).withLevels(LogLevel.ERROR).build();
+        passed &= check("indexed errors", query.run((data, offset, length) -> { }), errors);
+        System.out.printf("%-24s %d read, %d skipped%n", "blocks", query.getBlocksRead(), query.getBlocksSkipped());
+        passed &= check("blocks skipped", query.getBlocksSkipped() > 0 ? 1 : 0, 1);
+
+        try {
+            new IndexedFileAppender(logFile).close();
+            passed &= check("second writer refused", 0, 1);
+        } catch (IOException e) {
+            passed &= check("second writer refused", 1, 1);
+        }
+
+        appender.close();
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean check(String name, long actual, long expected) {
+        boolean passed = actual == expected;
+        System.out.printf("%-24s %8d  %s%n", name, actual, passed ? "ok" : "FAILED, expected " + expected);
+        return passed;
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) 2025 Damien Boisvert (AlphaGameDeveloper)
+// 
+// This software is released under the MIT License.
+// https://opensource.org/licenses/MIT
+
+package dev.alphagame.trailblazer;
+
+import dev.alphagame.trailblazer.appenders.SocketAppender;
+import dev.alphagame.trailblazer.config.LoggerConfigurationBuilder;
+import dev.alphagame.trailblazer.formatters.SimpleFormatter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends events, one of them larger than a batch, through a {@link SocketAppender} to a stand-in
+ * collector on a local {@link ServerSocket}, and checks that every line arrives whole and in order.
+ * Exits with status 1 on failure. Run it with {@code ./gradlew socketAppenderTest}, which
+ * {@code check} also runs.
+ */
+public class SocketAppenderTest {
+    private static final int EVENTS = 200;
+    private static final int OVERSIZED_AT = 100;
+    private static final int BATCH_SIZE = 256;
+
+    public static void main(String[] args) throws Exception {
+        ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        Thread collector = new Thread(() -> {
+            try (Socket socket = server.accept(); InputStream in = socket.getInputStream()) {
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                    received.write(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                System.err.println("collector failed: " + e);
+            }
+        }, "collector");
+        collector.start();
+
+        SocketAppender appender = SocketAppender.builder("127.0.0.1", server.getLocalPort())
+                .withBatchSize(BATCH_SIZE)
+                .withLinger(10, TimeUnit.MILLISECONDS)
+                .build();
+        LoggerConfiguration configuration = LoggerConfigurationBuilder.create()
+                .withLogLevel(LogLevel.INFO)
+                .withLayout(new SimpleFormatter(), appender)
+                .build();
+        TBLogger logger = LoggerFactory.getLogger("SocketAppenderTest", configuration);
+        char[] padding = new char[4 * BATCH_SIZE];
+        Arrays.fill(padding, 'x');
+        String large = new String(padding);
+        for (int i = 0; i < EVENTS; i++) {
+            if (i == OVERSIZED_AT) {
+                logger.info("Event {} {}", (long) i, large);
+            } else {
+                logger.info("Event {}", (long) i);
+            }
+        }
+        appender.close();
+        collector.join(TimeUnit.SECONDS.toMillis(10));
+        server.close();
+
+        String[] lines = new String(received.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        int inOrder = 0;
+        for (String line : lines) {
+            if (line.contains("Event " + inOrder + (inOrder == OVERSIZED_AT ? " " + large : ""))) {
+                inOrder++;
+            }
+        }
+        boolean passed = true;
+        passed &= check("lines received", lines.length, EVENTS);
+        passed &= check("lines whole, in order", inOrder, EVENTS);
+        passed &= check("events dropped", appender.getDroppedEvents(), 0);
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean check(String name, long actual, long expected) {
+        boolean passed = actual == expected;
+        System.out.printf("%-24s %8d  %s%n", name, actual, passed ? "ok" : "FAILED, expected " + expected);
+        return passed;
+    }
+}